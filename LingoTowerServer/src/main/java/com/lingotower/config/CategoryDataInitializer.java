@@ -113,8 +113,8 @@ public class CategoryDataInitializer implements CommandLineRunner {
 
 	/**
 	 * Creates a new Category entity with the given name and translation. If the
-	 * provided translation is null or empty, it attempts to translate the name from
-	 * English to Hebrew using the TranslationService.
+	 * provided translation is null or empty, a locally known translation is used;
+	 * otherwise the TranslationBackfillJob translates the name later.
 	 * 
 	 * @param name        The name of the category.
 	 * @param translation The translation of the category name.
@@ -125,7 +125,7 @@ public class CategoryDataInitializer implements CommandLineRunner {
 		newCategory.setName(name);
 
 		if (translation == null || translation.trim().isEmpty()) {
-			translation = translationService.translateText(name, LanguageConstants.ENGLISH, LanguageConstants.HEBREW);
+			translation = translationService.translateKnown(name, LanguageConstants.ENGLISH, LanguageConstants.HEBREW);
 		}
 
 		newCategory.setTranslation(translation);
@@ -5,8 +5,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.HandlerInterceptor;
 
 import com.lingotower.constants.LanguageConstants;
-import com.lingotower.model.User;
-import com.lingotower.service.UserService;
+import com.lingotower.security.UserProfile;
+import com.lingotower.security.UserProfileCache;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -15,7 +15,7 @@ import jakarta.servlet.http.HttpServletResponse;
 public class LanguageInterceptor implements HandlerInterceptor {
 
 	@Autowired
-	private UserService userService;
+	private UserProfileCache userProfileCache;
 
 	/**
 	 * Intercepts incoming HTTP requests before they are handled by the controller.
@@ -41,10 +41,10 @@ public class LanguageInterceptor implements HandlerInterceptor {
 		}
 
 		if (username != null) {
-			User user = userService.getUserByUsername(username);
+			UserProfile user = userProfileCache.get(username).orElse(null);
 			if (user != null) {
-				request.setAttribute("sourceLanguage", user.getSourceLanguage());
-				request.setAttribute("targetLanguage", user.getTargetLanguage());
+				request.setAttribute("sourceLanguage", user.sourceLanguage());
+				request.setAttribute("targetLanguage", user.targetLanguage());
 			} else {
 				request.setAttribute("sourceLanguage", LanguageConstants.ENGLISH);
 				request.setAttribute("targetLanguage", LanguageConstants.HEBREW);
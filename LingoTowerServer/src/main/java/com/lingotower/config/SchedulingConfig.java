@@ -0,0 +1,15 @@
+package com.lingotower.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs such as the translation backfill and the
+ * daily word rotation. The scheduler gets a pool of its own
+ * (spring.task.scheduling.pool.size), so a long backfill run does not hold up
+ * the other jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
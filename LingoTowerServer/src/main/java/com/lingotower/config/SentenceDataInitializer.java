@@ -11,7 +11,6 @@ import org.springframework.core.annotation.Order;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -45,8 +44,8 @@ public class SentenceDataInitializer implements CommandLineRunner {
 
 	/**
 	 * Runs after the application context is loaded to initialize example sentences
-	 * from JSON files. It loads sentences and then triggers the translation of any
-	 * missing translations.
+	 * from JSON files. Sentences that are still missing a translation afterwards
+	 * are filled in later by the scheduled TranslationBackfillJob.
 	 * 
 	 * @param args Incoming command line arguments.
 	 * @throws Exception If an error occurs during initialization.
@@ -55,7 +54,6 @@ public class SentenceDataInitializer implements CommandLineRunner {
 	public void run(String... args) throws Exception {
 		System.out.println("Initializing example sentences");
 		loadExampleSentencesFromJson("classpath:sentences/*.json");
-		// exampleSentenceService.translateMissingSentences();
 		System.out.println("Example sentence initialization completed.");
 	}
 
@@ -104,7 +102,7 @@ public class SentenceDataInitializer implements CommandLineRunner {
 
 			for (ExampleSentenceCreateDTO wordWithSentences : wordWithSentencesList) {
 				String wordStr = wordWithSentences.getWord();
-				Optional<Word> existingWord = wordService.findByWord(wordStr);
+				Optional<Word> existingWord = wordService.findByWordWithSentences(wordStr);
 
 				if (existingWord.isPresent()) {
 					Word word = existingWord.get();
@@ -208,8 +206,9 @@ public class SentenceDataInitializer implements CommandLineRunner {
 
 	/**
 	 * Retrieves the translated text for a sentence. It first checks if a
-	 * translation is provided in the exampleTranslations list. If not, it uses the
-	 * translation service.
+	 * translation is provided in the exampleTranslations list. If not, it uses a
+	 * locally known translation, if any; the TranslationBackfillJob translates the
+	 * rest later.
 	 * 
 	 * @param word                The Word object associated with the sentence.
 	 * @param sentenceText        The original text of the sentence.
@@ -221,19 +220,8 @@ public class SentenceDataInitializer implements CommandLineRunner {
 		if (exampleTranslations != null && index < exampleTranslations.size() && exampleTranslations.get(index) != null
 				&& !exampleTranslations.get(index).isEmpty()) {
 			return exampleTranslations.get(index);
-		} else {
-			try {
-				return translationService.translateText(sentenceText, word.getSourceLanguage(),
-						word.getTargetLanguage());
-			} catch (HttpClientErrorException.TooManyRequests e) {
-				System.out.println(
-						"Translation API limit reached for sentence: " + sentenceText + ". Translation not available.");
-				return null; // Or return an empty string, depending on your logic
-			} catch (Exception e) {
-				System.err.println("Error during translation for sentence: " + sentenceText + ": " + e.getMessage());
-				return null; // Handle other potential exceptions as well
-			}
 		}
+		return translationService.translateKnown(sentenceText, word.getSourceLanguage(), word.getTargetLanguage());
 	}
 
 	/**
@@ -0,0 +1,59 @@
+package com.lingotower.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Shared HTTP client for the external translation API. A single pooled,
+ * keep-alive connection provider is reused by every translation call instead
+ * of opening a new connection per request.
+ */
+@Configuration
+public class TranslationClientConfig {
+
+	/**
+	 * Connection pool for the translation API. The pool bounds the number of
+	 * concurrent remote calls; callers beyond that wait in a bounded queue and fail
+	 * fast once it is full.
+	 *
+	 * @return The pooled connection provider.
+	 */
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider translationConnectionProvider(
+			@Value("${translation.client.max-connections:50}") int maxConnections,
+			@Value("${translation.client.max-pending-requests:200}") int maxPendingRequests,
+			@Value("${translation.client.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+			@Value("${translation.client.max-idle-time-ms:30000}") long maxIdleTimeMs) {
+		return ConnectionProvider.builder("translation-api").maxConnections(maxConnections)
+				.pendingAcquireMaxCount(maxPendingRequests)
+				.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+				.maxIdleTime(Duration.ofMillis(maxIdleTimeMs)).build();
+	}
+
+	/**
+	 * WebClient bound to the translation API base URL, using the shared connection
+	 * pool with connect and response timeouts.
+	 *
+	 * @return The translation WebClient.
+	 */
+	@Bean
+	public WebClient translationWebClient(ConnectionProvider translationConnectionProvider,
+			@Value("${translation.client.base-url:https://api.mymemory.translated.net}") String baseUrl,
+			@Value("${translation.client.connect-timeout-ms:3000}") int connectTimeoutMs,
+			@Value("${translation.client.response-timeout-ms:10000}") long responseTimeoutMs) {
+		HttpClient httpClient = HttpClient.create(translationConnectionProvider).keepAlive(true)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+				.responseTimeout(Duration.ofMillis(responseTimeoutMs));
+		return WebClient.builder().baseUrl(baseUrl).clientConnector(new ReactorClientHttpConnector(httpClient))
+				.build();
+	}
+}
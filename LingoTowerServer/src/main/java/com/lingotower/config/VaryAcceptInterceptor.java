@@ -0,0 +1,33 @@
+package com.lingotower.config;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+public class VaryAcceptInterceptor implements HandlerInterceptor {
+
+	/**
+	 * Responses are negotiated between JSON and CBOR, and both representations
+	 * of a URL carry the same ETag. Marks every GET response as varying by the
+	 * Accept header, so that a cache never serves or revalidates one
+	 * representation for the other. The header is added before the handler runs
+	 * so that it is also on the 304 responses of conditional requests.
+	 *
+	 * @param request  The incoming HttpServletRequest.
+	 * @param response The outgoing HttpServletResponse.
+	 * @param handler  The handler object being executed.
+	 * @return Always true.
+	 */
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (HttpMethod.GET.matches(request.getMethod())) {
+			response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+		}
+		return true;
+	}
+}
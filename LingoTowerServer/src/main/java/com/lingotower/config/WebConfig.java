@@ -8,13 +8,16 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
     
     private final LanguageInterceptor languageInterceptor;
+    private final VaryAcceptInterceptor varyAcceptInterceptor;
 
-    public WebConfig(LanguageInterceptor languageInterceptor) {
+    public WebConfig(LanguageInterceptor languageInterceptor, VaryAcceptInterceptor varyAcceptInterceptor) {
         this.languageInterceptor = languageInterceptor;
+        this.varyAcceptInterceptor = varyAcceptInterceptor;
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(languageInterceptor);
+        registry.addInterceptor(varyAcceptInterceptor);
     }
 }
@@ -2,6 +2,7 @@ package com.lingotower.config;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -145,7 +146,9 @@ public class WordDataInitializer implements CommandLineRunner {
 
 	/**
 	 * Processes a single Word object by setting its category, checking for existing
-	 * words, translating if necessary, and saving it to the database.
+	 * words, filling in a locally known translation, and saving it to the
+	 * database. Words still without a translation are translated later by the
+	 * TranslationBackfillJob, so startup never waits on the translation API.
 	 * 
 	 * @param word     The Word object to process.
 	 * @param category The Category object to which the word belongs.
@@ -161,12 +164,12 @@ public class WordDataInitializer implements CommandLineRunner {
 		}
 
 		if (word.getTranslation() == null || word.getTranslation().isBlank()) {
-			String translated = translationService.translateText(word.getWord(), LanguageConstants.ENGLISH,
-					LanguageConstants.HEBREW);
-			word.setTranslation(translated);
+			word.setTranslation(translationService.translateKnown(word.getWord(), LanguageConstants.ENGLISH,
+					LanguageConstants.HEBREW));
 		}
 
-		wordService.saveWord(word, LanguageConstants.ENGLISH, LanguageConstants.HEBREW);
+		// saveWord would call the translation API for a missing translation
+		wordService.saveWords(List.of(word));
 		return true;
 	}
 }
\ No newline at end of file
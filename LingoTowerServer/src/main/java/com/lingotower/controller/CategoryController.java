@@ -12,6 +12,7 @@ import com.lingotower.model.Word;
 import com.lingotower.service.CategoryService;
 import com.lingotower.service.UserService;
 import com.lingotower.service.WordService;
+import com.lingotower.service.catalog.CatalogVersion;
 
 import io.jsonwebtoken.io.IOException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -19,9 +20,11 @@ import jakarta.servlet.http.HttpServletRequest;
 import com.lingotower.exception.*;
 import com.lingotower.exception.CategoryNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.security.Principal;
@@ -38,6 +41,7 @@ public class CategoryController {
 	private final WordService wordService;
 	private final UserRepository userRepository;
 	private final AdminRepository adminRepository;
+	private final CatalogVersion catalogVersion;
 
 	/**
 	 * Constructor for the CategoryController, injecting required services and
@@ -48,15 +52,17 @@ public class CategoryController {
 	 * @param wordService     The service layer for word-related operations.
 	 * @param userRepository  The repository for user data access.
 	 * @param adminRepository The repository for admin data access.
+	 * @param catalogVersion  The version of the content, for ETags.
 	 */
 	@Autowired
 	public CategoryController(CategoryService categoryService, UserService userService, WordService wordService,
-			UserRepository userRepository, AdminRepository adminRepository) {
+			UserRepository userRepository, AdminRepository adminRepository, CatalogVersion catalogVersion) {
 		this.categoryService = categoryService;
 		this.userService = userService;
 		this.wordService = wordService;
 		this.userRepository = userRepository;
 		this.adminRepository = adminRepository;
+		this.catalogVersion = catalogVersion;
 	}
 
 	/**
@@ -84,17 +90,22 @@ public class CategoryController {
 	 * 
 	 * @param principal The Principal object representing the currently logged-in
 	 *                  user.
+	 * @param request   The request, checked for a matching If-None-Match header.
 	 * @return ResponseEntity containing a list of CategoryDTO and HTTP status OK if
-	 *         successful, or HTTP status UNAUTHORIZED if the user cannot be
-	 *         determined.
+	 *         successful, NOT_MODIFIED if the client's copy is current, or HTTP
+	 *         status UNAUTHORIZED if the user cannot be determined.
 	 */
 	@GetMapping
-	public ResponseEntity<List<CategoryDTO>> getAllCategories(Principal principal) {
+	public ResponseEntity<List<CategoryDTO>> getAllCategories(Principal principal, WebRequest request) {
 		String username = principal.getName();
+		String etag = catalogVersion.etag(username);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
 
 		try {
 			List<CategoryDTO> categories = categoryService.getAllCategoriesForUser(username);
-			return ResponseEntity.ok(categories);
+			return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(categories);
 		} catch (ResponseStatusException e) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
@@ -107,15 +118,21 @@ public class CategoryController {
 	 * @param id        The ID of the category to retrieve.
 	 * @param principal The Principal object representing the currently logged-in
 	 *                  user.
-	 * @return ResponseEntity containing the CategoryDTO and HTTP status OK.
+	 * @param request   The request, checked for a matching If-None-Match header.
+	 * @return ResponseEntity containing the CategoryDTO and HTTP status OK, or
+	 *         NOT_MODIFIED if the client's copy is current.
 	 */
 	@GetMapping("/id/{id}")
-	public ResponseEntity<CategoryDTO> getCategoryById(@PathVariable Long id, Principal principal) {
-		User user = userService.getUserByUsername(principal.getName());
-		String userLanguage = user.getTargetLanguage();
+	public ResponseEntity<CategoryDTO> getCategoryById(@PathVariable Long id, Principal principal,
+			WebRequest request) {
+		String etag = catalogVersion.etag(principal.getName());
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		String userLanguage = wordService.getUserLanguage(principal.getName());
 
 		CategoryDTO categoryDTO = categoryService.getCategoryById(id, userLanguage);
-		return ResponseEntity.ok(categoryDTO);
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(categoryDTO);
 	}
 
 	/**
@@ -0,0 +1,70 @@
+package com.lingotower.controller;
+
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import com.lingotower.service.catalog.CatalogExporter;
+
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Exports of the content catalog for backups and moving data between
+ * installations. Everything under /api/admin requires the ADMIN role (see
+ * SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/admin/export")
+public class ExportController {
+
+	private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+	private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+	private final CatalogExporter catalogExporter;
+	private final long timeoutMs;
+
+	public ExportController(CatalogExporter catalogExporter,
+			@Value("${catalog.export.timeout-ms:600000}") long timeoutMs) {
+		this.catalogExporter = catalogExporter;
+		this.timeoutMs = timeoutMs;
+	}
+
+	/**
+	 * Streams categories, words and example sentences as NDJSON while they are
+	 * read from the database. The export runs as an async task with its own
+	 * timeout; the default async timeout is meant for short requests.
+	 *
+	 * @param gzip     Whether to gzip the file.
+	 * @param response The response the file is written to.
+	 * @return The task writing the catalog as a file download.
+	 */
+	@GetMapping("/catalog")
+	public WebAsyncTask<Void> exportCatalog(@RequestParam(defaultValue = "false") boolean gzip,
+			HttpServletResponse response) {
+		String filename = gzip ? "lingotower-catalog.ndjson.gz" : "lingotower-catalog.ndjson";
+		response.setContentType((gzip ? GZIP : NDJSON).toString());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				ContentDisposition.attachment().filename(filename).build().toString());
+		return new WebAsyncTask<>(timeoutMs, () -> {
+			OutputStream out = response.getOutputStream();
+			if (gzip) {
+				GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+				catalogExporter.export(compressed);
+				compressed.finish();
+			} else {
+				catalogExporter.export(out);
+			}
+			out.flush();
+			return null;
+		});
+	}
+}
@@ -0,0 +1,194 @@
+package com.lingotower.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.lingotower.dto.catalog.ContentCacheStatsDTO;
+import com.lingotower.dto.quiz.QuizPoolStatsDTO;
+import com.lingotower.dto.security.CredentialHashingStatsDTO;
+import com.lingotower.dto.translation.BackfillStatsDTO;
+import com.lingotower.dto.translation.LocalDictionaryStatsDTO;
+import com.lingotower.dto.translation.PhraseTranslationStatsDTO;
+import com.lingotower.dto.translation.TranslationCoalescingStatsDTO;
+import com.lingotower.dto.translation.TranslationMemoryStatsDTO;
+import com.lingotower.dto.translation.TranslationProviderStatsDTO;
+import com.lingotower.dto.translation.TranslationSchedulerStatsDTO;
+import com.lingotower.security.CredentialHasher;
+import com.lingotower.service.TranslationService;
+import com.lingotower.service.catalog.ContentCache;
+import com.lingotower.service.quiz.QuizPool;
+import com.lingotower.service.translation.LocalDictionary;
+import com.lingotower.service.translation.TranslationBackfillJob;
+import com.lingotower.service.translation.TranslationCoalescer;
+import com.lingotower.service.translation.TranslationMemory;
+import com.lingotower.service.translation.TranslationProviderRouter;
+import com.lingotower.service.translation.TranslationScheduler;
+
+/**
+ * Read-only runtime statistics for administrators. Everything under
+ * /api/admin requires the ADMIN role (see SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/admin/metrics")
+public class MetricsController {
+
+	private final LocalDictionary localDictionary;
+	private final TranslationMemory translationMemory;
+	private final TranslationCoalescer translationCoalescer;
+	private final TranslationScheduler translationScheduler;
+	private final TranslationBackfillJob translationBackfillJob;
+	private final TranslationProviderRouter translationProviderRouter;
+	private final TranslationService translationService;
+	private final QuizPool quizPool;
+	private final ContentCache contentCache;
+	private final CredentialHasher credentialHasher;
+
+	/**
+	 * Constructor for the MetricsController, injecting the components whose
+	 * statistics are exposed.
+	 *
+	 * @param localDictionary           The dictionary of known word pairs.
+	 * @param translationMemory         The translation memory in front of the
+	 *                                  translation API.
+	 * @param translationCoalescer      The single-flight guard around remote
+	 *                                  calls.
+	 * @param translationScheduler      The quota-aware scheduler of remote calls.
+	 * @param translationBackfillJob    The job filling in missing translations.
+	 * @param translationProviderRouter The router hedging across translation
+	 *                                  providers.
+	 * @param translationService        The service translating sentences phrase
+	 *                                  by phrase.
+	 * @param quizPool                  The pool of ready-made quizzes.
+	 * @param contentCache              The second-level cache of categories,
+	 *                                  words and sentences.
+	 * @param credentialHasher          The pool hashing passwords for login and
+	 *                                  registration.
+	 */
+	public MetricsController(LocalDictionary localDictionary, TranslationMemory translationMemory,
+			TranslationCoalescer translationCoalescer, TranslationScheduler translationScheduler,
+			TranslationBackfillJob translationBackfillJob, TranslationProviderRouter translationProviderRouter,
+			TranslationService translationService, QuizPool quizPool, ContentCache contentCache,
+			CredentialHasher credentialHasher) {
+		this.localDictionary = localDictionary;
+		this.translationMemory = translationMemory;
+		this.translationCoalescer = translationCoalescer;
+		this.translationScheduler = translationScheduler;
+		this.translationBackfillJob = translationBackfillJob;
+		this.translationProviderRouter = translationProviderRouter;
+		this.translationService = translationService;
+		this.quizPool = quizPool;
+		this.contentCache = contentCache;
+		this.credentialHasher = credentialHasher;
+	}
+
+	/**
+	 * Returns the size and hit counters of the local dictionary.
+	 *
+	 * @return ResponseEntity containing the dictionary statistics.
+	 */
+	@GetMapping("/local-dictionary")
+	public ResponseEntity<LocalDictionaryStatsDTO> getLocalDictionaryStats() {
+		return ResponseEntity.ok(localDictionary.getStats());
+	}
+
+	/**
+	 * Returns hit, miss and latency counters of the translation memory.
+	 *
+	 * @return ResponseEntity containing the translation memory statistics.
+	 */
+	@GetMapping("/translation-memory")
+	public ResponseEntity<TranslationMemoryStatsDTO> getTranslationMemoryStats() {
+		return ResponseEntity.ok(translationMemory.getStats());
+	}
+
+	/**
+	 * Returns how many remote translation calls were made and how many identical
+	 * concurrent requests were served by an already running call.
+	 *
+	 * @return ResponseEntity containing the coalescing statistics.
+	 */
+	@GetMapping("/translation-coalescing")
+	public ResponseEntity<TranslationCoalescingStatsDTO> getTranslationCoalescingStats() {
+		return ResponseEntity.ok(translationCoalescer.getStats());
+	}
+
+	/**
+	 * Returns the queue depth per priority lane, the drain rate over the last
+	 * minute, the remaining token budget and the current 429 backoff of the
+	 * translation scheduler.
+	 *
+	 * @return ResponseEntity containing the scheduler statistics.
+	 */
+	@GetMapping("/translation-scheduler")
+	public ResponseEntity<TranslationSchedulerStatsDTO> getTranslationSchedulerStats() {
+		return ResponseEntity.ok(translationScheduler.getStats());
+	}
+
+	/**
+	 * Returns the progress and throughput of the translation backfill job.
+	 *
+	 * @return ResponseEntity containing the backfill statistics.
+	 */
+	@GetMapping("/translation-backfill")
+	public ResponseEntity<BackfillStatsDTO> getTranslationBackfillStats() {
+		return ResponseEntity.ok(translationBackfillJob.getStats());
+	}
+
+	/**
+	 * Returns the configured providers, hedging counters and the latency
+	 * percentiles and histogram of every translation provider.
+	 *
+	 * @return ResponseEntity containing the provider statistics.
+	 */
+	@GetMapping("/translation-providers")
+	public ResponseEntity<TranslationProviderStatsDTO> getTranslationProviderStats() {
+		return ResponseEntity.ok(translationProviderRouter.getStats());
+	}
+
+	/**
+	 * Returns how many sentences were translated phrase by phrase, how many of
+	 * their phrases were already known and how often the batched call had to fall
+	 * back to one call per phrase.
+	 *
+	 * @return ResponseEntity containing the phrase translation statistics.
+	 */
+	@GetMapping("/phrase-translation")
+	public ResponseEntity<PhraseTranslationStatsDTO> getPhraseTranslationStats() {
+		return ResponseEntity.ok(translationService.getPhraseStats());
+	}
+
+	/**
+	 * Returns the hit rate of the quiz pool and the number of ready quizzes per
+	 * category, difficulty and language.
+	 *
+	 * @return ResponseEntity containing the quiz pool statistics.
+	 */
+	@GetMapping("/quiz-pool")
+	public ResponseEntity<QuizPoolStatsDTO> getQuizPoolStats() {
+		return ResponseEntity.ok(quizPool.getStats());
+	}
+
+	/**
+	 * Returns hit, miss and put counters of the second-level cache regions of
+	 * categories, words and sentences and of the query cache.
+	 *
+	 * @return ResponseEntity containing the cache statistics.
+	 */
+	@GetMapping("/content-cache")
+	public ResponseEntity<ContentCacheStatsDTO> getContentCacheStats() {
+		return ResponseEntity.ok(contentCache.getStats());
+	}
+
+	/**
+	 * Returns the pool size, queue depth and rejections of the credential
+	 * hasher, with percentiles of the hashing time and of the time spent queued.
+	 *
+	 * @return ResponseEntity containing the credential hashing statistics.
+	 */
+	@GetMapping("/credential-hashing")
+	public ResponseEntity<CredentialHashingStatsDTO> getCredentialHashingStats() {
+		return ResponseEntity.ok(credentialHasher.getStats());
+	}
+}
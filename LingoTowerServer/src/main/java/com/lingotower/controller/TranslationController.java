@@ -9,7 +9,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/translate")
@@ -33,15 +33,16 @@ public class TranslationController {
 	 * @param text    The text to be translated, provided as a query parameter.
 	 * @param request The HttpServletRequest, used to retrieve the source and target
 	 *                languages.
-	 * @return ResponseEntity containing the translated text and HTTP status OK.
+	 * @return ResponseEntity containing the translated text and HTTP status OK,
+	 *         completed once the translation is available.
 	 */
 	@GetMapping("/translate")
-	public ResponseEntity<String> translateText(@RequestParam String text, HttpServletRequest request) {
+	public CompletableFuture<ResponseEntity<String>> translateText(@RequestParam String text,
+			HttpServletRequest request) {
 		String sourceLang = (String) request.getAttribute("sourceLanguage");
 		String targetLang = (String) request.getAttribute("targetLanguage");
 
-		String translatedText = translationService.translateText(text, sourceLang, targetLang);
-		return ResponseEntity.ok(translatedText);
+		return translationService.translateTextAsync(text, sourceLang, targetLang).thenApply(ResponseEntity::ok);
 	}
 
 	/**
@@ -57,16 +58,15 @@ public class TranslationController {
 	 *         translated word in this context) and HTTP status OK.
 	 */
 	@PostMapping("/translate-sentence")
-	public ResponseEntity<String> translateSentence(@RequestBody TranslationRequestDTO request,
+	public CompletableFuture<ResponseEntity<String>> translateSentence(@RequestBody TranslationRequestDTO request,
 			HttpServletRequest httpRequest) {
 
 		String sourceLang = (String) httpRequest.getAttribute("sourceLanguage");
 		String targetLang = (String) httpRequest.getAttribute("targetLanguage");
 
-		String translatedSentence = translationService.translateSentence(request.getWord(), sourceLang, targetLang,
-				request.getSwapLanguages());
-
-		return ResponseEntity.ok(translatedSentence);
+		return translationService
+				.translateSentenceAsync(request.getWord(), sourceLang, targetLang, request.getSwapLanguages())
+				.thenApply(ResponseEntity::ok);
 	}
 
 	/**
@@ -78,9 +78,9 @@ public class TranslationController {
 	 * @return ResponseEntity containing the translated text and HTTP status OK.
 	 */
 	@PostMapping("/free-translate")
-	public ResponseEntity<String> translateTextPost(@RequestBody FreeTranslationRequest request) {
-		String translatedText = translationService.translateText(request.getText(), request.getSourceLang(),
-				request.getTargetLang());
-		return ResponseEntity.ok(translatedText);
+	public CompletableFuture<ResponseEntity<String>> translateTextPost(@RequestBody FreeTranslationRequest request) {
+		return translationService
+				.freeTranslateTextAsync(request.getText(), request.getSourceLang(), request.getTargetLang())
+				.thenApply(ResponseEntity::ok);
 	}
 }
\ No newline at end of file
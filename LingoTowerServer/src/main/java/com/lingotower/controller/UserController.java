@@ -79,19 +79,17 @@ public class UserController {
 
 	/**
 	 * Updates the source and target languages of the currently logged-in user.
+	 * The response body is a new JWT token carrying the new languages, to be used
+	 * instead of the current one.
 	 */
 	@PutMapping("/update-languages")
 	public ResponseEntity<?> updateLanguages(@RequestBody LanguageUpdateRequest request, Principal principal) {
-		User user = userService.getUserByUsername(principal.getName());
-		if (user == null) {
+		String token = userService.updateUserLanguages(principal.getName(), request.getSourceLanguage(),
+				request.getTargetLanguage());
+		if (token == null) {
 			return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User not found");
 		}
-
-		user.setSourceLanguage(request.getSourceLanguage());
-		user.setTargetLanguage(request.getTargetLanguage());
-		userRepository.save(user);
-
-		return ResponseEntity.ok("Languages updated successfully");
+		return ResponseEntity.ok(token);
 	}
 
 	/**
@@ -4,19 +4,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.lingotower.dto.translation.TranslationResponseDTO;
 import com.lingotower.dto.word.WordByCategory;
 import com.lingotower.dto.word.WordDTO;
+import com.lingotower.dto.word.WordListDTO;
+import com.lingotower.dto.word.WordPageDTO;
 import com.lingotower.model.Category;
 import com.lingotower.model.Difficulty;
 import com.lingotower.model.Role;
-import com.lingotower.model.User;
 import com.lingotower.model.BaseUser;
 import com.lingotower.model.Word;
 import com.lingotower.service.CategoryService;
 import com.lingotower.service.TranslationService;
-import com.lingotower.service.UserService;
 import com.lingotower.service.WordService;
+import com.lingotower.security.UserProfile;
+import com.lingotower.security.UserProfileCache;
+import com.lingotower.service.catalog.CatalogVersion;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,23 +38,50 @@ public class WordController {
 	private final WordService wordService;
 	private final CategoryService categoryService;
 	private TranslationService translationService;
-	private final UserService userService;
+	private final UserProfileCache userProfileCache;
+	private final CatalogVersion catalogVersion;
 	private static final int DEFAULT_RANDOM_WORD_COUNT = 10;
 
 	@Autowired
 	private ObjectMapper objectMapper;
 
 	public WordController(WordService wordService, CategoryService categoryService,
-			TranslationService translationService, UserService userService) {
+			TranslationService translationService, UserProfileCache userProfileCache, CatalogVersion catalogVersion) {
 		this.wordService = wordService;
 		this.categoryService = categoryService;
 		this.translationService = translationService;
-		this.userService = userService;
+		this.userProfileCache = userProfileCache;
+		this.catalogVersion = catalogVersion;
 	}
 
+	/**
+	 * Lists words a page at a time; pass the nextCursor of a page as the cursor
+	 * of the next request.
+	 */
 	@GetMapping
-	public ResponseEntity<List<Word>> getAllWords() {
-		return ResponseEntity.ok(wordService.getAllWords());
+	public ResponseEntity<WordPageDTO> getWords(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "" + WordService.DEFAULT_PAGE_SIZE) int limit,
+			@RequestParam(required = false) Long categoryId, @RequestParam(required = false) Difficulty difficulty,
+			@RequestParam(defaultValue = "false") boolean untranslated,
+			@RequestParam(required = false) String prefix, WebRequest request) {
+		String etag = catalogVersion.etag();
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag)
+				.body(wordService.getWordPage(cursor, limit, categoryId, difficulty, untranslated, prefix));
+	}
+
+	/**
+	 * Lists every word in one response, for small catalogs.
+	 */
+	@GetMapping(params = "all=true")
+	public ResponseEntity<List<Word>> getAllWords(WebRequest request) {
+		String etag = catalogVersion.etag();
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(wordService.getAllWords());
 	}
 
 	@PutMapping("/{wordId}")
@@ -70,13 +102,11 @@ public class WordController {
 	public ResponseEntity<List<WordByCategory>> getRandomWordsByCategory(@PathVariable Long categoryId,
 			Principal principal) {
 
-		User user = userService.getUserByUsername(principal.getName());
-		if (user == null) {
+		String userLanguage = userLanguage(principal);
+		if (userLanguage == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
 
-		String userLanguage = user.getTargetLanguage();
-
 		List<WordByCategory> randomWords = wordService.getRandomWordsByCategory(categoryId, userLanguage);
 
 		return randomWords.isEmpty() ? ResponseEntity.status(HttpStatus.NOT_FOUND).build()
@@ -87,13 +117,11 @@ public class WordController {
 	public ResponseEntity<List<WordByCategory>> getRandomWordsByDifficulty(@PathVariable Difficulty difficulty,
 			Principal principal) {
 
-		User user = userService.getUserByUsername(principal.getName());
-		if (user == null) {
+		String userLanguage = userLanguage(principal);
+		if (userLanguage == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
 
-		String userLanguage = user.getTargetLanguage();
-
 		List<WordByCategory> randomWords = wordService.getRandomWordsByDifficulty(difficulty, userLanguage);
 
 		return randomWords.isEmpty() ? ResponseEntity.status(HttpStatus.NOT_FOUND).build()
@@ -104,13 +132,11 @@ public class WordController {
 	public ResponseEntity<List<WordByCategory>> getRandomTranslatedWordsForAllCategoriesAndDifficulties(
 			Principal principal) {
 
-		User user = userService.getUserByUsername(principal.getName());
-		if (user == null) {
+		String userLanguage = userLanguage(principal);
+		if (userLanguage == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
 
-		String userLanguage = user.getTargetLanguage();
-
 		List<WordByCategory> randomWords = wordService
 				.getRandomTranslatedWordsForAllCategoriesAndDifficulties(userLanguage);
 
@@ -120,40 +146,83 @@ public class WordController {
 
 	@GetMapping("/category/{categoryId}/translate")
 	public ResponseEntity<List<WordByCategory>> getTranslatedWordsByCategory(@PathVariable Long categoryId,
-			Principal principal) {
+			Principal principal, WebRequest request) {
 
 		String username = principal.getName();
+		String etag = catalogVersion.etag(username);
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
 
 		List<WordByCategory> translatedWords = wordService.getTranslatedWordsByCategory(categoryId, username);
 
 		return translatedWords.isEmpty() ? ResponseEntity.status(HttpStatus.NOT_FOUND).build()
-				: ResponseEntity.ok(translatedWords);
+				: ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(translatedWords);
 	}
 
 	@GetMapping("/category/{categoryId}/difficulty/{difficulty}/translate")
 	public ResponseEntity<List<WordByCategory>> getTranslatedWordsByCategoryAndDifficulty(@PathVariable Long categoryId,
-			@PathVariable Difficulty difficulty, Principal principal) {
-		User user = userService.getUserByUsername(principal.getName());
-		if (user == null) {
+			@PathVariable Difficulty difficulty, Principal principal, WebRequest request) {
+		String etag = catalogVersion.etag(principal.getName());
+		if (request.checkNotModified(etag)) {
+			return null;
+		}
+		String userLanguage = userLanguage(principal);
+		if (userLanguage == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
-		String userLanguage = user.getTargetLanguage();
 
 		List<WordByCategory> translatedWords = wordService.getTranslatedWordsByCategoryAndDifficulty(categoryId,
 				difficulty, userLanguage);
 
-		return ResponseEntity.ok(translatedWords);
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag).body(translatedWords);
+	}
+
+	/**
+	 * Normalized variant of the two endpoints above: categories are sent once and
+	 * words refer to them by id.
+	 */
+	@GetMapping(path = "/category/{categoryId}/translate", params = "shape=normalized")
+	public ResponseEntity<WordListDTO> getNormalizedTranslatedWordsByCategory(@PathVariable Long categoryId,
+			Principal principal, WebRequest request) {
+		return normalize(getTranslatedWordsByCategory(categoryId, principal, request));
+	}
+
+	@GetMapping(path = "/category/{categoryId}/difficulty/{difficulty}/translate", params = "shape=normalized")
+	public ResponseEntity<WordListDTO> getNormalizedTranslatedWordsByCategoryAndDifficulty(
+			@PathVariable Long categoryId, @PathVariable Difficulty difficulty, Principal principal,
+			WebRequest request) {
+		return normalize(getTranslatedWordsByCategoryAndDifficulty(categoryId, difficulty, principal, request));
+	}
+
+	private static ResponseEntity<WordListDTO> normalize(ResponseEntity<List<WordByCategory>> response) {
+		if (response == null) {
+			// Not modified
+			return null;
+		}
+		if (!response.hasBody()) {
+			return ResponseEntity.status(response.getStatusCode()).build();
+		}
+		return ResponseEntity.status(response.getStatusCode()).headers(response.getHeaders())
+				.body(WordListDTO.of(response.getBody()));
+	}
+
+	/**
+	 * @return The target language of the principal, or null if it is not a user.
+	 */
+	private String userLanguage(Principal principal) {
+		return userProfileCache.get(principal.getName()).filter(profile -> !profile.isAdmin())
+				.map(UserProfile::targetLanguage).orElse(null);
 	}
 
 	@GetMapping("/category/{categoryId}/difficulty/{difficulty}/random/translate")
 	public ResponseEntity<List<WordByCategory>> getRandomTranslatedWordsByCategoryAndDifficulty(
 			@PathVariable Long categoryId, @PathVariable Difficulty difficulty, Principal principal) {
 
-		User user = userService.getUserByUsername(principal.getName());
-		if (user == null) {
+		String userLanguage = userLanguage(principal);
+		if (userLanguage == null) {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
-		String userLanguage = user.getTargetLanguage();
 
 		List<WordByCategory> translatedWords = wordService.getRandomTranslatedWordsByCategoryAndDifficulty(categoryId,
 				difficulty, userLanguage);
@@ -2,8 +2,11 @@ package com.lingotower.data;
 
 import com.lingotower.model.BaseUser;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 @NoRepositoryBean
@@ -13,4 +16,20 @@ public interface BaseUserRepository<T extends BaseUser> extends JpaRepository<T,
 	Optional<T> findByEmail(String email);
 
 	boolean existsByEmail(String email);
+
+	@Query("SELECT u FROM #{#entityName} u WHERE u.username = :identifier OR u.email = :identifier")
+	List<T> findAllByUsernameOrEmail(@Param("identifier") String identifier);
+
+	/**
+	 * Finds a user by username or email in a single query. A username match wins
+	 * over an email match, should one user's username be another user's email.
+	 *
+	 * @param identifier The username or email.
+	 * @return The user, if any.
+	 */
+	default Optional<T> findByIdentifier(String identifier) {
+		List<T> users = findAllByUsernameOrEmail(identifier);
+		return users.stream().filter(user -> identifier.equals(user.getUsername())).findFirst()
+				.or(() -> users.stream().findFirst());
+	}
 }
\ No newline at end of file
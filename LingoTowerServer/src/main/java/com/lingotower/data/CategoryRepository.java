@@ -2,21 +2,38 @@ package com.lingotower.data;
 
 import com.lingotower.model.Category;
 import com.lingotower.model.Word;
+import com.lingotower.dto.translation.BackfillRow;
 
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Optional<Category> findByName(String name);
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<Category> findAll();
+
 	Optional<Category> findById(Long id);
 
 	List<Category> findByTranslationIsNullOrTranslationIs(String translation);
 
+	@Query("SELECT c.id AS id, c.name AS text, c.sourceLanguage AS sourceLanguage, c.targetLanguage AS targetLanguage "
+			+ "FROM Category c WHERE (c.translation IS NULL OR c.translation = '') AND c.id > :afterId ORDER BY c.id")
+	List<BackfillRow> findUntranslatedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
 	void deleteAll();
 
 }
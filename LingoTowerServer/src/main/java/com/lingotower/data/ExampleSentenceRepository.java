@@ -1,16 +1,46 @@
 package com.lingotower.data;
 
 import com.lingotower.model.ExampleSentence;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.lingotower.model.Word;
+import com.lingotower.dto.translation.BackfillRow;
+import com.lingotower.dto.word.ExampleSentenceView;
+import com.lingotower.model.Difficulty;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface ExampleSentenceRepository extends JpaRepository<ExampleSentence, Long> {
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	List<ExampleSentence> findByWord(Word word);
 
 	List<ExampleSentence> findByTranslatedTextIsNull();
 
+	@Query("SELECT s.id AS id, s.sentenceText AS text, w.sourceLanguage AS sourceLanguage, "
+			+ "w.targetLanguage AS targetLanguage FROM ExampleSentence s JOIN s.word w "
+			+ "WHERE s.translatedText IS NULL AND s.id > :afterId ORDER BY s.id")
+	List<BackfillRow> findUntranslatedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	@Query("SELECT DISTINCT s.word.id FROM ExampleSentence s WHERE s.id IN :ids")
+	List<Long> findWordIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Query("SELECT s.id AS id, w.id AS wordId, s.sentenceText AS sentenceText, s.translatedText AS translatedText, "
+			+ "s.clozeText AS clozeText, s.clozeAnswerStart AS clozeAnswerStart, s.clozeAnswerEnd AS clozeAnswerEnd, "
+			+ "s.translatedClozeText AS translatedClozeText, s.translatedClozeAnswerStart AS translatedClozeAnswerStart, "
+			+ "s.translatedClozeAnswerEnd AS translatedClozeAnswerEnd "
+			+ "FROM ExampleSentence s JOIN s.word w WHERE w.category.id = :categoryId AND w.difficulty = :difficulty")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<ExampleSentenceView> findViewsByCategoryAndDifficulty(@Param("categoryId") Long categoryId,
+			@Param("difficulty") Difficulty difficulty);
+
 }
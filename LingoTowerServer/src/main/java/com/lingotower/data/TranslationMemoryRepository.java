@@ -0,0 +1,15 @@
+package com.lingotower.data;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.lingotower.model.TranslationMemoryEntry;
+
+@Repository
+public interface TranslationMemoryRepository extends JpaRepository<TranslationMemoryEntry, Long> {
+
+	Optional<TranslationMemoryEntry> findByTextHashAndSourceLanguageAndTargetLanguage(String textHash,
+			String sourceLanguage, String targetLanguage);
+}
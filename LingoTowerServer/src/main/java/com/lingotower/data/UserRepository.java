@@ -25,6 +25,9 @@ public interface UserRepository extends BaseUserRepository<User> {
 	@Query("SELECT u.learnedWords FROM User u WHERE u.username = :username")
 	List<Word> findLearnedWordsByUsername(@Param("username") String username);
 
+	@Query("SELECT COUNT(w) FROM User u JOIN u.learnedWords w WHERE u.username = :username")
+	long countLearnedWordsByUsername(@Param("username") String username);
+
 	@Query("SELECT w FROM User u JOIN u.learnedWords w WHERE u.username = :username AND w.targetLanguage = :targetLanguage")
 	List<Word> findLearnedWordsByUsernameAndTargetLanguage(@Param("username") String username,
 			@Param("targetLanguage") String targetLanguage);
@@ -4,14 +4,27 @@ import com.lingotower.model.Category;
 //import com.lingotower.model.Category;
 import com.lingotower.model.Difficulty;
 import com.lingotower.model.Word;
+import com.lingotower.dto.translation.BackfillRow;
+import com.lingotower.dto.word.WordTranslationView;
+import com.lingotower.dto.word.WordCatalogView;
+import com.lingotower.dto.word.WordIdRange;
+import com.lingotower.dto.word.WordSummaryView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
+
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface WordRepository extends JpaRepository<Word, Long> {
 	@Query("SELECT w FROM Word w WHERE w.category.id = :categoryId")
@@ -21,8 +34,12 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
 	List<Word> findByCategoryIdAndDifficulty(Long categoryId, Difficulty difficulty);
 
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
 	Optional<Word> findByWord(String word);
 
+	@EntityGraph(Word.WITH_SENTENCES)
+	Optional<Word> findWithSentencesByWord(String word);
+
 	List<Word> findByCategoryIdAndDifficultyAndTranslation(Long categoryId, Difficulty difficulty, String translation);
 
 	List<Word> findByTranslationIsNull();
@@ -35,4 +52,70 @@ public interface WordRepository extends JpaRepository<Word, Long> {
 
 	Optional<Word> findByWordIgnoreCase(String targetEnglishWord);
 
+	@Query("SELECT w.word AS word, w.translation AS translation, w.sourceLanguage AS sourceLanguage, "
+			+ "w.targetLanguage AS targetLanguage FROM Word w WHERE w.translation IS NOT NULL")
+	List<WordTranslationView> findAllTranslated();
+
+	@Query("SELECT w.id AS id, w.word AS text, w.sourceLanguage AS sourceLanguage, w.targetLanguage AS targetLanguage "
+			+ "FROM Word w WHERE w.translation IS NULL AND w.id > :afterId ORDER BY w.id")
+	List<BackfillRow> findUntranslatedAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	@Query("SELECT w.id AS id, w.word AS word, w.translation AS translation, c.id AS categoryId, "
+			+ "w.difficulty AS difficulty, w.sourceLanguage AS sourceLanguage, w.targetLanguage AS targetLanguage "
+			+ "FROM Word w LEFT JOIN w.category c")
+	List<WordCatalogView> findAllForCatalog();
+
+	@Query("SELECT w.id AS id, w.word AS word, w.translation AS translation, w.category.id AS categoryId, "
+			+ "w.difficulty AS difficulty, w.sourceLanguage AS sourceLanguage, w.targetLanguage AS targetLanguage "
+			+ "FROM Word w WHERE w.category.id = :categoryId AND w.difficulty = :difficulty")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<WordCatalogView> findForCatalog(@Param("categoryId") Long categoryId,
+			@Param("difficulty") Difficulty difficulty);
+
+	@Query("SELECT w FROM Word w LEFT JOIN FETCH w.category")
+	List<Word> findAllWithCategory();
+
+	@Query("SELECT w.id AS id, w.word AS word, w.translation AS translation, w.category.id AS categoryId, "
+			+ "w.difficulty AS difficulty FROM Word w WHERE w.category.id = :categoryId "
+			+ "AND (:difficulty IS NULL OR w.difficulty = :difficulty)")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+	List<WordSummaryView> findSummaries(@Param("categoryId") Long categoryId,
+			@Param("difficulty") Difficulty difficulty);
+
+	@Query("SELECT w.word AS word, w.translation AS translation, w.sourceLanguage AS sourceLanguage, "
+			+ "w.targetLanguage AS targetLanguage FROM Word w WHERE w.category.id = :categoryId AND w.word IN :words")
+	List<WordTranslationView> findTranslationsByCategoryIdAndWordIn(@Param("categoryId") Long categoryId,
+			@Param("words") Collection<String> words);
+
+	// Random sampling: a null category or difficulty matches every word
+
+	@Query("SELECT MIN(w.id) AS minId, MAX(w.id) AS maxId, COUNT(w) AS count FROM Word w "
+			+ "WHERE (:categoryId IS NULL OR w.category.id = :categoryId) "
+			+ "AND (:difficulty IS NULL OR w.difficulty = :difficulty)")
+	WordIdRange findIdRange(@Param("categoryId") Long categoryId, @Param("difficulty") Difficulty difficulty);
+
+	@Query("SELECT w.id FROM Word w WHERE w.id IN :ids "
+			+ "AND (:categoryId IS NULL OR w.category.id = :categoryId) "
+			+ "AND (:difficulty IS NULL OR w.difficulty = :difficulty)")
+	List<Long> findMatchingIds(@Param("ids") Collection<Long> ids, @Param("categoryId") Long categoryId,
+			@Param("difficulty") Difficulty difficulty);
+
+	@Query("SELECT w.id FROM Word w WHERE (:categoryId IS NULL OR w.category.id = :categoryId) "
+			+ "AND (:difficulty IS NULL OR w.difficulty = :difficulty)")
+	List<Long> findIds(@Param("categoryId") Long categoryId, @Param("difficulty") Difficulty difficulty);
+
+	@Query("SELECT w FROM Word w LEFT JOIN FETCH w.category WHERE w.id IN :ids")
+	List<Word> findAllWithCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+	// Keyset pagination: a null filter matches every word; prefix is a LIKE pattern escaped with '!'
+
+	@Query("SELECT w FROM Word w LEFT JOIN FETCH w.category WHERE w.id > :afterId "
+			+ "AND (:categoryId IS NULL OR w.category.id = :categoryId) "
+			+ "AND (:difficulty IS NULL OR w.difficulty = :difficulty) "
+			+ "AND (:untranslatedOnly = false OR w.translation IS NULL) "
+			+ "AND (:prefix IS NULL OR w.word LIKE :prefix ESCAPE '!') ORDER BY w.id")
+	List<Word> findPageAfter(@Param("afterId") long afterId, @Param("categoryId") Long categoryId,
+			@Param("difficulty") Difficulty difficulty, @Param("untranslatedOnly") boolean untranslatedOnly,
+			@Param("prefix") String prefix, Pageable pageable);
+
 }
@@ -2,6 +2,7 @@ package com.lingotower.dto;
 
 public class TranslationResponse {
 	private ResponseData responseData;
+	private Integer responseStatus;
 
 	public ResponseData getResponseData() {
 		return responseData;
@@ -11,6 +12,14 @@ public class TranslationResponse {
 		this.responseData = responseData;
 	}
 
+	public Integer getResponseStatus() {
+		return responseStatus;
+	}
+
+	public void setResponseStatus(Integer responseStatus) {
+		this.responseStatus = responseStatus;
+	}
+
 	public static class ResponseData {
 		private String translatedText;
 
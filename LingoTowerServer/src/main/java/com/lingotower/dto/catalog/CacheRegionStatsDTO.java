@@ -0,0 +1,34 @@
+package com.lingotower.dto.catalog;
+
+public class CacheRegionStatsDTO {
+	private String region;
+	private long hits;
+	private long misses;
+	private long puts;
+
+	public CacheRegionStatsDTO() {
+	}
+
+	public CacheRegionStatsDTO(String region, long hits, long misses, long puts) {
+		this.region = region;
+		this.hits = hits;
+		this.misses = misses;
+		this.puts = puts;
+	}
+
+	public String getRegion() {
+		return region;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getPuts() {
+		return puts;
+	}
+}
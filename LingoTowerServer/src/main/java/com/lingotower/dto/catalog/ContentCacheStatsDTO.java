@@ -0,0 +1,37 @@
+package com.lingotower.dto.catalog;
+
+import java.util.List;
+
+public class ContentCacheStatsDTO {
+	private List<CacheRegionStatsDTO> regions;
+	private long queryHits;
+	private long queryMisses;
+	private long queryPuts;
+
+	public ContentCacheStatsDTO() {
+	}
+
+	public ContentCacheStatsDTO(List<CacheRegionStatsDTO> regions, long queryHits, long queryMisses,
+			long queryPuts) {
+		this.regions = regions;
+		this.queryHits = queryHits;
+		this.queryMisses = queryMisses;
+		this.queryPuts = queryPuts;
+	}
+
+	public List<CacheRegionStatsDTO> getRegions() {
+		return regions;
+	}
+
+	public long getQueryHits() {
+		return queryHits;
+	}
+
+	public long getQueryMisses() {
+		return queryMisses;
+	}
+
+	public long getQueryPuts() {
+		return queryPuts;
+	}
+}
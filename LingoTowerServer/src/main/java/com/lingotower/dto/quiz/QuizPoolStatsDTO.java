@@ -0,0 +1,76 @@
+package com.lingotower.dto.quiz;
+
+import java.util.Map;
+
+public class QuizPoolStatsDTO {
+	private boolean enabled;
+	private int capacity;
+	private int lowWatermark;
+	private long hits;
+	private long misses;
+	private double hitRate;
+	private long generated;
+	private long discarded;
+	private int pendingRefills;
+	private Map<String, Integer> depths;
+
+	public QuizPoolStatsDTO() {
+	}
+
+	public QuizPoolStatsDTO(boolean enabled, int capacity, int lowWatermark, long hits, long misses, double hitRate,
+			long generated, long discarded, int pendingRefills, Map<String, Integer> depths) {
+		this.enabled = enabled;
+		this.capacity = capacity;
+		this.lowWatermark = lowWatermark;
+		this.hits = hits;
+		this.misses = misses;
+		this.hitRate = hitRate;
+		this.generated = generated;
+		this.discarded = discarded;
+		this.pendingRefills = pendingRefills;
+		this.depths = depths;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public int getLowWatermark() {
+		return lowWatermark;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public double getHitRate() {
+		return hitRate;
+	}
+
+	public long getGenerated() {
+		return generated;
+	}
+
+	public long getDiscarded() {
+		return discarded;
+	}
+
+	public int getPendingRefills() {
+		return pendingRefills;
+	}
+
+	/**
+	 * @return The number of ready quizzes, keyed by "categoryId/difficulty/language".
+	 */
+	public Map<String, Integer> getDepths() {
+		return depths;
+	}
+}
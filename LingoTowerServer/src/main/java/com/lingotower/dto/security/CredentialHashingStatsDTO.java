@@ -0,0 +1,92 @@
+package com.lingotower.dto.security;
+
+import java.util.Map;
+
+public class CredentialHashingStatsDTO {
+	private int threads;
+	private int active;
+	private int queued;
+	private long completed;
+	private long rejected;
+	private long timedOut;
+	private long hashP50Ms;
+	private long hashP95Ms;
+	private long hashP99Ms;
+	private long queueWaitP50Ms;
+	private long queueWaitP95Ms;
+	private long queueWaitP99Ms;
+	private Map<Long, Long> hashHistogram;
+
+	public CredentialHashingStatsDTO() {
+	}
+
+	public CredentialHashingStatsDTO(int threads, int active, int queued, long completed, long rejected,
+			long timedOut, long hashP50Ms, long hashP95Ms, long hashP99Ms, long queueWaitP50Ms, long queueWaitP95Ms,
+			long queueWaitP99Ms, Map<Long, Long> hashHistogram) {
+		this.threads = threads;
+		this.active = active;
+		this.queued = queued;
+		this.completed = completed;
+		this.rejected = rejected;
+		this.timedOut = timedOut;
+		this.hashP50Ms = hashP50Ms;
+		this.hashP95Ms = hashP95Ms;
+		this.hashP99Ms = hashP99Ms;
+		this.queueWaitP50Ms = queueWaitP50Ms;
+		this.queueWaitP95Ms = queueWaitP95Ms;
+		this.queueWaitP99Ms = queueWaitP99Ms;
+		this.hashHistogram = hashHistogram;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getActive() {
+		return active;
+	}
+
+	public int getQueued() {
+		return queued;
+	}
+
+	public long getCompleted() {
+		return completed;
+	}
+
+	public long getRejected() {
+		return rejected;
+	}
+
+	public long getTimedOut() {
+		return timedOut;
+	}
+
+	public long getHashP50Ms() {
+		return hashP50Ms;
+	}
+
+	public long getHashP95Ms() {
+		return hashP95Ms;
+	}
+
+	public long getHashP99Ms() {
+		return hashP99Ms;
+	}
+
+	public long getQueueWaitP50Ms() {
+		return queueWaitP50Ms;
+	}
+
+	public long getQueueWaitP95Ms() {
+		return queueWaitP95Ms;
+	}
+
+	public long getQueueWaitP99Ms() {
+		return queueWaitP99Ms;
+	}
+
+	public Map<Long, Long> getHashHistogram() {
+		return hashHistogram;
+	}
+}
@@ -0,0 +1,15 @@
+package com.lingotower.dto.translation;
+
+/**
+ * A row that is still missing its translation, as read by the translation
+ * backfill.
+ */
+public interface BackfillRow {
+	Long getId();
+
+	String getText();
+
+	String getSourceLanguage();
+
+	String getTargetLanguage();
+}
@@ -0,0 +1,69 @@
+package com.lingotower.dto.translation;
+
+import java.time.Instant;
+import java.util.Map;
+
+public class BackfillStatsDTO {
+	private boolean running;
+	private Instant lastRunStartedAt;
+	private long lastRunDurationMs;
+	private long lastRunRows;
+	private double lastRunRowsPerSecond;
+	private long totalRows;
+	private long totalTranslated;
+	private long totalFailed;
+	private Map<String, Long> checkpoints;
+
+	public BackfillStatsDTO() {
+	}
+
+	public BackfillStatsDTO(boolean running, Instant lastRunStartedAt, long lastRunDurationMs, long lastRunRows,
+			double lastRunRowsPerSecond, long totalRows, long totalTranslated, long totalFailed,
+			Map<String, Long> checkpoints) {
+		this.running = running;
+		this.lastRunStartedAt = lastRunStartedAt;
+		this.lastRunDurationMs = lastRunDurationMs;
+		this.lastRunRows = lastRunRows;
+		this.lastRunRowsPerSecond = lastRunRowsPerSecond;
+		this.totalRows = totalRows;
+		this.totalTranslated = totalTranslated;
+		this.totalFailed = totalFailed;
+		this.checkpoints = checkpoints;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+	public Instant getLastRunStartedAt() {
+		return lastRunStartedAt;
+	}
+
+	public long getLastRunDurationMs() {
+		return lastRunDurationMs;
+	}
+
+	public long getLastRunRows() {
+		return lastRunRows;
+	}
+
+	public double getLastRunRowsPerSecond() {
+		return lastRunRowsPerSecond;
+	}
+
+	public long getTotalRows() {
+		return totalRows;
+	}
+
+	public long getTotalTranslated() {
+		return totalTranslated;
+	}
+
+	public long getTotalFailed() {
+		return totalFailed;
+	}
+
+	public Map<String, Long> getCheckpoints() {
+		return checkpoints;
+	}
+}
@@ -0,0 +1,28 @@
+package com.lingotower.dto.translation;
+
+public class LocalDictionaryStatsDTO {
+	private int size;
+	private long hits;
+	private long misses;
+
+	public LocalDictionaryStatsDTO() {
+	}
+
+	public LocalDictionaryStatsDTO(int size, long hits, long misses) {
+		this.size = size;
+		this.hits = hits;
+		this.misses = misses;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+}
@@ -0,0 +1,41 @@
+package com.lingotower.dto.translation;
+
+public class PhraseTranslationStatsDTO {
+	private long sentences;
+	private long segments;
+	private long segmentHits;
+	private long batchedCalls;
+	private long batchFallbacks;
+
+	public PhraseTranslationStatsDTO() {
+	}
+
+	public PhraseTranslationStatsDTO(long sentences, long segments, long segmentHits, long batchedCalls,
+			long batchFallbacks) {
+		this.sentences = sentences;
+		this.segments = segments;
+		this.segmentHits = segmentHits;
+		this.batchedCalls = batchedCalls;
+		this.batchFallbacks = batchFallbacks;
+	}
+
+	public long getSentences() {
+		return sentences;
+	}
+
+	public long getSegments() {
+		return segments;
+	}
+
+	public long getSegmentHits() {
+		return segmentHits;
+	}
+
+	public long getBatchedCalls() {
+		return batchedCalls;
+	}
+
+	public long getBatchFallbacks() {
+		return batchFallbacks;
+	}
+}
@@ -0,0 +1,55 @@
+package com.lingotower.dto.translation;
+
+import java.util.Map;
+
+public class ProviderLatencyStatsDTO {
+	private String name;
+	private long calls;
+	private long failures;
+	private long p50Ms;
+	private long p95Ms;
+	private long p99Ms;
+	private Map<Long, Long> histogram;
+
+	public ProviderLatencyStatsDTO() {
+	}
+
+	public ProviderLatencyStatsDTO(String name, long calls, long failures, long p50Ms, long p95Ms, long p99Ms,
+			Map<Long, Long> histogram) {
+		this.name = name;
+		this.calls = calls;
+		this.failures = failures;
+		this.p50Ms = p50Ms;
+		this.p95Ms = p95Ms;
+		this.p99Ms = p99Ms;
+		this.histogram = histogram;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getCalls() {
+		return calls;
+	}
+
+	public long getFailures() {
+		return failures;
+	}
+
+	public long getP50Ms() {
+		return p50Ms;
+	}
+
+	public long getP95Ms() {
+		return p95Ms;
+	}
+
+	public long getP99Ms() {
+		return p99Ms;
+	}
+
+	public Map<Long, Long> getHistogram() {
+		return histogram;
+	}
+}
@@ -0,0 +1,28 @@
+package com.lingotower.dto.translation;
+
+public class TranslationCoalescingStatsDTO {
+	private long remoteCalls;
+	private long coalescedCalls;
+	private int inFlight;
+
+	public TranslationCoalescingStatsDTO() {
+	}
+
+	public TranslationCoalescingStatsDTO(long remoteCalls, long coalescedCalls, int inFlight) {
+		this.remoteCalls = remoteCalls;
+		this.coalescedCalls = coalescedCalls;
+		this.inFlight = inFlight;
+	}
+
+	public long getRemoteCalls() {
+		return remoteCalls;
+	}
+
+	public long getCoalescedCalls() {
+		return coalescedCalls;
+	}
+
+	public int getInFlight() {
+		return inFlight;
+	}
+}
@@ -0,0 +1,65 @@
+package com.lingotower.dto.translation;
+
+public class TranslationMemoryStatsDTO {
+	private int size;
+	private long hits;
+	private long storeHits;
+	private long misses;
+	private long staleHits;
+	private long refreshes;
+	private long loadFailures;
+	private double averageHitMicros;
+	private double averageLoadMicros;
+
+	public TranslationMemoryStatsDTO() {
+	}
+
+	public TranslationMemoryStatsDTO(int size, long hits, long storeHits, long misses, long staleHits, long refreshes,
+			long loadFailures, double averageHitMicros, double averageLoadMicros) {
+		this.size = size;
+		this.hits = hits;
+		this.storeHits = storeHits;
+		this.misses = misses;
+		this.staleHits = staleHits;
+		this.refreshes = refreshes;
+		this.loadFailures = loadFailures;
+		this.averageHitMicros = averageHitMicros;
+		this.averageLoadMicros = averageLoadMicros;
+	}
+
+	public int getSize() {
+		return size;
+	}
+
+	public long getHits() {
+		return hits;
+	}
+
+	public long getStoreHits() {
+		return storeHits;
+	}
+
+	public long getMisses() {
+		return misses;
+	}
+
+	public long getStaleHits() {
+		return staleHits;
+	}
+
+	public long getRefreshes() {
+		return refreshes;
+	}
+
+	public long getLoadFailures() {
+		return loadFailures;
+	}
+
+	public double getAverageHitMicros() {
+		return averageHitMicros;
+	}
+
+	public double getAverageLoadMicros() {
+		return averageLoadMicros;
+	}
+}
@@ -0,0 +1,55 @@
+package com.lingotower.dto.translation;
+
+import java.util.List;
+
+public class TranslationProviderStatsDTO {
+	private String primary;
+	private String secondary;
+	private long currentHedgeDelayMs;
+	private long hedged;
+	private long failovers;
+	private long secondaryWins;
+	private List<ProviderLatencyStatsDTO> providers;
+
+	public TranslationProviderStatsDTO() {
+	}
+
+	public TranslationProviderStatsDTO(String primary, String secondary, long currentHedgeDelayMs, long hedged,
+			long failovers, long secondaryWins, List<ProviderLatencyStatsDTO> providers) {
+		this.primary = primary;
+		this.secondary = secondary;
+		this.currentHedgeDelayMs = currentHedgeDelayMs;
+		this.hedged = hedged;
+		this.failovers = failovers;
+		this.secondaryWins = secondaryWins;
+		this.providers = providers;
+	}
+
+	public String getPrimary() {
+		return primary;
+	}
+
+	public String getSecondary() {
+		return secondary;
+	}
+
+	public long getCurrentHedgeDelayMs() {
+		return currentHedgeDelayMs;
+	}
+
+	public long getHedged() {
+		return hedged;
+	}
+
+	public long getFailovers() {
+		return failovers;
+	}
+
+	public long getSecondaryWins() {
+		return secondaryWins;
+	}
+
+	public List<ProviderLatencyStatsDTO> getProviders() {
+		return providers;
+	}
+}
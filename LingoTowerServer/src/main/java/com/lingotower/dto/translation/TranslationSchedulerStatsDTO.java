@@ -0,0 +1,72 @@
+package com.lingotower.dto.translation;
+
+public class TranslationSchedulerStatsDTO {
+	private int interactiveQueued;
+	private int backgroundQueued;
+	private long dispatched;
+	private long throttled;
+	private long failed;
+	private long rejected;
+	private int drainedLastMinute;
+	private double availableTokens;
+	private long currentBackoffMs;
+	private long backoffRemainingMs;
+
+	public TranslationSchedulerStatsDTO() {
+	}
+
+	public TranslationSchedulerStatsDTO(int interactiveQueued, int backgroundQueued, long dispatched, long throttled,
+			long failed, long rejected, int drainedLastMinute, double availableTokens, long currentBackoffMs,
+			long backoffRemainingMs) {
+		this.interactiveQueued = interactiveQueued;
+		this.backgroundQueued = backgroundQueued;
+		this.dispatched = dispatched;
+		this.throttled = throttled;
+		this.failed = failed;
+		this.rejected = rejected;
+		this.drainedLastMinute = drainedLastMinute;
+		this.availableTokens = availableTokens;
+		this.currentBackoffMs = currentBackoffMs;
+		this.backoffRemainingMs = backoffRemainingMs;
+	}
+
+	public int getInteractiveQueued() {
+		return interactiveQueued;
+	}
+
+	public int getBackgroundQueued() {
+		return backgroundQueued;
+	}
+
+	public long getDispatched() {
+		return dispatched;
+	}
+
+	public long getThrottled() {
+		return throttled;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public long getRejected() {
+		return rejected;
+	}
+
+	public int getDrainedLastMinute() {
+		return drainedLastMinute;
+	}
+
+	public double getAvailableTokens() {
+		return availableTokens;
+	}
+
+	public long getCurrentBackoffMs() {
+		return currentBackoffMs;
+	}
+
+	public long getBackoffRemainingMs() {
+		return backoffRemainingMs;
+	}
+}
@@ -0,0 +1,45 @@
+package com.lingotower.dto.word;
+
+import com.lingotower.model.Difficulty;
+
+/**
+ * A word in a {@link WordListDTO}, referring to its category by id.
+ */
+public class CategoryWordDTO {
+	private Long id;
+	private String word;
+	private String translatedText;
+	private Long categoryId;
+	private Difficulty difficulty;
+
+	public CategoryWordDTO() {
+	}
+
+	public CategoryWordDTO(Long id, String word, String translatedText, Long categoryId, Difficulty difficulty) {
+		this.id = id;
+		this.word = word;
+		this.translatedText = translatedText;
+		this.categoryId = categoryId;
+		this.difficulty = difficulty;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getWord() {
+		return word;
+	}
+
+	public String getTranslatedText() {
+		return translatedText;
+	}
+
+	public Long getCategoryId() {
+		return categoryId;
+	}
+
+	public Difficulty getDifficulty() {
+		return difficulty;
+	}
+}
@@ -0,0 +1,48 @@
+package com.lingotower.dto.word;
+
+import com.lingotower.util.ClozeAnalyzer;
+import com.lingotower.util.ClozeTemplate;
+
+/**
+ * Projection of an example sentence together with the id of its word.
+ */
+public interface ExampleSentenceView {
+	Long getId();
+
+	Long getWordId();
+
+	String getSentenceText();
+
+	String getTranslatedText();
+
+	String getClozeText();
+
+	Integer getClozeAnswerStart();
+
+	Integer getClozeAnswerEnd();
+
+	String getTranslatedClozeText();
+
+	Integer getTranslatedClozeAnswerStart();
+
+	Integer getTranslatedClozeAnswerEnd();
+
+	/**
+	 * @return The stored cloze template of the English sentence, or a fresh one for
+	 *         rows stored before templates existed.
+	 */
+	default ClozeTemplate englishCloze() {
+		ClozeTemplate template = ClozeTemplate.of(getClozeText(), getClozeAnswerStart(), getClozeAnswerEnd());
+		return template != null ? template : ClozeAnalyzer.english(getSentenceText());
+	}
+
+	/**
+	 * @return The stored cloze template of the Hebrew sentence, or a fresh one for
+	 *         rows stored before templates existed.
+	 */
+	default ClozeTemplate hebrewCloze() {
+		ClozeTemplate template = ClozeTemplate.of(getTranslatedClozeText(), getTranslatedClozeAnswerStart(),
+				getTranslatedClozeAnswerEnd());
+		return template != null ? template : ClozeAnalyzer.hebrew(getTranslatedText());
+	}
+}
@@ -0,0 +1,10 @@
+package com.lingotower.dto.word;
+
+/**
+ * Projection of the columns kept in the in-memory word catalog.
+ */
+public interface WordCatalogView extends WordSummaryView {
+	String getSourceLanguage();
+
+	String getTargetLanguage();
+}
@@ -0,0 +1,12 @@
+package com.lingotower.dto.word;
+
+/**
+ * Smallest and largest id, and number of rows, of the words matching a filter.
+ */
+public interface WordIdRange {
+	Long getMinId();
+
+	Long getMaxId();
+
+	long getCount();
+}
@@ -0,0 +1,56 @@
+package com.lingotower.dto.word;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.lingotower.dto.category.CategoryDTO;
+import com.lingotower.model.Category;
+
+/**
+ * A normalized word list: every category appears once and words refer to it by
+ * id, instead of each WordByCategory carrying a copy of its category.
+ */
+public class WordListDTO {
+	private List<CategoryDTO> categories;
+	private List<CategoryWordDTO> words;
+
+	public WordListDTO() {
+	}
+
+	public WordListDTO(List<CategoryDTO> categories, List<CategoryWordDTO> words) {
+		this.categories = categories;
+		this.words = words;
+	}
+
+	/**
+	 * Normalizes a list of words.
+	 *
+	 * @param words The words, each with its category.
+	 * @return The same words with their categories listed once.
+	 */
+	public static WordListDTO of(List<WordByCategory> words) {
+		Map<Long, CategoryDTO> categories = new LinkedHashMap<>();
+		List<CategoryWordDTO> entries = new ArrayList<>(words.size());
+		for (WordByCategory word : words) {
+			Category category = word.getCategory();
+			Long categoryId = category == null ? null : category.getId();
+			if (category != null) {
+				categories.computeIfAbsent(categoryId,
+						id -> new CategoryDTO(id, category.getName(), category.getTranslation()));
+			}
+			entries.add(new CategoryWordDTO(word.getId(), word.getWord(), word.getTranslatedText(), categoryId,
+					word.getDifficulty()));
+		}
+		return new WordListDTO(new ArrayList<>(categories.values()), entries);
+	}
+
+	public List<CategoryDTO> getCategories() {
+		return categories;
+	}
+
+	public List<CategoryWordDTO> getWords() {
+		return words;
+	}
+}
@@ -0,0 +1,32 @@
+package com.lingotower.dto.word;
+
+import java.util.List;
+
+import com.lingotower.model.Word;
+
+/**
+ * One page of a keyset-paginated word listing.
+ */
+public class WordPageDTO {
+	private List<Word> words;
+	private String nextCursor;
+
+	public WordPageDTO() {
+	}
+
+	public WordPageDTO(List<Word> words, String nextCursor) {
+		this.words = words;
+		this.nextCursor = nextCursor;
+	}
+
+	public List<Word> getWords() {
+		return words;
+	}
+
+	/**
+	 * @return The cursor of the next page, or null if this is the last page.
+	 */
+	public String getNextCursor() {
+		return nextCursor;
+	}
+}
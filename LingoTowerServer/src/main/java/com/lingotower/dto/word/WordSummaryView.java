@@ -0,0 +1,19 @@
+package com.lingotower.dto.word;
+
+import com.lingotower.model.Difficulty;
+
+/**
+ * Projection of the columns read paths need from a word, without loading the
+ * entity and its associations.
+ */
+public interface WordSummaryView {
+	Long getId();
+
+	String getWord();
+
+	String getTranslation();
+
+	Long getCategoryId();
+
+	Difficulty getDifficulty();
+}
@@ -0,0 +1,15 @@
+package com.lingotower.dto.word;
+
+/**
+ * Projection of the columns needed to know a word's translation, without
+ * loading the entity and its example sentences.
+ */
+public interface WordTranslationView {
+	String getWord();
+
+	String getTranslation();
+
+	String getSourceLanguage();
+
+	String getTargetLanguage();
+}
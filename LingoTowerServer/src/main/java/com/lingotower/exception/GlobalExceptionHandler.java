@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -72,6 +73,16 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
 	}
 
+	/**
+	 * Handles ServerBusyException when the work a request needs is queued to
+	 * capacity. The client may retry after a second.
+	 */
+	@ExceptionHandler(ServerBusyException.class)
+	public ResponseEntity<String> handleServerBusyException(ServerBusyException e) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1")
+				.body(e.getMessage());
+	}
+
 	/**
 	 * Handles IOException during file operations.
 	 */
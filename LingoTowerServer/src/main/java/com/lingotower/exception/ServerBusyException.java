@@ -0,0 +1,13 @@
+package com.lingotower.exception;
+
+/**
+ * Thrown when a request cannot be served right now because the work it needs
+ * is already queued to capacity. Answered with 503 Service Unavailable.
+ */
+public class ServerBusyException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public ServerBusyException(String message) {
+		super(message);
+	}
+}
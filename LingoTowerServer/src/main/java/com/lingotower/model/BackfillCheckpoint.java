@@ -0,0 +1,57 @@
+package com.lingotower.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Progress of the translation backfill for one table. The backfill walks rows
+ * in id order, so remembering the last processed id lets a restarted
+ * application resume where it stopped.
+ */
+@Entity
+@Table(name = "backfill_checkpoint")
+public class BackfillCheckpoint {
+
+	@Id
+	@Column(length = 50)
+	private String target;
+
+	@Column(nullable = false)
+	private Long lastId;
+
+	@Column(nullable = false)
+	private Instant updatedAt;
+
+	public BackfillCheckpoint() {
+	}
+
+	public BackfillCheckpoint(String target) {
+		this.target = target;
+		this.lastId = 0L;
+		this.updatedAt = Instant.now();
+	}
+
+	public String getTarget() {
+		return target;
+	}
+
+	public Long getLastId() {
+		return lastId;
+	}
+
+	public void setLastId(Long lastId) {
+		this.lastId = lastId;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(Instant updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+}
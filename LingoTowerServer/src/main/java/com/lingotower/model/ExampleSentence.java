@@ -1,9 +1,17 @@
 package com.lingotower.model;
 
+import com.lingotower.util.ClozeAnalyzer;
+import com.lingotower.util.ClozeTemplate;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 
 @Entity
 @Table(name = "example_sentence")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 public class ExampleSentence {
 
 	@Id
@@ -20,13 +28,28 @@ public class ExampleSentence {
 	@JoinColumn(name = "word_id", nullable = false)
 	private Word word;
 
+	// Cloze templates, kept in step with the texts by their setters
+	@Column(nullable = true, columnDefinition = "TEXT")
+	private String clozeText;
+
+	private Integer clozeAnswerStart;
+
+	private Integer clozeAnswerEnd;
+
+	@Column(nullable = true, columnDefinition = "TEXT")
+	private String translatedClozeText;
+
+	private Integer translatedClozeAnswerStart;
+
+	private Integer translatedClozeAnswerEnd;
+
 	public ExampleSentence() {
 	}
 
 	public ExampleSentence(String sentenceText, String translatedText, Word word) {
-		this.sentenceText = sentenceText;
-		this.translatedText = translatedText;
 		this.word = word;
+		setSentenceText(sentenceText);
+		setTranslatedText(translatedText);
 	}
 
 	public Long getId() {
@@ -39,6 +62,10 @@ public class ExampleSentence {
 
 	public void setSentenceText(String sentenceText) {
 		this.sentenceText = sentenceText;
+		ClozeTemplate template = ClozeAnalyzer.english(sentenceText);
+		this.clozeText = template == null ? null : template.text();
+		this.clozeAnswerStart = template == null ? null : template.answerStart();
+		this.clozeAnswerEnd = template == null ? null : template.answerEnd();
 	}
 
 	public Word getWord() {
@@ -55,6 +82,29 @@ public class ExampleSentence {
 
 	public void setTranslatedText(String translatedText) {
 		this.translatedText = translatedText;
+		ClozeTemplate template = ClozeAnalyzer.hebrew(translatedText);
+		this.translatedClozeText = template == null ? null : template.text();
+		this.translatedClozeAnswerStart = template == null ? null : template.answerStart();
+		this.translatedClozeAnswerEnd = template == null ? null : template.answerEnd();
+	}
+
+	/**
+	 * @return The cloze template of the English sentence, or null if it has no word
+	 *         to blank out. Rows stored before templates existed are analyzed here.
+	 */
+	public ClozeTemplate getClozeTemplate() {
+		ClozeTemplate template = ClozeTemplate.of(clozeText, clozeAnswerStart, clozeAnswerEnd);
+		return template != null ? template : ClozeAnalyzer.english(sentenceText);
+	}
+
+	/**
+	 * @return The cloze template of the Hebrew sentence, or null if there is no
+	 *         translation or it has no word to blank out.
+	 */
+	public ClozeTemplate getTranslatedClozeTemplate() {
+		ClozeTemplate template = ClozeTemplate.of(translatedClozeText, translatedClozeAnswerStart,
+				translatedClozeAnswerEnd);
+		return template != null ? template : ClozeAnalyzer.hebrew(translatedText);
 	}
 
 }
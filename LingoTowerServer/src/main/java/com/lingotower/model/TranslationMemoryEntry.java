@@ -0,0 +1,93 @@
+package com.lingotower.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * A translation that was previously returned by the external translation API.
+ * Entries are keyed by a digest of the normalized source text together with the
+ * language pair, so repeated translations can be served without a remote call.
+ */
+@Entity
+@Table(name = "translation_memory", uniqueConstraints = @UniqueConstraint(columnNames = { "textHash",
+		"sourceLanguage", "targetLanguage" }))
+public class TranslationMemoryEntry {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, length = 64)
+	private String textHash;
+
+	@Column(nullable = false, length = 10)
+	private String sourceLanguage;
+
+	@Column(nullable = false, length = 10)
+	private String targetLanguage;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String sourceText;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String translatedText;
+
+	@Column(nullable = false)
+	private Instant refreshedAt;
+
+	public TranslationMemoryEntry() {
+	}
+
+	public TranslationMemoryEntry(String textHash, String sourceLanguage, String targetLanguage, String sourceText,
+			String translatedText, Instant refreshedAt) {
+		this.textHash = textHash;
+		this.sourceLanguage = sourceLanguage;
+		this.targetLanguage = targetLanguage;
+		this.sourceText = sourceText;
+		this.translatedText = translatedText;
+		this.refreshedAt = refreshedAt;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public String getTextHash() {
+		return textHash;
+	}
+
+	public String getSourceLanguage() {
+		return sourceLanguage;
+	}
+
+	public String getTargetLanguage() {
+		return targetLanguage;
+	}
+
+	public String getSourceText() {
+		return sourceText;
+	}
+
+	public String getTranslatedText() {
+		return translatedText;
+	}
+
+	public void setTranslatedText(String translatedText) {
+		this.translatedText = translatedText;
+	}
+
+	public Instant getRefreshedAt() {
+		return refreshedAt;
+	}
+
+	public void setRefreshedAt(Instant refreshedAt) {
+		this.refreshedAt = refreshedAt;
+	}
+}
@@ -3,6 +3,9 @@ package com.lingotower.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
@@ -22,8 +25,18 @@ import jakarta.persistence.*;
 @Entity
 @Table(name = "word", uniqueConstraints = @UniqueConstraint(columnNames = { "word", "category_id" }), indexes = {
 		@Index(name = "idx_category_id", columnList = "category_id"),
-		@Index(name = "idx_difficulty", columnList = "difficulty") })
+		@Index(name = "idx_difficulty", columnList = "difficulty"),
+		@Index(name = "idx_category_difficulty", columnList = "category_id, difficulty") })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@NamedEntityGraph(name = Word.WITH_SENTENCES, attributeNodes = @NamedAttributeNode("sentences"))
 public class Word {
+	/**
+	 * Entity graph that loads the example sentences with the word. Sentences are
+	 * lazy otherwise, since most reads only need the word itself.
+	 */
+	public static final String WITH_SENTENCES = "Word.withSentences";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -51,7 +64,8 @@ public class Word {
 //	@OneToMany(mappedBy = "word", cascade = CascadeType.ALL, orphanRemoval = true)
 //	private List<ExampleSentence> sentences;
 	@JsonIgnore
-	@OneToMany(mappedBy = "word", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.EAGER)
+	@OneToMany(mappedBy = "word", cascade = CascadeType.ALL, orphanRemoval = true)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 	private List<ExampleSentence> sentences;
 
 	public Word() {
@@ -0,0 +1,146 @@
+package com.lingotower.security;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.dto.security.CredentialHashingStatsDTO;
+import com.lingotower.exception.ServerBusyException;
+import com.lingotower.util.LatencyHistogram;
+import com.nulabinc.zxcvbn.Zxcvbn;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs the CPU-bound part of signing in and signing up, BCrypt and password
+ * strength scoring, on a small pool sized to the cores instead of on the
+ * request threads. The pool's queue is bounded: when it is full, or a caller
+ * has waited longer than the configured limit, the caller gets a
+ * ServerBusyException (503) right away, so a burst of logins cannot tie up
+ * the servlet pool and stall every other endpoint.
+ */
+@Component
+public class CredentialHasher {
+
+	private static final int MIN_STRENGTH_SCORE = 3;
+	private static final String BUSY_MESSAGE = "Too many sign-in attempts right now. Please try again in a moment.";
+
+	private final PasswordEncoder passwordEncoder;
+	// Zxcvbn keeps no state between measurements, so one instance serves all threads
+	private final Zxcvbn zxcvbn = new Zxcvbn();
+	private final ThreadPoolExecutor executor;
+	private final long maxWaitMs;
+
+	private final LatencyHistogram hashLatency = new LatencyHistogram(Duration.ofMinutes(1));
+	private final LatencyHistogram queueWait = new LatencyHistogram(Duration.ofMinutes(1));
+	private final LongAdder completed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+	private final LongAdder timedOut = new LongAdder();
+
+	public CredentialHasher(PasswordEncoder passwordEncoder, @Value("${security.hashing.threads:0}") int threads,
+			@Value("${security.hashing.max-queued:64}") int maxQueued,
+			@Value("${security.hashing.max-wait-ms:5000}") long maxWaitMs) {
+		this.passwordEncoder = passwordEncoder;
+		this.maxWaitMs = maxWaitMs;
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(Math.max(1, maxQueued)), runnable -> {
+					Thread thread = new Thread(runnable, "credential-hasher-" + threadNumber.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * @param rawPassword     The password as entered.
+	 * @param encodedPassword The stored hash.
+	 * @return Whether the password matches the hash.
+	 * @throws ServerBusyException If the pool is saturated.
+	 */
+	public boolean matches(String rawPassword, String encodedPassword) {
+		return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	/**
+	 * @param rawPassword The password to hash.
+	 * @return The hash to store.
+	 * @throws ServerBusyException If the pool is saturated.
+	 */
+	public String encode(String rawPassword) {
+		return run(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	/**
+	 * Checks the password strength with zxcvbn. A password is strong enough if
+	 * its score is 3 or more (scale is 0–4).
+	 *
+	 * @param password The password to score.
+	 * @return Whether the password is strong enough.
+	 * @throws ServerBusyException If the pool is saturated.
+	 */
+	public boolean isStrong(String password) {
+		return run(() -> zxcvbn.measure(password).getScore() >= MIN_STRENGTH_SCORE);
+	}
+
+	public CredentialHashingStatsDTO getStats() {
+		return new CredentialHashingStatsDTO(executor.getMaximumPoolSize(), executor.getActiveCount(),
+				executor.getQueue().size(), completed.sum(), rejected.sum(), timedOut.sum(),
+				hashLatency.percentileMillis(50), hashLatency.percentileMillis(95), hashLatency.percentileMillis(99),
+				queueWait.percentileMillis(50), queueWait.percentileMillis(95), queueWait.percentileMillis(99),
+				hashLatency.getRecentBuckets());
+	}
+
+	private <T> T run(Supplier<T> work) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				long startedAt = System.nanoTime();
+				queueWait.record(startedAt - submittedAt);
+				T result = work.get();
+				hashLatency.record(System.nanoTime() - startedAt);
+				completed.increment();
+				return result;
+			});
+		} catch (RejectedExecutionException e) {
+			rejected.increment();
+			throw new ServerBusyException(BUSY_MESSAGE);
+		}
+
+		try {
+			return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			// A task still in the queue is skipped when its turn comes
+			future.cancel(false);
+			timedOut.increment();
+			throw new ServerBusyException(BUSY_MESSAGE);
+		} catch (InterruptedException e) {
+			future.cancel(false);
+			Thread.currentThread().interrupt();
+			throw new ServerBusyException(BUSY_MESSAGE);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
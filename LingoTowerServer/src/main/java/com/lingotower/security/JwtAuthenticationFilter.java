@@ -6,26 +6,27 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtVerifier jwtVerifier;
+	private final UserProfileCache userProfileCache;
 
-	public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-		this.jwtTokenProvider = jwtTokenProvider;
+	public JwtAuthenticationFilter(JwtVerifier jwtVerifier, UserProfileCache userProfileCache) {
+		this.jwtVerifier = jwtVerifier;
+		this.userProfileCache = userProfileCache;
 	}
 
 	/**
 	 * This filter intercepts incoming HTTP requests to authenticate users based on
 	 * JWT tokens. It extracts the token from the "Authorization" header, validates
-	 * it, and if valid, sets the authentication context for the current request. If
-	 * the token is expired or invalid, it sends an unauthorized (401) response.
+	 * it, and if valid, sets the authentication context for the current request and
+	 * hands the profile signed into the token to the UserProfileCache. If the token
+	 * is expired or invalid, it sends an unauthorized (401) response.
 	 * 
 	 * @param request     The incoming HttpServletRequest.
 	 * @param response    The outgoing HttpServletResponse.
@@ -40,23 +41,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			throws ServletException, IOException {
 
 		String token = request.getHeader("Authorization");
-		System.out.println("Token received: " + token);
 
 		if (token != null && token.startsWith("Bearer ")) {
 			token = token.substring(7);
 
 			try {
-				String username = jwtTokenProvider.extractUsername(token);
-				String role = jwtTokenProvider.extractRole(token);
-
-				System.out.println("Token received: " + token);
-				System.out.println("Extracted username: " + username);
-				System.out.println("Extracted role: " + role);
+				VerifiedToken verified = jwtVerifier.verify(token);
+				String username = verified.username();
 
 				if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-					SimpleGrantedAuthority authority = new SimpleGrantedAuthority("ROLE_" + role.toUpperCase());
-					SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
-							username, null, Collections.singletonList(authority)));
+					SecurityContextHolder.getContext().setAuthentication(
+							new UsernamePasswordAuthenticationToken(username, null, verified.authorities()));
+					userProfileCache.putFromToken(request, verified);
 				}
 			} catch (ExpiredJwtException e) {
 				response.setStatus(401);
@@ -1,35 +1,52 @@
 package com.lingotower.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
+import javax.crypto.SecretKey;
+
 import org.springframework.stereotype.Component;
 
 import com.lingotower.model.BaseUser;
-import com.lingotower.model.User;
 
 @Component
 public class JwtTokenProvider {
 	private static final String SECRET_KEY = "mySecretKeymySecretKeymySecretKey";
+	static final Duration TOKEN_LIFETIME = Duration.ofHours(10);
+
+	// Both are immutable and thread-safe; deriving them per call cost more than
+	// the signature check itself
+	private final SecretKey key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+	private final JwtParser parser = Jwts.parser().verifyWith(key).build();
+	private final UserProfileCache userProfileCache;
+
+	public JwtTokenProvider(UserProfileCache userProfileCache) {
+		this.userProfileCache = userProfileCache;
+	}
 
 	/**
-	 * Generates a JWT token for the given user. The token includes the username and
-	 * role of the user as claims, and has an expiration time of 10 hours. It is
-	 * signed using HMAC-SHA-256 with the SECRET_KEY.
+	 * Generates a JWT token for the given user. The token includes the username,
+	 * role, id and languages of the user as claims, so that most requests need not
+	 * look the user up, along with the version of the languages it was issued at,
+	 * and has an expiration time of 10 hours. It is signed using HMAC-SHA-256 with
+	 * the SECRET_KEY.
 	 * 
 	 * @param user The BaseUser object for whom to generate the token.
 	 * @return The generated JWT token as a String.
 	 */
 	public String generateToken(BaseUser user) {
 		Instant now = Instant.now();
-		return Jwts.builder().subject(user.getUsername()).claim("role", user.getRole()).issuedAt(Date.from(now))
-				.expiration(Date.from(now.plus(10, ChronoUnit.HOURS)))
-				.signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()), Jwts.SIG.HS256).compact();
+		return Jwts.builder().subject(user.getUsername()).claim("role", user.getRole()).claim("uid", user.getId())
+				.claim("sourceLanguage", user.getSourceLanguage()).claim("targetLanguage", user.getTargetLanguage())
+				.claim("lv", userProfileCache.languageVersion(user.getUsername()))
+				.issuedAt(Date.from(now)).expiration(Date.from(now.plus(TOKEN_LIFETIME)))
+				.signWith(key, Jwts.SIG.HS256).compact();
 	}
 
 	/**
@@ -41,8 +58,7 @@ public class JwtTokenProvider {
 	 * @return The username extracted from the token.
 	 */
 	public String extractUsername(String token) {
-		return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes())).build().parseSignedClaims(token)
-				.getPayload().getSubject();
+		return getClaims(token).getSubject();
 	}
 
 	/**
@@ -54,8 +70,7 @@ public class JwtTokenProvider {
 	 * @return A Claims object containing all the claims in the token's payload.
 	 */
 	public Claims getClaims(String token) {
-		return Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes())).build().parseSignedClaims(token)
-				.getPayload();
+		return parser.parseSignedClaims(token).getPayload();
 	}
 
 	/**
@@ -0,0 +1,74 @@
+package com.lingotower.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.JwtException;
+
+/**
+ * Verifies bearer tokens for the authentication filter. A client sends the same
+ * token with every request, so tokens verified recently are remembered, keyed
+ * by their SHA-256 digest rather than the token itself, until they expire.
+ */
+@Component
+public class JwtVerifier {
+
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+
+	private final JwtTokenProvider jwtTokenProvider;
+	private final int maxEntries;
+	// ByteBuffer compares and hashes by content, which makes it a digest key
+	private final Map<ByteBuffer, VerifiedToken> verified;
+
+	public JwtVerifier(JwtTokenProvider jwtTokenProvider,
+			@Value("${security.jwt.cache.max-entries:1000}") int maxEntries) {
+		this.jwtTokenProvider = jwtTokenProvider;
+		this.maxEntries = maxEntries;
+		this.verified = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<ByteBuffer, VerifiedToken> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * @param token The compact token, without the "Bearer " prefix.
+	 * @return The principal of the token.
+	 * @throws JwtException If the signature is invalid or the token has expired
+	 *                      (ExpiredJwtException).
+	 */
+	public VerifiedToken verify(String token) {
+		if (maxEntries <= 0) {
+			return VerifiedToken.of(jwtTokenProvider.getClaims(token));
+		}
+		ByteBuffer key = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+		VerifiedToken cached = verified.get(key);
+		if (cached != null) {
+			if (cached.expiresAt() > System.currentTimeMillis()) {
+				return cached;
+			}
+			// Parsing it again reports the expiry the usual way
+			verified.remove(key);
+		}
+		VerifiedToken verifiedToken = VerifiedToken.of(jwtTokenProvider.getClaims(token));
+		verified.put(key, verifiedToken);
+		return verifiedToken;
+	}
+}
@@ -1,5 +1,7 @@
 package com.lingotower.security;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -9,16 +11,17 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
-import com.lingotower.security.JwtTokenProvider;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
-	private final JwtTokenProvider jwtTokenProvider;
+	private final JwtVerifier jwtVerifier;
+	private final UserProfileCache userProfileCache;
 
-	public SecurityConfig(JwtTokenProvider jwtTokenProvider) {
-		this.jwtTokenProvider = jwtTokenProvider;
+	public SecurityConfig(JwtVerifier jwtVerifier, UserProfileCache userProfileCache) {
+		this.jwtVerifier = jwtVerifier;
+		this.userProfileCache = userProfileCache;
 	}
 
 	/**
@@ -35,12 +38,15 @@ public class SecurityConfig {
 	@Bean
 	public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		http.csrf(csrf -> csrf.disable())
-				.authorizeHttpRequests(authz -> authz.requestMatchers("/api/auth/**").permitAll()
+				// Async re-dispatches (e.g. completed translation futures) were already
+				// authorized on the original request
+				.authorizeHttpRequests(authz -> authz.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+						.requestMatchers("/api/auth/**").permitAll()
 						.requestMatchers("/api/admin/**").hasRole("ADMIN")
 						// .requestMatchers("/api/user/**").hasRole("USER")
 						.anyRequest().authenticated())
 				.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
-				.addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+				.addFilterBefore(new JwtAuthenticationFilter(jwtVerifier, userProfileCache),
 						UsernamePasswordAuthenticationFilter.class);
 
 		return http.build();
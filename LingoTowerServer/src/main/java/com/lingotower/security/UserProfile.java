@@ -0,0 +1,20 @@
+package com.lingotower.security;
+
+import com.lingotower.model.BaseUser;
+import com.lingotower.model.Role;
+
+/**
+ * What most requests need to know about their principal: who it is, its role
+ * and the languages it learns in.
+ */
+public record UserProfile(Long id, String username, Role role, String sourceLanguage, String targetLanguage) {
+
+	public static UserProfile of(BaseUser user) {
+		return new UserProfile(user.getId(), user.getUsername(), user.getRole(), user.getSourceLanguage(),
+				user.getTargetLanguage());
+	}
+
+	public boolean isAdmin() {
+		return role == Role.ADMIN;
+	}
+}
@@ -0,0 +1,158 @@
+package com.lingotower.security;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.lingotower.data.AdminRepository;
+import com.lingotower.data.UserRepository;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the profile of a principal with as few user-table queries as
+ * possible. A profile is looked up in the current request first, where the
+ * authentication filter puts the one signed into the token; then in a small
+ * in-process map whose entries live for a short time; and only then in the
+ * user and admin tables.
+ * <p>
+ * Language changes must call {@link #invalidate(String)}. Besides dropping the
+ * cached profile, this moves the principal's language version past the one
+ * signed into tokens issued before the change, so those fall back to the tables
+ * and other sessions of the user do not keep the old languages. Versions start
+ * at the startup time in milliseconds, so they keep increasing across restarts.
+ */
+@Component
+public class UserProfileCache {
+
+	private static final String REQUEST_ATTRIBUTE = UserProfile.class.getName();
+
+	private final UserRepository userRepository;
+	private final AdminRepository adminRepository;
+	private final long ttlMs;
+	private final Map<String, CachedProfile> profiles;
+	private final AtomicLong languageVersions = new AtomicLong(System.currentTimeMillis());
+	private final Map<String, LanguageChange> languageChanges = new ConcurrentHashMap<>();
+
+	public UserProfileCache(UserRepository userRepository, AdminRepository adminRepository,
+			@Value("${security.profile-cache.ttl-seconds:60}") long ttlSeconds,
+			@Value("${security.profile-cache.max-entries:10000}") int maxEntries) {
+		this.userRepository = userRepository;
+		this.adminRepository = adminRepository;
+		this.ttlMs = ttlSeconds * 1000;
+		this.profiles = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedProfile> eldest) {
+				return size() > maxEntries;
+			}
+		});
+	}
+
+	/**
+	 * @param username The username of a user or an admin.
+	 * @return The profile of the principal, or an empty Optional if there is no
+	 *         such user or admin.
+	 */
+	public Optional<UserProfile> get(String username) {
+		RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		if (request != null && request.getAttribute(REQUEST_ATTRIBUTE,
+				RequestAttributes.SCOPE_REQUEST) instanceof UserProfile profile && profile.username().equals(username)) {
+			return Optional.of(profile);
+		}
+
+		long now = System.currentTimeMillis();
+		CachedProfile cached = profiles.get(username);
+		UserProfile profile;
+		if (cached != null && cached.expiresAt() > now) {
+			profile = cached.profile();
+		} else {
+			profile = load(username);
+			if (profile == null) {
+				return Optional.empty();
+			}
+			profiles.put(username, new CachedProfile(profile, now + ttlMs));
+		}
+		if (request != null) {
+			request.setAttribute(REQUEST_ATTRIBUTE, profile, RequestAttributes.SCOPE_REQUEST);
+		}
+		return Optional.of(profile);
+	}
+
+	/**
+	 * Puts the profile signed into a token into the request, unless the token
+	 * predates a change of the principal's languages or carries no languages.
+	 *
+	 * @param request The request the token came with.
+	 * @param token   The verified token.
+	 */
+	public void putFromToken(HttpServletRequest request, VerifiedToken token) {
+		UserProfile profile = token.profile();
+		if (profile == null || isStale(profile.username(), token.languageVersion())) {
+			return;
+		}
+		request.setAttribute(REQUEST_ATTRIBUTE, profile);
+	}
+
+	/**
+	 * Drops the cached profile of a principal whose languages changed. Within a
+	 * transaction it is dropped once more after the commit, so that a request
+	 * that read the old row in between does not keep it cached.
+	 *
+	 * @param username The username of the principal.
+	 */
+	public void invalidate(String username) {
+		long now = System.currentTimeMillis();
+		languageChanges.values().removeIf(change -> change.at() < now - JwtTokenProvider.TOKEN_LIFETIME.toMillis());
+		languageChanges.put(username, new LanguageChange(languageVersions.incrementAndGet(), now));
+		profiles.remove(username);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					languageChanges.put(username,
+							new LanguageChange(languageVersions.incrementAndGet(), System.currentTimeMillis()));
+					profiles.remove(username);
+				}
+			});
+		}
+	}
+
+	/**
+	 * @param username The username of a principal.
+	 * @return The version of the principal's languages, for new tokens to carry.
+	 *         It is 0 while no change is recorded, that is, unless the languages
+	 *         changed within a token lifetime.
+	 */
+	public long languageVersion(String username) {
+		LanguageChange change = languageChanges.get(username);
+		return change == null ? 0 : change.version();
+	}
+
+	private boolean isStale(String username, Long languageVersion) {
+		LanguageChange change = languageChanges.get(username);
+		return change != null && (languageVersion == null || languageVersion < change.version());
+	}
+
+	private UserProfile load(String username) {
+		return userRepository.findByUsername(username).map(UserProfile::of)
+				.or(() -> adminRepository.findByUsername(username).map(UserProfile::of)).orElse(null);
+	}
+
+	private record CachedProfile(UserProfile profile, long expiresAt) {
+	}
+
+	private record LanguageChange(long version, long at) {
+	}
+}
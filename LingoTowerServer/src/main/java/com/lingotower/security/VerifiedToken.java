@@ -0,0 +1,53 @@
+package com.lingotower.security;
+
+import java.util.Date;
+import java.util.List;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.lingotower.model.Role;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+
+/**
+ * The principal of a token whose signature was verified, as the
+ * authentication filter needs it.
+ *
+ * @param username        The subject of the token.
+ * @param authorities     The authority granted by the role claim.
+ * @param profile         The profile signed into the token, or null for tokens
+ *                        issued before the languages were part of them.
+ * @param languageVersion The version of the principal's languages the token was
+ *                        issued at, or null for tokens issued before it was
+ *                        part of them.
+ * @param expiresAt       The expiration time in milliseconds, or Long.MAX_VALUE
+ *                        if the token does not expire.
+ */
+public record VerifiedToken(String username, List<GrantedAuthority> authorities, UserProfile profile,
+		Long languageVersion, long expiresAt) {
+
+	static VerifiedToken of(Claims claims) {
+		String role = claims.get("role", String.class);
+		if (role == null) {
+			throw new MalformedJwtException("Token has no role");
+		}
+		List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.toUpperCase()));
+		Date expiration = claims.getExpiration();
+		Number languageVersion = claims.get("lv", Number.class);
+		return new VerifiedToken(claims.getSubject(), authorities, profileOf(claims, role),
+				languageVersion == null ? null : languageVersion.longValue(),
+				expiration == null ? Long.MAX_VALUE : expiration.getTime());
+	}
+
+	private static UserProfile profileOf(Claims claims, String role) {
+		Number id = claims.get("uid", Number.class);
+		String targetLanguage = claims.get("targetLanguage", String.class);
+		if (id == null || targetLanguage == null) {
+			return null;
+		}
+		return new UserProfile(id.longValue(), claims.getSubject(), Role.valueOf(role.toUpperCase()),
+				claims.get("sourceLanguage", String.class), targetLanguage);
+	}
+}
@@ -4,9 +4,9 @@ import com.lingotower.data.AdminRepository;
 import com.lingotower.dto.admin.AdminCreateDTO;
 import com.lingotower.model.Admin;
 import com.lingotower.model.Role;
+import com.lingotower.security.CredentialHasher;
 import com.lingotower.security.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /*
@@ -19,13 +19,13 @@ public class AdminAuthService {
 	private final AuthHelperService<Admin> authHelperService;
 
 	/*
-	 * Constructor: receives the admin repository, password encoder, and JWT
+	 * Constructor: receives the admin repository, credential hasher, and JWT
 	 * provider. Creates an AuthHelperService to manage the authentication.
 	 */
 	@Autowired
-	public AdminAuthService(AdminRepository adminRepository, PasswordEncoder passwordEncoder,
+	public AdminAuthService(AdminRepository adminRepository, CredentialHasher credentialHasher,
 			JwtTokenProvider jwtTokenProvider) {
-		this.authHelperService = new AuthHelperService<>(adminRepository, passwordEncoder, jwtTokenProvider);
+		this.authHelperService = new AuthHelperService<>(adminRepository, credentialHasher, jwtTokenProvider);
 	}
 
 	/*
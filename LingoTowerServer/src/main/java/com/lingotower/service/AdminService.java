@@ -11,6 +11,7 @@ import com.lingotower.exception.IncorrectPasswordException;
 import com.lingotower.model.Admin;
 import com.lingotower.model.Role;
 import com.lingotower.model.User;
+import com.lingotower.security.CredentialHasher;
 import com.lingotower.security.JwtTokenProvider;
 
 import jakarta.transaction.Transactional;
@@ -33,15 +34,18 @@ public class AdminService extends BaseUserService<Admin> {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final PasswordEncoder passwordEncoder;
 	private final UserRepository userRepository;
+	private final CredentialHasher credentialHasher;
 
 	@Autowired
 	public AdminService(PasswordEncoder passwordEncoder, BaseUserRepository<Admin> baseUserRepository,
-			AdminRepository adminRepository, JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
+			AdminRepository adminRepository, JwtTokenProvider jwtTokenProvider, UserRepository userRepository,
+			CredentialHasher credentialHasher) {
 		super(passwordEncoder, baseUserRepository);
 		this.adminRepository = adminRepository;
 		this.jwtTokenProvider = jwtTokenProvider;
 		this.passwordEncoder = passwordEncoder;
 		this.userRepository = userRepository;
+		this.credentialHasher = credentialHasher;
 	}
 
 	// Change password of an admin by username
@@ -101,11 +105,11 @@ public class AdminService extends BaseUserService<Admin> {
 			throw new IllegalArgumentException("Email already exists");
 		}
 
-		if (!AuthHelperService.isPasswordStrong(adminCreateDTO.getPassword())) {
+		if (!credentialHasher.isStrong(adminCreateDTO.getPassword())) {
 			throw new IllegalArgumentException("Password is too weak. Please choose a stronger password.");
 		}
 
-		Admin newAdmin = new Admin(adminCreateDTO.getUsername(), passwordEncoder.encode(adminCreateDTO.getPassword()),
+		Admin newAdmin = new Admin(adminCreateDTO.getUsername(), credentialHasher.encode(adminCreateDTO.getPassword()),
 				adminCreateDTO.getEmail(), adminCreateDTO.getSourceLanguage(), adminCreateDTO.getTargetLanguage(),
 				Role.ADMIN);
 
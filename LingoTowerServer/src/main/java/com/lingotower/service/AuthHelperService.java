@@ -2,10 +2,8 @@ package com.lingotower.service;
 
 import com.lingotower.model.BaseUser;
 import com.lingotower.data.BaseUserRepository;
+import com.lingotower.security.CredentialHasher;
 import com.lingotower.security.JwtTokenProvider;
-import org.springframework.security.crypto.password.PasswordEncoder;
-import com.nulabinc.zxcvbn.Zxcvbn;
-import com.nulabinc.zxcvbn.Strength;
 
 /*
  * This helper class handles login and registration logic
@@ -14,17 +12,18 @@ import com.nulabinc.zxcvbn.Strength;
 public class AuthHelperService<T extends BaseUser> {
 
 	private final BaseUserRepository<T> baseUserRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final CredentialHasher credentialHasher;
 	private final JwtTokenProvider jwtTokenProvider;
 
 	/*
-	 * Constructor: needs the repository to find/save users, a password encoder to
-	 * hash passwords, and a token provider to generate JWTs.
+	 * Constructor: needs the repository to find/save users, the credential hasher
+	 * to check and hash passwords off the request threads, and a token provider
+	 * to generate JWTs.
 	 */
-	public AuthHelperService(BaseUserRepository<T> baseUserRepository, PasswordEncoder passwordEncoder,
+	public AuthHelperService(BaseUserRepository<T> baseUserRepository, CredentialHasher credentialHasher,
 			JwtTokenProvider jwtTokenProvider) {
 		this.baseUserRepository = baseUserRepository;
-		this.passwordEncoder = passwordEncoder;
+		this.credentialHasher = credentialHasher;
 		this.jwtTokenProvider = jwtTokenProvider;
 	}
 
@@ -33,10 +32,10 @@ public class AuthHelperService<T extends BaseUser> {
 	 * password matches and returns a JWT token if successful.
 	 */
 	public String login(String identifier, String password) {
-		T user = baseUserRepository.findByUsername(identifier).or(() -> baseUserRepository.findByEmail(identifier))
+		T user = baseUserRepository.findByIdentifier(identifier)
 				.orElseThrow(() -> new IllegalArgumentException("User not found"));
 
-		if (!passwordEncoder.matches(password, user.getPassword())) {
+		if (!credentialHasher.matches(password, user.getPassword())) {
 			throw new IllegalArgumentException("Invalid credentials");
 		}
 
@@ -57,22 +56,12 @@ public class AuthHelperService<T extends BaseUser> {
 			throw new IllegalArgumentException("Username is already taken");
 		}
 
-		if (!isPasswordStrong(plainPassword)) {
+		if (!credentialHasher.isStrong(plainPassword)) {
 			throw new IllegalArgumentException("Password is too weak. Please choose a stronger password.");
 		}
 
-		newUser.setPassword(passwordEncoder.encode(plainPassword));
+		newUser.setPassword(credentialHasher.encode(plainPassword));
 		baseUserRepository.save(newUser);
 		return jwtTokenProvider.generateToken(newUser);
 	}
-
-	/*
-	 * Checks if the password is strong using the zxcvbn library. It returns true if
-	 * the strength score is 3 or more (scale is 0–4).
-	 */
-	public static boolean isPasswordStrong(String password) {
-		Zxcvbn zxcvbn = new Zxcvbn();
-		Strength strength = zxcvbn.measure(password);
-		return strength.getScore() >= 3;
-	}
 }
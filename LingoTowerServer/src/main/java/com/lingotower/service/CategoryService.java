@@ -10,17 +10,16 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.lingotower.constants.LanguageConstants;
-import com.lingotower.data.AdminRepository;
 import com.lingotower.data.CategoryRepository;
-import com.lingotower.data.UserRepository;
 import com.lingotower.dto.category.CategoryDTO;
 import com.lingotower.dto.mapper.CategoryMapper;
 import com.lingotower.exception.CategoryAlreadyExistsException;
 import com.lingotower.exception.CategoryNotFoundException;
 import com.lingotower.exception.UserNotFoundException;
-import com.lingotower.model.Admin;
 import com.lingotower.model.Category;
-import com.lingotower.model.User;
+import com.lingotower.security.UserProfile;
+import com.lingotower.security.UserProfileCache;
+import com.lingotower.service.catalog.WordCatalog;
 
 /**
  * Service class for managing categories.
@@ -31,17 +30,18 @@ public class CategoryService {
     private final UserService userService;
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
-    private final AdminRepository adminRepository;
-    private final UserRepository userRepository;
+    private final UserProfileCache userProfileCache;
+    private final WordCatalog wordCatalog;
 
     @Autowired
     public CategoryService(UserService userService, CategoryRepository categoryRepository,
-                            CategoryMapper categoryMapper, AdminRepository adminRepository, UserRepository userRepository) {
+                            CategoryMapper categoryMapper, UserProfileCache userProfileCache,
+                            WordCatalog wordCatalog) {
         this.userService = userService;
         this.categoryRepository = categoryRepository;
         this.categoryMapper = categoryMapper;
-        this.adminRepository = adminRepository;
-        this.userRepository = userRepository;
+        this.userProfileCache = userProfileCache;
+        this.wordCatalog = wordCatalog;
     }
 
     /**
@@ -52,26 +52,20 @@ public class CategoryService {
      * @throws UserNotFoundException if the user is not found
      */
     public List<CategoryDTO> getAllCategoriesForUser(String username) {
-        Optional<Admin> optionalAdmin = adminRepository.findByUsername(username);
-        if (optionalAdmin.isPresent()) {
-            return getCategoriesForAdmin(optionalAdmin.get());
+        UserProfile profile = userProfileCache.get(username)
+                .orElseThrow(() -> new UserNotFoundException("Unauthorized user: " + username));
+        if (profile.isAdmin()) {
+            return getCategoriesForAdmin();
         }
-
-        Optional<User> optionalUser = userRepository.findByUsername(username);
-        if (optionalUser.isPresent()) {
-            return getCategoriesForUser(optionalUser.get());
-        }
-
-        throw new UserNotFoundException("Unauthorized user: " + username);
+        return getCategoriesForUser(profile.targetLanguage());
     }
 
     /**
      * Retrieves all categories for an admin.
      *
-     * @param admin the admin
      * @return list of categories
      */
-    private List<CategoryDTO> getCategoriesForAdmin(Admin admin) {
+    private List<CategoryDTO> getCategoriesForAdmin() {
         return categoryRepository.findAll().stream()
                 .map(category -> new CategoryDTO(category.getId(), category.getName(), category.getTranslation()))
                 .collect(Collectors.toList());
@@ -80,12 +74,10 @@ public class CategoryService {
     /**
      * Retrieves all categories for a user considering the target language.
      *
-     * @param user the user
+     * @param targetLanguage the target language of the user
      * @return list of categories with language adjustments
      */
-    private List<CategoryDTO> getCategoriesForUser(User user) {
-        String targetLanguage = user.getTargetLanguage();
-
+    private List<CategoryDTO> getCategoriesForUser(String targetLanguage) {
         return categoryRepository.findAll().stream()
                 .map(category -> new CategoryDTO(
                         category.getId(),
@@ -123,7 +115,9 @@ public class CategoryService {
         return categoryRepository.findByName(name).orElseGet(() -> {
             Category newCategory = new Category();
             newCategory.setName(name);
-            return categoryRepository.save(newCategory);
+            Category saved = categoryRepository.save(newCategory);
+            wordCatalog.reloadCategories();
+            return saved;
         });
     }
 
@@ -168,7 +162,9 @@ public class CategoryService {
             throw new CategoryAlreadyExistsException("Category with this name already exists");
         }
 
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        wordCatalog.reloadCategories();
+        return saved;
     }
 
     /**
@@ -192,7 +188,9 @@ public class CategoryService {
      * @return saved category
      */
     public Category saveCategory(Category category) {
-        return categoryRepository.save(category);
+        Category saved = categoryRepository.save(category);
+        wordCatalog.reloadCategories();
+        return saved;
     }
 
     /**
@@ -206,6 +204,7 @@ public class CategoryService {
             throw new CategoryNotFoundException("Category not found with id: " + id);
         }
         categoryRepository.deleteById(id);
+        wordCatalog.reload();
     }
 
     /**
@@ -219,7 +218,9 @@ public class CategoryService {
     public Category updateCategory(Long id, CategoryDTO categoryDTO) throws CategoryNotFoundException {
         Category existingCategory = getCategoryById(id);
         existingCategory.setName(categoryDTO.getName());
-        return categoryRepository.save(existingCategory);
+        Category saved = categoryRepository.save(existingCategory);
+        wordCatalog.reloadCategories();
+        return saved;
     }
 
     /**
@@ -227,5 +228,6 @@ public class CategoryService {
      */
     public void deleteAllCategories() {
         categoryRepository.deleteAll();
+        wordCatalog.reload();
     }
 }
@@ -4,19 +4,21 @@ import com.lingotower.data.ExampleSentenceRepository;
 import com.lingotower.data.WordRepository;
 import com.lingotower.dto.quiz.QuestionDTO;
 import com.lingotower.dto.mapper.QuestionMapper;
+import com.lingotower.dto.word.ExampleSentenceView;
 import com.lingotower.dto.word.WordByCategory;
+import com.lingotower.dto.word.WordTranslationView;
 import com.lingotower.exception.ServiceOperationException;
 import com.lingotower.model.Category;
 import com.lingotower.model.Difficulty;
 import com.lingotower.model.ExampleSentence;
 import com.lingotower.model.Question;
 import com.lingotower.model.Word;
+import com.lingotower.util.ClozeTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -75,88 +77,76 @@ public class CompletionPracticeService {
 			throw new ServiceOperationException("No example sentences found for the word: " + word.getWord());
 		}
 		ExampleSentence selectedSentence = sentences.get(random.nextInt(sentences.size()));
-		String sentenceText = selectedSentence.getSentenceText();
-		String translatedSentenceText = selectedSentence.getTranslatedText();
-
-		String correctAnswerOriginal;
-		if (isHebrew && translatedSentenceText != null) {
-			correctAnswerOriginal = extractCorrectAnswerHebrew(translatedSentenceText);
-		} else {
-			correctAnswerOriginal = extractCorrectAnswer(sentenceText);
+		ClozeTemplate template = isHebrew && selectedSentence.getTranslatedText() != null
+				? selectedSentence.getTranslatedClozeTemplate()
+				: selectedSentence.getClozeTemplate();
+		Optional<CompletionDraft> draft = createDraft(category, difficulty, template);
+		if (draft.isEmpty()) {
+			return Optional.empty();
 		}
-		if (correctAnswerOriginal == null) {
-			return Optional.empty(); 
-		}
-
-		String questionText = isHebrew && translatedSentenceText != null
-				? translatedSentenceText.replaceFirst("\\b" + Pattern.quote(correctAnswerOriginal) + "\\b", "_____")
-				: sentenceText.replaceFirst("\\b" + Pattern.quote(correctAnswerOriginal) + "\\b", "_____");
-
-		questionText = questionText.replaceAll("\\s+", " ").trim();
-
-		String finalCorrectAnswer = correctAnswerOriginal;
-
-		List<String> wrongAnswers = questionBankService.getWrongCompletionOptions(category.getName(), difficulty,
-				correctAnswerOriginal, 4);
+		List<CompletionDraft> drafts = List.of(draft.get());
 		if (isHebrew) {
-			wrongAnswers = wrongAnswers.stream().map(wrongAnswer -> {
-				Optional<Word> wrongWordOptional = wordRepository.findByWordAndCategory(wrongAnswer, category);
-				return wrongWordOptional.map(Word::getTranslation).orElse(wrongAnswer);
-			}).filter(Objects::nonNull).collect(Collectors.toList());
+			drafts = translateWrongAnswers(category, drafts);
 		}
-
-		Question question = questionBankService.createCompletionQuestion(questionText, finalCorrectAnswer, wrongAnswers,
-				category, difficulty);
-
-		List<String> finalOptions = new ArrayList<>();
-		finalOptions.add(question.getCorrectAnswer());
-		wrongAnswers.stream().limit(4).forEach(finalOptions::add);
-		Collections.shuffle(finalOptions);
-
-		QuestionDTO dto = new QuestionDTO(question.getId(), question.getQuestionText(), finalOptions,
-				question.getCorrectAnswer(), question.getCategory());
-		return Optional.of(dto);
+		return Optional.of(toQuestionDTO(category, difficulty, drafts.get(0)));
 	}
 
 	/**
-	 * Extracts the correct answer from a given English sentence for completion practice.
-	 * It prioritizes longer, less common words.
-	 * @param sentenceText The English sentence.
-	 * @return The extracted correct answer, or null if none is found.
+	 * Turns the cloze template of an example sentence into a question text with a
+	 * blank, its correct answer and wrong answers among the words of the category.
+	 * @param category The category of the question.
+	 * @param difficulty The difficulty level of the question.
+	 * @param template The cloze template of the sentence in the user's language.
+	 * @return The question draft, or an empty Optional if the sentence has no suitable word to blank out.
 	 */
-	private String extractCorrectAnswer(String sentenceText) {
-		String[] wordsInSentence = sentenceText.split("\\s+");
-		List<String> commonShortWords = List.of("a", "the", "is", "are", "in", "on", "at", "to", "for", "with");
-
-		// Starting from the second word in the sentence
-		for (int i = 1; i < wordsInSentence.length; i++) {
-			String word = wordsInSentence[i];
-			if (word.length() > 2 && !commonShortWords.contains(word.toLowerCase())) {
-				return word;
-			}
+	private Optional<CompletionDraft> createDraft(Category category, Difficulty difficulty, ClozeTemplate template) {
+		if (template == null) {
+			return Optional.empty();
 		}
-		return null;
+		String correctAnswer = template.answer();
+		List<String> wrongAnswers = questionBankService.getWrongCompletionOptions(category.getId(), difficulty,
+				correctAnswer, 4);
+		return Optional.of(new CompletionDraft(template.questionText(), correctAnswer, wrongAnswers));
 	}
 
 	/**
-	 * Extracts the correct answer from a given Hebrew sentence for completion practice.
-	 * It prioritizes longer, less common words (excluding common short Hebrew words).
-	 * @param sentenceText The Hebrew sentence.
-	 * @return The extracted correct answer, or null if none is found.
+	 * Replaces the English wrong answers of the drafts by their Hebrew translations, looking all of them up in a
+	 * single query. Words without a translation are kept as they are.
+	 * @param category The category of the questions.
+	 * @param drafts The question drafts.
+	 * @return The drafts with translated wrong answers.
 	 */
-	private String extractCorrectAnswerHebrew(String sentenceText) {
-		List<String> commonShortWords = List.of("של", "עם", "זה", "על", "גם", "את", "אם", "לא", "כן", "יש", "אין", "מה",
-				"אני", "הוא", "היא", "אתה", "את", "אנחנו", "הם", "הן", "ב", "ל", "ו", "כ", "ש", "מ");
-
-		String[] wordsInSentence = sentenceText.split("\\s+");
-
-		for (int i = 1; i < wordsInSentence.length; i++) {
-			String word = wordsInSentence[i].replaceAll("[^א-ת]", "").trim();
-			if (word.length() > 2 && !commonShortWords.contains(word)) {
-				return word;
+	private List<CompletionDraft> translateWrongAnswers(Category category, List<CompletionDraft> drafts) {
+		Set<String> wrongWords = new HashSet<>();
+		drafts.forEach(draft -> wrongWords.addAll(draft.wrongAnswers()));
+		if (wrongWords.isEmpty()) {
+			return drafts;
+		}
+		Map<String, String> translations = new HashMap<>();
+		for (WordTranslationView view : wordRepository.findTranslationsByCategoryIdAndWordIn(category.getId(),
+				wrongWords)) {
+			if (view.getTranslation() != null) {
+				translations.putIfAbsent(view.getWord(), view.getTranslation());
 			}
 		}
-		return null;
+		return drafts.stream()
+				.map(draft -> new CompletionDraft(draft.questionText(), draft.correctAnswer(),
+						draft.wrongAnswers().stream().map(wrong -> translations.getOrDefault(wrong, wrong))
+								.collect(Collectors.toList())))
+				.collect(Collectors.toList());
+	}
+
+	private QuestionDTO toQuestionDTO(Category category, Difficulty difficulty, CompletionDraft draft) {
+		Question question = questionBankService.createCompletionQuestion(draft.questionText(), draft.correctAnswer(),
+				draft.wrongAnswers(), category, difficulty);
+
+		List<String> finalOptions = new ArrayList<>();
+		finalOptions.add(question.getCorrectAnswer());
+		draft.wrongAnswers().stream().limit(4).forEach(finalOptions::add);
+		Collections.shuffle(finalOptions);
+
+		return new QuestionDTO(question.getId(), question.getQuestionText(), finalOptions, question.getCorrectAnswer(),
+				question.getCategory());
 	}
 
 	/**
@@ -170,21 +160,57 @@ public class CompletionPracticeService {
 	public List<QuestionDTO> generateMultipleCompletionPractices(String categoryName, Difficulty difficulty,
 			Integer count, String username) {
 		int numQuestions = (count != null) ? count : DEFAULT_COMPLETION_QUESTIONS;
-		List<QuestionDTO> questions = new ArrayList<>();
+		Category category = categoryService.findByName(categoryName)
+				.orElseThrow(() -> new ServiceOperationException("No matching category found: " + categoryName));
+		String userLanguage = wordService.getUserLanguage(username);
+		boolean isHebrew = "he".equalsIgnoreCase(userLanguage);
+
+		List<ExampleSentenceView> sentences = exampleSentenceRepository
+				.findViewsByCategoryAndDifficulty(category.getId(), difficulty);
+		List<CompletionDraft> drafts = new ArrayList<>();
 		Set<String> generatedQuestions = new HashSet<>();
+		for (ExampleSentenceView sentence : inRandomOrder(sentences)) {
+			if (drafts.size() == numQuestions) {
+				break;
+			}
+			ClozeTemplate template = isHebrew && sentence.getTranslatedText() != null ? sentence.hebrewCloze()
+					: sentence.englishCloze();
+			createDraft(category, difficulty, template)
+					.filter(draft -> generatedQuestions.add(draft.questionText())).ifPresent(drafts::add);
+		}
+		if (isHebrew) {
+			drafts = translateWrongAnswers(category, drafts);
+		}
+		return drafts.stream().map(draft -> toQuestionDTO(category, difficulty, draft)).collect(Collectors.toList());
+	}
 
-		for (int i = 0; i < numQuestions; i++) {
-			Optional<QuestionDTO> questionOptional = generateCompletionPractice(categoryName, difficulty, username);
-			questionOptional.ifPresent(question -> {
-				if (!generatedQuestions.contains(question.getQuestionText())) {
-					questions.add(question);
-					generatedQuestions.add(question.getQuestionText());
+	/**
+	 * Orders sentences so that every word gets a turn before any word gets a second
+	 * sentence: words in random order, and a random sentence of each word per round.
+	 * Each sentence appears once, so no sentence is ever drawn twice.
+	 * @param sentences The sentences of all words of a category and difficulty.
+	 * @return The same sentences in random order.
+	 */
+	private List<ExampleSentenceView> inRandomOrder(List<ExampleSentenceView> sentences) {
+		Map<Long, List<ExampleSentenceView>> byWord = new HashMap<>();
+		for (ExampleSentenceView sentence : sentences) {
+			byWord.computeIfAbsent(sentence.getWordId(), id -> new ArrayList<>()).add(sentence);
+		}
+		List<List<ExampleSentenceView>> words = new ArrayList<>(byWord.values());
+		Collections.shuffle(words, random);
+		words.forEach(wordSentences -> Collections.shuffle(wordSentences, random));
+
+		List<ExampleSentenceView> ordered = new ArrayList<>(sentences.size());
+		for (int round = 0; ordered.size() < sentences.size(); round++) {
+			for (List<ExampleSentenceView> wordSentences : words) {
+				if (round < wordSentences.size()) {
+					ordered.add(wordSentences.get(round));
 				}
-			});
-			if (questions.size() == numQuestions) {
-				break;
 			}
 		}
-		return questions;
+		return ordered;
+	}
+
+	private record CompletionDraft(String questionText, String correctAnswer, List<String> wrongAnswers) {
 	}
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.lingotower.service;
 import com.lingotower.data.ExampleSentenceRepository;
 import com.lingotower.exception.ServiceOperationException;
 import com.lingotower.model.ExampleSentence;
+import com.lingotower.service.catalog.CatalogVersion;
+import com.lingotower.util.TextTokenizer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,6 +17,8 @@ public class DataCleaningService {
 
 	@Autowired
 	private ExampleSentenceRepository exampleSentenceRepository;
+	@Autowired
+	private CatalogVersion catalogVersion;
 
 	/**
 	 * Cleans the sentence text and translated text of all example sentences by
@@ -27,15 +31,19 @@ public class DataCleaningService {
 		List<ExampleSentence> allSentences = exampleSentenceRepository.findAll();
 		try {
 			for (ExampleSentence sentence : allSentences) {
-				String cleanedSentenceText = sentence.getSentenceText().trim().replaceAll("\\s{2,}", " ");
-				String cleanedTranslatedText = (sentence.getTranslatedText() != null)
-						? sentence.getTranslatedText().trim().replaceAll("\\s{2,}", " ")
-						: null;
+				String cleanedSentenceText = TextTokenizer.collapseWhitespace(sentence.getSentenceText());
+				String cleanedTranslatedText = TextTokenizer.collapseWhitespace(sentence.getTranslatedText());
+				// Already clean text comes back as the same instance
+				if (cleanedSentenceText == sentence.getSentenceText()
+						&& cleanedTranslatedText == sentence.getTranslatedText()) {
+					continue;
+				}
 
 				sentence.setSentenceText(cleanedSentenceText);
 				sentence.setTranslatedText(cleanedTranslatedText);
 				exampleSentenceRepository.save(sentence);
 			}
+			catalogVersion.bump();
 		} catch (Exception e) {
 			throw new ServiceOperationException("An error occurred while cleaning example sentence data.", e);
 		}
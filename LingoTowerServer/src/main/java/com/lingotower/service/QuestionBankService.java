@@ -1,19 +1,18 @@
 package com.lingotower.service;
 
-import com.lingotower.data.WordRepository;
 import com.lingotower.dto.word.WordByCategory;
 import com.lingotower.exception.ServiceOperationException;
 import com.lingotower.model.Category;
 import com.lingotower.model.Difficulty;
 import com.lingotower.model.Question;
 import com.lingotower.model.Word;
+import com.lingotower.service.catalog.DistractorIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,14 +20,12 @@ public class QuestionBankService {
 
 	private static final int NUMBER_OF_WRONG_OPTIONS = 4;
 
-	@Autowired
-	private WordRepository wordRepository;
 	@Autowired
 	private WordService wordService;
 	@Autowired
 	private CategoryService categoryService;
-
-	private final Random random = new Random();
+	@Autowired
+	private DistractorIndex distractorIndex;
 
 	/**
 	 * Retrieves a list of random translated words for a given category and
@@ -43,18 +40,10 @@ public class QuestionBankService {
 	 */
 	public List<WordByCategory> getRandomTranslatedWords(String categoryName, Difficulty difficulty,
 			String userLanguage, int count) {
-		Optional<Category> categoryOptional = categoryService.findByName(categoryName);
-		if (categoryOptional.isEmpty()) {
-			throw new ServiceOperationException("Category not found: " + categoryName);
-		}
-		Category category = categoryOptional.get();
-		List<Word> allWords = wordRepository.findByCategoryAndDifficulty(category, difficulty);
-		if (allWords.isEmpty()) {
-			return Collections.emptyList(); // It's acceptable to return an empty list if no words are found.
-		}
-		Collections.shuffle(allWords, random);
-		return wordService.mapWordsToLanguage(allWords.stream().limit(count).collect(Collectors.toList()),
-				userLanguage);
+		Category category = categoryService.findByName(categoryName)
+				.orElseThrow(() -> new ServiceOperationException("Category not found: " + categoryName));
+		// An empty list is acceptable if no words are found.
+		return wordService.getRandomWords(category.getId(), difficulty, count, userLanguage);
 	}
 
 	/**
@@ -75,34 +64,25 @@ public class QuestionBankService {
 			throw new ServiceOperationException("Category not found: " + categoryName);
 		}
 		Category category = categoryOptional.get();
-		return wordRepository.findByCategoryAndDifficulty(category, difficulty).stream()
-				.filter(w -> !w.getId().equals(correctWord.getId())).map(w -> {
-					List<WordByCategory> translatedWords = wordService.mapWordsToLanguage(Collections.singletonList(w),
-							userLanguage);
-					return translatedWords.isEmpty() ? w.getWord() : translatedWords.get(0).getTranslatedText();
-				}).distinct().limit(NUMBER_OF_WRONG_OPTIONS).collect(Collectors.toList());
+		String correctAnswer = wordService.mapWordsToLanguage(Collections.singletonList(correctWord), userLanguage)
+				.get(0).getTranslatedText();
+		return distractorIndex.distractors(category.getId(), difficulty, userLanguage, correctAnswer,
+				Math.min(count, NUMBER_OF_WRONG_OPTIONS));
 	}
 
 	/**
 	 * Retrieves a list of wrong completion options.
 	 * 
-	 * @param categoryName  The name of the category.
+	 * @param categoryId    The id of the category, already looked up by the caller.
 	 * @param difficulty    The difficulty level.
 	 * @param correctAnswer The correct answer.
 	 * @param count         The number of wrong options to retrieve.
 	 * @return A list of wrong answer strings.
-	 * @throws ServiceOperationException if the category is not found.
 	 */
-	public List<String> getWrongCompletionOptions(String categoryName, Difficulty difficulty, String correctAnswer,
+	public List<String> getWrongCompletionOptions(Long categoryId, Difficulty difficulty, String correctAnswer,
 			int count) {
-		Optional<Category> categoryOptional = categoryService.findByName(categoryName);
-		if (categoryOptional.isEmpty()) {
-			throw new ServiceOperationException("Category not found: " + categoryName);
-		}
-		Category category = categoryOptional.get();
-		return wordRepository.findByCategoryAndDifficulty(category, difficulty).stream()
-				.filter(w -> !w.getWord().equalsIgnoreCase(correctAnswer)).map(Word::getWord).distinct()
-				.limit(NUMBER_OF_WRONG_OPTIONS).collect(Collectors.toList());
+		return distractorIndex.wordDistractors(categoryId, difficulty, correctAnswer,
+				Math.min(count, NUMBER_OF_WRONG_OPTIONS));
 	}
 
 	/**
@@ -11,6 +11,8 @@ import com.lingotower.data.UserRepository;
 import com.lingotower.data.WordRepository;
 import com.lingotower.dto.quiz.QuestionDTO;
 import com.lingotower.dto.word.WordByCategory;
+import com.lingotower.service.catalog.DistractorIndex;
+import com.lingotower.service.quiz.QuizPool;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -32,9 +34,13 @@ public class QuizService {
 	private final UserRepository userRepository;
 	private final AdminRepository adminRepository;
 	private final WordService wordService;
+	private final DistractorIndex distractorIndex;
+	private final QuizPool quizPool;
 
 	public QuizService(WordRepository wordRepository, UserRepository userRepository, AdminRepository adminRepository,
-			WordService wordService) {
+			WordService wordService, DistractorIndex distractorIndex, QuizPool quizPool) {
+		this.distractorIndex = distractorIndex;
+		this.quizPool = quizPool;
 		this.wordRepository = wordRepository;
 		this.userRepository = userRepository;
 		this.adminRepository = adminRepository;
@@ -68,8 +74,8 @@ public class QuizService {
 	}
 
 	/**
-	 * Generates a list of quiz questions. It selects random words based on category
-	 * and difficulty, retrieves wrong options, and creates QuestionDTO objects.
+	 * Generates a list of quiz questions. Quizzes are usually taken ready-made from
+	 * the quiz pool; see buildQuiz for how they are made.
 	 * 
 	 * @param categoryId        The ID of the category for the quiz.
 	 * @param difficulty        The difficulty level for the quiz.
@@ -82,18 +88,27 @@ public class QuizService {
 			Integer numberOfQuestions) {
 		int numQuestions = (numberOfQuestions != null) ? numberOfQuestions : DEFAULT_QUIZ_SIZE;
 		String userLanguage = wordService.getUserLanguage(username);
+		return quizPool.take(categoryId, difficulty, userLanguage,
+				() -> buildQuiz(categoryId, difficulty, userLanguage));
+	}
+
+	/**
+	 * Builds a quiz. It selects random words based on category and difficulty,
+	 * retrieves wrong options, and creates QuestionDTO objects.
+	 * 
+	 * @param categoryId   The ID of the category for the quiz.
+	 * @param difficulty   The difficulty level for the quiz.
+	 * @param userLanguage The language the quiz is shown in.
+	 * @return A list of QuestionDTO objects.
+	 */
+	private List<QuestionDTO> buildQuiz(Long categoryId, Difficulty difficulty, String userLanguage) {
 		List<WordByCategory> selectedWords = wordService.getRandomTranslatedWordsByCategoryAndDifficulty(categoryId,
 				difficulty, userLanguage);
-		List<WordByCategory> allWords = wordService.getTranslatedWordsByCategoryAndDifficulty(categoryId, difficulty,
-				userLanguage);
 
 		List<QuestionDTO> questions = new ArrayList<>();
 
 		for (WordByCategory correctWord : selectedWords) {
-			List<String> wrongOptions = allWords.stream()
-					.filter(w -> !w.getTranslatedText().equals(correctWord.getTranslatedText()))
-					.map(WordByCategory::getTranslatedText).distinct().limit(NUMBER_OF_WRONG_OPTIONS)
-					.collect(Collectors.toList());
+			List<String> wrongOptions = getWrongOptions(categoryId, difficulty, userLanguage, correctWord);
 
 			List<String> options = new ArrayList<>(wrongOptions);
 			options.add(correctWord.getTranslatedText());
@@ -109,10 +124,10 @@ public class QuizService {
 		return questions;
 	}
 
-	private List<String> getWrongOptions(List<WordByCategory> allWords, WordByCategory correctWord) {
-		return allWords.stream().filter(w -> !w.getTranslatedText().equals(correctWord.getTranslatedText()))
-				.map(WordByCategory::getTranslatedText).distinct().limit(NUMBER_OF_WRONG_OPTIONS)
-				.collect(Collectors.toList());
+	private List<String> getWrongOptions(Long categoryId, Difficulty difficulty, String userLanguage,
+			WordByCategory correctWord) {
+		return distractorIndex.distractors(categoryId, difficulty, userLanguage, correctWord.getTranslatedText(),
+				NUMBER_OF_WRONG_OPTIONS);
 	}
 
 	private QuestionDTO createQuestion(WordByCategory correctWord, List<String> options) {
@@ -1,15 +1,25 @@
 package com.lingotower.service;
 
-import com.lingotower.dto.*;
-import com.lingotower.dto.translation.TranslationRequestDTO;
-import com.lingotower.dto.translation.TranslationResponseDTO;
+import com.lingotower.constants.LanguageConstants;
+import com.lingotower.dto.translation.PhraseTranslationStatsDTO;
+import com.lingotower.service.translation.TranslationCoalescer;
+import com.lingotower.service.translation.TranslationMemory;
+import com.lingotower.service.translation.TranslationPriority;
+import com.lingotower.service.translation.TranslationProviderRouter;
+import com.lingotower.service.translation.TranslationRequest;
+import com.lingotower.util.PhraseSegmenter;
+import com.lingotower.util.PhraseSegmenter.Segment;
+import com.lingotower.util.TextTokenizer;
+import com.lingotower.util.TextTokenizer.Script;
 
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,45 +27,90 @@ import org.slf4j.LoggerFactory;
 @Service
 public class TranslationService {
 
-	private static final String TRANSLATE_API_URL = "https://api.mymemory.translated.net/get?q={text}&langpair={source}|{target}";
 	private static final Logger logger = LoggerFactory.getLogger(TranslationService.class);
 
+	private final TranslationProviderRouter translationProviderRouter;
+	private final TranslationMemory translationMemory;
+	private final TranslationCoalescer translationCoalescer;
+
+	private final LongAdder phraseSentences = new LongAdder();
+	private final LongAdder phraseSegments = new LongAdder();
+	private final LongAdder phraseSegmentHits = new LongAdder();
+	private final LongAdder phraseBatchedCalls = new LongAdder();
+	private final LongAdder phraseBatchFallbacks = new LongAdder();
+
+	public TranslationService(TranslationProviderRouter translationProviderRouter,
+			TranslationMemory translationMemory, TranslationCoalescer translationCoalescer) {
+		this.translationProviderRouter = translationProviderRouter;
+		this.translationMemory = translationMemory;
+		this.translationCoalescer = translationCoalescer;
+	}
+
 	/**
-	 * Translates a given word from a source language to a target language using an
-	 * external API. It constructs the API URL and uses RestTemplate to make the
-	 * request. The translated text is extracted from the TranslationResponse
-	 * object. If the response is null or an error occurs, it returns null, but also
-	 * throws a RuntimeException in case of a critical error.
-	 * 
+	 * Translates a given word from a source language to a target language. Known
+	 * translations are served by the local providers or the translation memory;
+	 * only misses go to the remote providers. If the response is null it returns null, and it throws a
+	 * RuntimeException in case of a critical error.
+	 *
 	 * @param word       The word to be translated.
 	 * @param sourceLang The source language code (e.g., "en").
 	 * @param targetLang The target language code (e.g., "he").
 	 * @return The translated text, or null if translation fails.
 	 */
 	public String translateText(String word, String sourceLang, String targetLang) {
-		RestTemplate restTemplate = new RestTemplate();
-		sourceLang = sourceLang.trim();
-		targetLang = targetLang.trim();
+		return translateText(word, sourceLang, targetLang, TranslationPriority.INTERACTIVE);
+	}
 
-		String url = UriComponentsBuilder.fromUriString(TRANSLATE_API_URL).buildAndExpand(word, sourceLang, targetLang)
-				.toUriString();
+	/**
+	 * Same as translateText, queued in the given lane of the translation
+	 * scheduler. Seed data and backfill work should use BACKGROUND so that it
+	 * never delays translations a user is waiting for.
+	 *
+	 * @param word       The word to be translated.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @param priority   The scheduler lane used if the API has to be called.
+	 * @return The translated text, or null if translation fails.
+	 */
+	public String translateText(String word, String sourceLang, String targetLang, TranslationPriority priority) {
+		return await(translateTextAsync(word, sourceLang, targetLang, priority),
+				"Error occurred during translation for word: " + word);
+	}
 
-		try {
-			logger.info("Translating word: {} from {} to {}", word, sourceLang, targetLang);
-			TranslationResponse response = restTemplate.getForObject(url, TranslationResponse.class);
+	/**
+	 * Asynchronous variant of translateText. The returned future never blocks a
+	 * request thread while the external API is being called.
+	 *
+	 * @param word       The word to be translated.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @return A future completing with the translated text, or with null if the
+	 *         response has no data.
+	 */
+	public CompletableFuture<String> translateTextAsync(String word, String sourceLang, String targetLang) {
+		return translateTextAsync(word, sourceLang, targetLang, TranslationPriority.INTERACTIVE);
+	}
 
-			if (response != null && response.getResponseData() != null) {
-				String translatedText = response.getResponseData().getTranslatedText();
-				logger.info("Translation result: {}", translatedText);
-				return translatedText;
-			} else {
-				logger.error("Translation response is null or has no data.");
-				return null;
-			}
-		} catch (Exception e) {
-			logger.error("Error during translation: ", e);
-			throw new RuntimeException("Error occurred during translation for word: " + word, e);
+	/**
+	 * Asynchronous variant of translateText with an explicit scheduler lane.
+	 *
+	 * @param word       The word to be translated.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @param priority   The scheduler lane used if the API has to be called.
+	 * @return A future completing with the translated text, or with null if the
+	 *         response has no data.
+	 */
+	public CompletableFuture<String> translateTextAsync(String word, String sourceLang, String targetLang,
+			TranslationPriority priority) {
+		String source = sourceLang.trim();
+		String target = targetLang.trim();
+		TranslationRequest request = new TranslationRequest(word, source, target, priority);
+		Optional<String> known = translationProviderRouter.translateLocally(request);
+		if (known.isPresent()) {
+			return CompletableFuture.completedFuture(known.get());
 		}
+		return translationMemory.getOrLoad(word, source, target, () -> fetchCoalesced(request));
 	}
 
 	/**
@@ -63,36 +118,109 @@ public class TranslationService {
 	 * external API. This method is similar to translateText but returns a default
 	 * "Translation error" string in case of a failure or invalid response, and
 	 * throws a RuntimeException for critical errors.
-	 * 
+	 *
 	 * @param text       The text to be translated.
 	 * @param sourceLang The source language code (e.g., "en").
 	 * @param targetLang The target language code (e.g., "he").
 	 * @return The translated text, or "Translation error" if translation fails.
 	 */
 	public String freeTranslateText(String text, String sourceLang, String targetLang) {
-		RestTemplate restTemplate = new RestTemplate();
-		sourceLang = sourceLang.trim();
-		targetLang = targetLang.trim();
+		String translatedText = await(freeTranslateTextAsync(text, sourceLang, targetLang),
+				"Error occurred during free translation for text: " + text);
+		return translatedText != null ? translatedText : "Translation error";
+	}
 
-		String url = UriComponentsBuilder.fromUriString(TRANSLATE_API_URL).buildAndExpand(text, sourceLang, targetLang)
-				.toUriString();
+	/**
+	 * Asynchronous variant of free translation. Free text is translated phrase by
+	 * phrase, see translatePhrasesAsync.
+	 *
+	 * @param text       The text to be translated.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @return A future completing with the translated text, or with null if the
+	 *         translation fails.
+	 */
+	public CompletableFuture<String> freeTranslateTextAsync(String text, String sourceLang, String targetLang) {
+		return translatePhrasesAsync(text, sourceLang, targetLang, TranslationPriority.INTERACTIVE);
+	}
 
-		try {
-			logger.info("Translating word: {} from {} to {}", text, sourceLang, targetLang);
-			TranslationResponse response = restTemplate.getForObject(url, TranslationResponse.class);
+	/**
+	 * Translates longer text such as a sentence phrase by phrase. Synchronous
+	 * variant of translatePhrasesAsync.
+	 *
+	 * @param text       The text to be translated.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @param priority   The scheduler lane used if the API has to be called.
+	 * @return The translated text, or null if translation fails.
+	 */
+	public String translatePhrases(String text, String sourceLang, String targetLang, TranslationPriority priority) {
+		return await(translatePhrasesAsync(text, sourceLang, targetLang, priority),
+				"Error occurred during translation for text: " + text);
+	}
 
-			if (response != null && response.getResponseData() != null) {
-				String translatedText = response.getResponseData().getTranslatedText();
-				logger.info("Translation result: {}", translatedText);
-				return translatedText;
+	/**
+	 * Translates longer text such as a sentence by splitting it into clauses. Each
+	 * clause is looked up in the local providers and the translation memory, only
+	 * the missing clauses are sent to the remote providers, joined into a single
+	 * call, and the result is reassembled with the original punctuation. Clauses
+	 * whose line of the batched answer cannot be trusted are translated one by
+	 * one; if any clause stays untranslated, the whole text is translated as
+	 * before.
+	 *
+	 * @param text       The text to be translated.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @param priority   The scheduler lane used if the API has to be called.
+	 * @return A future completing with the translated text, or with null if the
+	 *         translation fails.
+	 */
+	public CompletableFuture<String> translatePhrasesAsync(String text, String sourceLang, String targetLang,
+			TranslationPriority priority) {
+		String source = sourceLang.trim();
+		String target = targetLang.trim();
+		List<Segment> segments = PhraseSegmenter.segment(text);
+		if (segments.size() <= 1) {
+			return translateTextAsync(text, source, target, priority);
+		}
+		Optional<String> known = lookupKnown(text, source, target, priority);
+		if (known.isPresent()) {
+			return CompletableFuture.completedFuture(known.get());
+		}
+
+		phraseSentences.increment();
+		phraseSegments.add(segments.size());
+		String[] translations = new String[segments.size()];
+		List<Integer> missing = new ArrayList<>();
+		for (int i = 0; i < segments.size(); i++) {
+			String clause = segments.get(i).text();
+			Optional<String> clauseTranslation = clause.isEmpty() ? Optional.of("")
+					: lookupKnown(clause, source, target, priority);
+			if (clauseTranslation.isPresent()) {
+				phraseSegmentHits.increment();
+				translations[i] = clauseTranslation.get();
 			} else {
-				logger.error("Translation response is null or has no data.");
-				return "Translation error";
+				missing.add(i);
 			}
-		} catch (Exception e) {
-			logger.error("Error during translation: ", e);
-			throw new RuntimeException("Error occurred during free translation for text: " + text, e);
 		}
+
+		return translateMissingSegments(segments, missing, translations, source, target, priority)
+				.handle((ignored, error) -> error == null)
+				.thenCompose(complete -> {
+					for (String translation : translations) {
+						if (!complete || translation == null) {
+							return translateTextAsync(text, source, target, priority);
+						}
+					}
+					String assembled = PhraseSegmenter.assemble(segments, translations);
+					translationMemory.put(text, source, target, assembled);
+					return CompletableFuture.completedFuture(assembled);
+				});
+	}
+
+	public PhraseTranslationStatsDTO getPhraseStats() {
+		return new PhraseTranslationStatsDTO(phraseSentences.sum(), phraseSegments.sum(), phraseSegmentHits.sum(),
+				phraseBatchedCalls.sum(), phraseBatchFallbacks.sum());
 	}
 
 	/**
@@ -100,7 +228,7 @@ public class TranslationService {
 	 * an option to swap the source and target languages before translation. It
 	 * calls the translateText method to perform the actual translation and throws a
 	 * RuntimeException if an error occurs.
-	 * 
+	 *
 	 * @param sentence      The sentence to be translated.
 	 * @param sourceLang    The source language code (e.g., "en").
 	 * @param targetLang    The target language code (e.g., "he").
@@ -109,17 +237,149 @@ public class TranslationService {
 	 * @return The translated sentence.
 	 */
 	public String translateSentence(String sentence, String sourceLang, String targetLang, Boolean swapLanguages) {
+		return await(translateSentenceAsync(sentence, sourceLang, targetLang, swapLanguages),
+				"Error occurred during sentence translation for sentence: " + sentence);
+	}
+
+	/**
+	 * Asynchronous variant of translateSentence.
+	 *
+	 * @param sentence      The sentence to be translated.
+	 * @param sourceLang    The source language code (e.g., "en").
+	 * @param targetLang    The target language code (e.g., "he").
+	 * @param swapLanguages A boolean indicating whether to swap the source and
+	 *                      target languages.
+	 * @return A future completing with the translated sentence.
+	 */
+	public CompletableFuture<String> translateSentenceAsync(String sentence, String sourceLang, String targetLang,
+			Boolean swapLanguages) {
 		if (swapLanguages != null && swapLanguages) {
 			String temp = sourceLang;
 			sourceLang = targetLang;
 			targetLang = temp;
 		}
+		return translatePhrasesAsync(sentence, sourceLang, targetLang, TranslationPriority.INTERACTIVE);
+	}
 
-		try {
-			return translateText(sentence, sourceLang, targetLang);
-		} catch (RuntimeException e) {
-			throw new RuntimeException("Error occurred during sentence translation for sentence: " + sentence, e);
+	/**
+	 * Returns a translation only if it is already known locally, from the
+	 * dictionary or the translation memory. The API is never called, so seed data
+	 * can use this at startup without spending the quota users need; whatever is
+	 * left untranslated is filled in later by the TranslationBackfillJob.
+	 *
+	 * @param text       The text to look up.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @return The known translation, or null.
+	 */
+	public String translateKnown(String text, String sourceLang, String targetLang) {
+		return lookupKnown(text, sourceLang.trim(), targetLang.trim(), TranslationPriority.BACKGROUND).orElse(null);
+	}
+
+	/**
+	 * Looks a text up in the local providers and the translation memory without
+	 * calling out.
+	 */
+	private Optional<String> lookupKnown(String text, String sourceLang, String targetLang,
+			TranslationPriority priority) {
+		Optional<String> local = translationProviderRouter
+				.translateLocally(new TranslationRequest(text, sourceLang, targetLang, priority));
+		return local.isPresent() ? local : translationMemory.peek(text, sourceLang, targetLang);
+	}
+
+	/**
+	 * Fills in the translations of the missing clauses with a single remote call,
+	 * one clause per line. A line is only taken, and remembered, as the
+	 * translation of its clause if it passes {@link #plausibleLine}; the clauses
+	 * whose lines do not, or all of them when the answer does not have one line
+	 * per clause, are translated with a call per clause.
+	 */
+	private CompletableFuture<Void> translateMissingSegments(List<Segment> segments, List<Integer> missing,
+			String[] translations, String sourceLang, String targetLang, TranslationPriority priority) {
+		if (missing.isEmpty()) {
+			return CompletableFuture.completedFuture(null);
+		}
+		if (missing.size() == 1) {
+			int index = missing.get(0);
+			return translateTextAsync(segments.get(index).text(), sourceLang, targetLang, priority)
+					.thenAccept(translated -> translations[index] = translated);
+		}
+
+		List<String> clauses = missing.stream().map(index -> segments.get(index).text()).toList();
+		phraseBatchedCalls.increment();
+		return fetchCoalesced(new TranslationRequest(String.join("\n", clauses), sourceLang, targetLang, priority))
+				.handle((batch, error) -> {
+					String[] lines = error == null && batch != null ? batch.split("\n", -1) : null;
+					boolean aligned = lines != null && lines.length == clauses.size();
+					List<CompletableFuture<Void>> singles = new ArrayList<>();
+					for (int i = 0; i < clauses.size(); i++) {
+						int index = missing.get(i);
+						String translated = aligned ? lines[i].strip() : null;
+						if (translated != null && plausibleLine(clauses.get(i), translated, targetLang)) {
+							translations[index] = translated;
+							translationMemory.put(clauses.get(i), sourceLang, targetLang, translated);
+						} else {
+							singles.add(translateTextAsync(clauses.get(i), sourceLang, targetLang, priority)
+									.thenAccept(single -> translations[index] = single));
+						}
+					}
+					if (!singles.isEmpty()) {
+						phraseBatchFallbacks.increment();
+					}
+					return CompletableFuture.allOf(singles.toArray(CompletableFuture[]::new));
+				}).thenCompose(fill -> fill);
+	}
+
+	/**
+	 * Checks a line of a batched answer before it is taken as the translation of
+	 * its clause: it must not be blank, must be written in the script of the
+	 * target language when the clause has letters, and must carry the same digits
+	 * as the clause. Lines that were merged, split or shifted by the provider
+	 * usually fail one of these.
+	 */
+	private static boolean plausibleLine(String clause, String line, String targetLang) {
+		if (line.isEmpty()) {
+			return false;
+		}
+		if (TextTokenizer.script(clause) != Script.NONE) {
+			Script script = TextTokenizer.script(line);
+			Script expected = LanguageConstants.HEBREW.equals(targetLang) ? Script.HEBREW
+					: LanguageConstants.ENGLISH.equals(targetLang) ? Script.LATIN : null;
+			if (script == Script.NONE || (expected != null && script != expected && script != Script.MIXED)) {
+				return false;
+			}
 		}
+		return digits(clause).equals(digits(line));
 	}
 
-}
\ No newline at end of file
+	private static String digits(String text) {
+		return text.chars().filter(Character::isDigit).sorted()
+				.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
+	}
+
+	/**
+	 * Calls the remote translation providers, sharing one call between identical
+	 * requests that arrive while it is queued or in flight.
+	 *
+	 * @param request The text, language pair and priority of the translation.
+	 * @return A future completing with the translated text, or with null if no
+	 *         provider has a translation.
+	 */
+	private CompletableFuture<String> fetchCoalesced(TranslationRequest request) {
+		return translationCoalescer.executeAsync(request.text(), request.sourceLang(), request.targetLang(),
+				request.priority(), () -> translationProviderRouter.translateRemotely(request));
+	}
+
+	/**
+	 * Waits for an asynchronous translation on behalf of the synchronous API,
+	 * wrapping failures in a RuntimeException with the given message.
+	 */
+	private static String await(CompletableFuture<String> translation, String errorMessage) {
+		try {
+			return translation.join();
+		} catch (CompletionException e) {
+			logger.error("Error during translation: ", e.getCause());
+			throw new RuntimeException(errorMessage, e.getCause());
+		}
+	}
+}
@@ -5,9 +5,9 @@ import com.lingotower.dto.LoginRequest;
 import com.lingotower.dto.RegisterRequest;
 import com.lingotower.model.Role;
 import com.lingotower.model.User;
+import com.lingotower.security.CredentialHasher;
 import com.lingotower.security.JwtTokenProvider;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 /*
@@ -21,13 +21,13 @@ public class UserAuthService {
 
 	/*
 	 * Constructor: creates the helper service that will do the real work. It needs
-	 * access to the database (UserRepository), password encoder, and JWT token
-	 * generator.
+	 * access to the database (UserRepository), the credential hasher, and JWT
+	 * token generator.
 	 */
 	@Autowired
-	public UserAuthService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+	public UserAuthService(UserRepository userRepository, CredentialHasher credentialHasher,
 			JwtTokenProvider jwtTokenProvider) {
-		this.authHelperService = new AuthHelperService<>(userRepository, passwordEncoder, jwtTokenProvider);
+		this.authHelperService = new AuthHelperService<>(userRepository, credentialHasher, jwtTokenProvider);
 	}
 
 	/*
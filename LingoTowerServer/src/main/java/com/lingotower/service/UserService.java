@@ -7,6 +7,8 @@ import com.lingotower.dto.user.UserUpdateDTO;
 import com.lingotower.dto.word.WordByCategory;
 import com.lingotower.model.User;
 import com.lingotower.model.Word;
+import com.lingotower.security.JwtTokenProvider;
+import com.lingotower.security.UserProfileCache;
 import com.lingotower.service.WordService;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -35,6 +37,10 @@ public class UserService {
 	private WordService wordService;
 	@Autowired
 	private PasswordEncoder passwordEncoder;
+	@Autowired
+	private UserProfileCache userProfileCache;
+	@Autowired
+	private JwtTokenProvider jwtTokenProvider;
 
 	@Autowired
 	public UserService(UserRepository userRepository, WordRepository wordRepository, WordService wordService,
@@ -92,9 +98,9 @@ public class UserService {
 	 * @return A double representing the learning progress percentage (0-100).
 	 */
 	public double getLearningProgress(String username) {
-		List<Word> learnedWords = userRepository.findLearnedWordsByUsername(username);
+		long learnedWords = userRepository.countLearnedWordsByUsername(username);
 		long totalWords = wordRepository.count();
-		return totalWords == 0 ? 0 : (learnedWords.size() * 100.0) / totalWords;
+		return totalWords == 0 ? 0 : (learnedWords * 100.0) / totalWords;
 	}
 
 	/**
@@ -112,14 +118,16 @@ public class UserService {
 	}
 
 	/**
-	 * Updates the source and target languages of a user.
+	 * Updates the source and target languages of a user. Tokens carry the
+	 * languages, so the user gets a new one.
 	 * 
 	 * @param username   The username of the user to update.
 	 * @param sourceLang The new source language code.
 	 * @param targetLang The new target language code.
-	 * @return True if the update was successful, false otherwise.
+	 * @return A new token carrying the new languages, or null if the user was not
+	 *         found.
 	 */
-	public boolean updateUserLanguages(String username, String sourceLang, String targetLang) {
+	public String updateUserLanguages(String username, String sourceLang, String targetLang) {
 		Optional<User> userOptional = userRepository.findByUsername(username);
 		if (userOptional.isPresent()) {
 			User user = userOptional.get();
@@ -127,12 +135,13 @@ public class UserService {
 			user.setTargetLanguage(targetLang);
 			try {
 				userRepository.save(user);
-				return true;
+				userProfileCache.invalidate(username);
+				return jwtTokenProvider.generateToken(user);
 			} catch (Exception e) {
 				throw new RuntimeException("Error updating languages for user: " + username, e);
 			}
 		}
-		return false;
+		return null;
 	}
 
 	/**
@@ -163,6 +172,8 @@ public class UserService {
 			user.setTargetLanguage(userUpdateDTO.getTargetLanguage());
 
 			userRepository.save(user);
+			userProfileCache.invalidate(username);
+			userProfileCache.invalidate(user.getUsername());
 		} catch (UsernameNotFoundException e) {
 			throw e;
 		} catch (IllegalArgumentException e) {
@@ -259,12 +270,14 @@ public class UserService {
 			if (userUpdateDTO.getPassword() != null && !userUpdateDTO.getPassword().isEmpty()) {
 				user.setPassword(passwordEncoder.encode(userUpdateDTO.getPassword()));
 			}
+			userProfileCache.invalidate(user.getUsername());
 			user.setUsername(userUpdateDTO.getUsername());
 			user.setEmail(userUpdateDTO.getEmail());
 			user.setSourceLanguage(userUpdateDTO.getSourceLanguage());
 			user.setTargetLanguage(userUpdateDTO.getTargetLanguage());
 
 			userRepository.save(user);
+			userProfileCache.invalidate(user.getUsername());
 		} catch (UserNotFoundException e) {
 			throw e; 
 		} catch (Exception e) {
@@ -1,34 +1,40 @@
 package com.lingotower.service;
 
-import java.time.LocalDate;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import com.lingotower.constants.LanguageConstants;
-import com.lingotower.data.AdminRepository;
 import com.lingotower.data.CategoryRepository;
-import com.lingotower.data.UserRepository;
 import com.lingotower.data.WordRepository;
 import com.lingotower.dto.translation.TranslationRequestDTO;
 import com.lingotower.dto.translation.TranslationResponseDTO;
 import com.lingotower.dto.word.WordByCategory;
 import com.lingotower.dto.word.WordDTO;
-import com.lingotower.model.Admin;
+import com.lingotower.dto.word.WordPageDTO;
+import com.lingotower.dto.word.WordSummaryView;
 import com.lingotower.model.Category;
 import com.lingotower.model.Difficulty;
-import com.lingotower.model.User;
 import com.lingotower.model.Word;
+import com.lingotower.security.UserProfile;
+import com.lingotower.security.UserProfileCache;
+import com.lingotower.service.catalog.DailyWordRotation;
+import com.lingotower.service.catalog.DatabaseWordSampler;
+import com.lingotower.service.catalog.WordCatalog;
+import com.lingotower.service.translation.LocalDictionary;
 import com.lingotower.util.TranslationUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -39,20 +45,32 @@ public class WordService {
 	private final WordRepository wordRepository;
 	private final CategoryRepository categoryRepository;
 	private final TranslationService translationService;
-	private final UserRepository userRepository;
-	private final AdminRepository adminRepository;
+	private final UserProfileCache userProfileCache;
+	private final LocalDictionary localDictionary;
+	private final WordCatalog wordCatalog;
+	private final DatabaseWordSampler databaseWordSampler;
+	private final DailyWordRotation dailyWordRotation;
+	private final boolean sampleInDatabase;
 	private static final int DEFAULT_RANDOM_WORDS_LIMIT = 10;
+	public static final int DEFAULT_PAGE_SIZE = 100;
+	private static final int MAX_PAGE_SIZE = 500;
 	@PersistenceContext
 	private EntityManager entityManager;
 
 	@Autowired
 	public WordService(WordRepository wordRepository, TranslationService translationService,
-			CategoryRepository categoryRepository, UserRepository userRepository, AdminRepository adminRepository) {
+			CategoryRepository categoryRepository, UserProfileCache userProfileCache, LocalDictionary localDictionary, WordCatalog wordCatalog, DatabaseWordSampler databaseWordSampler,
+			DailyWordRotation dailyWordRotation,
+			@Value("${words.random.source:catalog}") String randomWordSource) {
+		this.localDictionary = localDictionary;
+		this.wordCatalog = wordCatalog;
+		this.databaseWordSampler = databaseWordSampler;
+		this.dailyWordRotation = dailyWordRotation;
+		this.sampleInDatabase = "database".equalsIgnoreCase(randomWordSource.trim());
 		this.wordRepository = wordRepository;
 		this.translationService = translationService;
 		this.categoryRepository = categoryRepository;
-		this.userRepository = userRepository;
-		this.adminRepository = adminRepository;
+		this.userProfileCache = userProfileCache;
 	}
 
 	/**
@@ -63,6 +81,8 @@ public class WordService {
 	public void saveWords(List<Word> words) {
 		try {
 			wordRepository.saveAll(words);
+			words.forEach(this::rememberTranslation);
+			wordCatalog.upsertAll(words);
 		} catch (Exception e) {
 			throw new RuntimeException("Error saving words", e);
 		}
@@ -74,7 +94,57 @@ public class WordService {
 	 * @return A list of all Word objects.
 	 */
 	public List<Word> getAllWords() {
-		return wordRepository.findAll();
+		return wordRepository.findAllWithCategory();
+	}
+
+	/**
+	 * Retrieves one page of words in id order. The page is read with a single
+	 * query that seeks past the last id of the previous page, so every page costs
+	 * the same however deep into the listing it is.
+	 * 
+	 * @param cursor           The nextCursor of the previous page, or null for
+	 *                         the first page.
+	 * @param limit            The maximum number of words, capped at 500.
+	 * @param categoryId       Only words of this category, if not null.
+	 * @param difficulty       Only words of this difficulty, if not null.
+	 * @param untranslatedOnly Only words without a translation.
+	 * @param prefix           Only words starting with this text, if not blank.
+	 * @return The words and the cursor of the next page.
+	 * @throws IllegalArgumentException if the cursor is not one this method
+	 *                                  returned.
+	 */
+	public WordPageDTO getWordPage(String cursor, int limit, Long categoryId, Difficulty difficulty,
+			boolean untranslatedOnly, String prefix) {
+		int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+		String pattern = prefix == null || prefix.isBlank() ? null : escapeLike(prefix.trim()) + "%";
+		// One extra row tells whether there is a next page
+		List<Word> words = wordRepository.findPageAfter(decodeCursor(cursor), categoryId, difficulty,
+				untranslatedOnly, pattern, PageRequest.of(0, pageSize + 1));
+		if (words.size() <= pageSize) {
+			return new WordPageDTO(words, null);
+		}
+		List<Word> page = words.subList(0, pageSize);
+		return new WordPageDTO(new ArrayList<>(page), encodeCursor(page.get(pageSize - 1).getId()));
+	}
+
+	private static String encodeCursor(long lastId) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(Long.toString(lastId).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	private static long decodeCursor(String cursor) {
+		if (cursor == null || cursor.isEmpty()) {
+			return 0L;
+		}
+		try {
+			return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid cursor: " + cursor);
+		}
+	}
+
+	private static String escapeLike(String text) {
+		return text.replace("!", "!!").replace("%", "!%").replace("_", "!_");
 	}
 
 	/**
@@ -84,6 +154,7 @@ public class WordService {
 		try {
 			wordRepository.deleteAll();
 			entityManager.clear();
+			wordCatalog.clearWords();
 		} catch (Exception e) {
 			throw new RuntimeException("Error deleting all words", e);
 		}
@@ -107,7 +178,10 @@ public class WordService {
 					System.out.println("Translation not found for this word:" + word.getWord());
 				}
 			}
-			return wordRepository.save(word);
+			Word saved = wordRepository.save(word);
+			rememberTranslation(saved);
+			wordCatalog.upsert(saved);
+			return saved;
 		} catch (Exception e) {
 			throw new RuntimeException("Error saving word: " + word.getWord(), e);
 		}
@@ -133,9 +207,7 @@ public class WordService {
 	 */
 	public List<WordByCategory> getRandomTranslatedWordsByCategoryAndDifficulty(Long categoryId, Difficulty difficulty,
 			String userLanguage) {
-		List<Word> words = wordRepository.findByCategoryIdAndDifficulty(categoryId, difficulty);
-		List<Word> randomWords = getRandomWords(words, 10);
-		return mapWordsToLanguage(randomWords, userLanguage);
+		return getRandomWords(categoryId, difficulty, DEFAULT_RANDOM_WORDS_LIMIT, userLanguage);
 	}
 
 	/**
@@ -146,9 +218,7 @@ public class WordService {
 	 * @return A list of WordByCategory objects.
 	 */
 	public List<WordByCategory> getRandomWordsByCategory(Long categoryId, String userLanguage) {
-		List<Word> words = wordRepository.findByCategoryId(categoryId);
-		List<Word> randomWords = getRandomWords(words, 10);
-		return mapWordsToLanguage(randomWords, userLanguage);
+		return getRandomWords(categoryId, null, DEFAULT_RANDOM_WORDS_LIMIT, userLanguage);
 	}
 
 	/**
@@ -159,9 +229,7 @@ public class WordService {
 	 * @return A list of WordByCategory objects.
 	 */
 	public List<WordByCategory> getRandomWordsByDifficulty(Difficulty difficulty, String userLanguage) {
-		List<Word> words = wordRepository.findByDifficulty(difficulty);
-		List<Word> randomWords = getRandomWords(words,DEFAULT_RANDOM_WORDS_LIMIT);
-		return mapWordsToLanguage(randomWords, userLanguage);
+		return getRandomWords(null, difficulty, DEFAULT_RANDOM_WORDS_LIMIT, userLanguage);
 	}
 
 	/**
@@ -172,25 +240,25 @@ public class WordService {
 	 * @return A list of WordByCategory objects.
 	 */
 	public List<WordByCategory> getRandomTranslatedWordsForAllCategoriesAndDifficulties(String userLanguage) {
-		List<Word> words = wordRepository.findAll();
-		List<Word> randomWords = getRandomWords(words,DEFAULT_RANDOM_WORDS_LIMIT);
-		return mapWordsToLanguage(randomWords, userLanguage);
+		return getRandomWords(null, null, DEFAULT_RANDOM_WORDS_LIMIT, userLanguage);
 	}
 
 	/**
-	 * Helper function to get a random sublist of words.
+	 * Draws distinct random words from the in-memory catalog, or from the
+	 * database when words.random.source is "database".
 	 * 
-	 * @param words The list of Word objects.
-	 * @param limit The maximum number of random words to retrieve.
-	 * @return A list of random Word objects.
+	 * @param categoryId   The ID of the category, or null for any category.
+	 * @param difficulty   The difficulty level, or null for any level.
+	 * @param count        The maximum number of words to draw.
+	 * @param userLanguage The target language for translation display.
+	 * @return A list of WordByCategory objects in random order.
 	 */
-	private List<Word> getRandomWords(List<Word> words, int limit) {
-		if (words.isEmpty()) {
-			return Collections.emptyList();
+	public List<WordByCategory> getRandomWords(Long categoryId, Difficulty difficulty, int count,
+			String userLanguage) {
+		if (sampleInDatabase) {
+			return mapWordsToLanguage(databaseWordSampler.sample(categoryId, difficulty, count), userLanguage);
 		}
-		Random random = new Random();
-		Collections.shuffle(words, random);
-		return words.stream().limit(limit).collect(Collectors.toList());
+		return wordCatalog.toWordsByCategory(wordCatalog.sample(categoryId, difficulty, count), userLanguage);
 	}
 
 	/**
@@ -204,6 +272,17 @@ public class WordService {
 		return wordRepository.findByWord(wordText);
 	}
 
+	/**
+	 * Finds a word by its text, with its example sentences loaded.
+	 * 
+	 * @param wordText The text of the word to find.
+	 * @return An Optional containing the Word object if found, otherwise an empty
+	 *         Optional.
+	 */
+	public Optional<Word> findByWordWithSentences(String wordText) {
+		return wordRepository.findWithSentencesByWord(wordText);
+	}
+
 	/**
 	 * Adds a new word with its translation to the database.
 	 * 
@@ -225,6 +304,8 @@ public class WordService {
 			word.setDifficulty(wordDTO.getDifficulty());
 
 			wordRepository.save(word);
+			rememberTranslation(word);
+			wordCatalog.upsert(word);
 		} catch (Exception e) {
 			throw new RuntimeException("Error adding word with translation: " + wordDTO.getWord(), e);
 		}
@@ -274,6 +355,32 @@ public class WordService {
 		}).collect(Collectors.toList());
 	}
 
+	/**
+	 * Maps word projections of one category to WordByCategory objects, loading
+	 * the category once instead of once per word.
+	 * 
+	 * @param words        The words of the category.
+	 * @param categoryId   The ID of the category.
+	 * @param userLanguage The user's target language.
+	 * @return A list of WordByCategory objects.
+	 */
+	private List<WordByCategory> mapSummariesToLanguage(List<WordSummaryView> words, Long categoryId,
+			String userLanguage) {
+		Category category = categoryRepository.findById(categoryId).orElse(null);
+		boolean hebrew = LanguageConstants.HEBREW.equals(userLanguage);
+		List<WordByCategory> mapped = new ArrayList<>(words.size());
+		for (WordSummaryView word : words) {
+			if (hebrew) {
+				mapped.add(new WordByCategory(word.getId(), word.getTranslation(), word.getWord(), category,
+						word.getDifficulty()));
+			} else {
+				mapped.add(new WordByCategory(word.getId(), word.getWord(), word.getTranslation(), category,
+						word.getDifficulty()));
+			}
+		}
+		return mapped;
+	}
+
 	/**
 	 * Retrieves a list of translated words for a specific category for a given
 	 * user.
@@ -283,12 +390,12 @@ public class WordService {
 	 * @return A list of WordByCategory objects.
 	 */
 	public List<WordByCategory> getTranslatedWordsByCategory(Long categoryId, String username) {
-		List<Word> words = wordRepository.findByCategoryId(categoryId);
+		List<WordSummaryView> words = wordRepository.findSummaries(categoryId, null);
 		if (words.isEmpty()) {
 			return Collections.emptyList();
 		}
 		String userLanguage = getUserLanguage(username);
-		return mapWordsToLanguage(words, userLanguage);
+		return mapSummariesToLanguage(words, categoryId, userLanguage);
 	}
 
 	/**
@@ -300,15 +407,8 @@ public class WordService {
 	 *                                   user or an admin.
 	 */
 	public String getUserLanguage(String username) {
-		Optional<User> user = userRepository.findByUsername(username);
-		if (user.isPresent()) {
-			return user.get().getTargetLanguage();
-		}
-		Optional<Admin> admin = adminRepository.findByUsername(username);
-		if (admin.isPresent()) {
-			return admin.get().getTargetLanguage();
-		}
-		throw new UsernameNotFoundException("User not found: " + username);
+		return userProfileCache.get(username).map(UserProfile::targetLanguage)
+				.orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
 	}
 
 	/**
@@ -322,11 +422,11 @@ public class WordService {
 	 */
 	public List<WordByCategory> getTranslatedWordsByCategoryAndDifficulty(Long categoryId, Difficulty difficulty,
 			String userLanguage) {
-		List<Word> words = wordRepository.findByCategoryIdAndDifficulty(categoryId, difficulty);
+		List<WordSummaryView> words = wordRepository.findSummaries(categoryId, difficulty);
 		if (words.isEmpty()) {
 			return Collections.emptyList();
 		}
-		return mapWordsToLanguage(words, userLanguage);
+		return mapSummariesToLanguage(words, categoryId, userLanguage);
 	}
 
 	/**
@@ -340,11 +440,14 @@ public class WordService {
 	public void deleteWord(Long wordId, String username) {
 		// In a real application, you might want to check if the user has admin roles
 		// here.
-		if (!wordRepository.existsById(wordId)) {
-			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Word not found with ID: " + wordId);
-		}
+		Word word = wordRepository.findById(wordId).orElseThrow(
+				() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Word not found with ID: " + wordId));
 		try {
 			wordRepository.deleteById(wordId);
+			localDictionary.remove(word.getWord(), word.getTranslation(), word.getSourceLanguage(),
+					word.getTargetLanguage());
+			wordCatalog.remove(wordId);
+			dailyWordRotation.evict(wordId);
 		} catch (Exception e) {
 			throw new RuntimeException("Error deleting word with ID: " + wordId, e);
 		}
@@ -364,6 +467,8 @@ public class WordService {
 		// here.
 		Word word = wordRepository.findById(wordId).orElseThrow(
 				() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Word not found with ID: " + wordId));
+		String previousWord = word.getWord();
+		String previousTranslation = word.getTranslation();
 		word.setWord(updateDTO.getWord());
 		word.setDifficulty(updateDTO.getDifficulty());
 		word.setTranslation(updateDTO.getTranslatedText());
@@ -376,6 +481,20 @@ public class WordService {
 		} catch (Exception e) {
 			throw new RuntimeException("Error updating word with ID: " + wordId, e);
 		}
+		localDictionary.remove(previousWord, previousTranslation, word.getSourceLanguage(), word.getTargetLanguage());
+		rememberTranslation(word);
+		wordCatalog.upsert(word);
+		dailyWordRotation.evict(wordId);
+	}
+
+	/**
+	 * Keeps the local dictionary in step with a saved word so that later
+	 * translations of it never go to the translation API.
+	 *
+	 * @param word The saved Word object.
+	 */
+	private void rememberTranslation(Word word) {
+		localDictionary.put(word.getWord(), word.getTranslation(), word.getSourceLanguage(), word.getTargetLanguage());
 	}
 
 	/**
@@ -388,14 +507,8 @@ public class WordService {
 	 */
 	public WordByCategory getDailyWord(String username) {
 		String userLanguage = getUserLanguage(username);
-		List<Word> allWords = wordRepository.findAll();
-		if (allWords.isEmpty()) {
-			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No words available in the system.");
-		}
-		String uniqueSeed = username + LocalDate.now().toString();
-		int hash = Math.abs(uniqueSeed.hashCode());
-		int index = hash % allWords.size();
-		Word selectedWord = allWords.get(index);
+		Word selectedWord = dailyWordRotation.wordFor(username).orElseThrow(
+				() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "No words available in the system."));
 		if (LanguageConstants.HEBREW.equals(userLanguage)) {
 			return new WordByCategory(selectedWord.getId(), selectedWord.getTranslation(), selectedWord.getWord(),
 					selectedWord.getCategory(), selectedWord.getDifficulty());
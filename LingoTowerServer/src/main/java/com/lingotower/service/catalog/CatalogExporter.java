@@ -0,0 +1,109 @@
+package com.lingotower.service.catalog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.model.Category;
+import com.lingotower.model.Difficulty;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+/**
+ * Writes the whole content catalog as NDJSON: one JSON object per line, first
+ * the categories, then the words, then the example sentences, each in id order
+ * and tagged with a "type" field. Words and sentences are read as scalar
+ * columns through a forward-only result, so nothing but the current row is held
+ * in memory and the persistence context stays empty however large the catalog
+ * is.
+ */
+@Component
+public class CatalogExporter {
+
+	private static final String WORDS = "SELECT w.id AS id, w.word AS word, w.translation AS translation, "
+			+ "c.id AS categoryId, w.difficulty AS difficulty, w.sourceLanguage AS sourceLanguage, "
+			+ "w.targetLanguage AS targetLanguage FROM Word w LEFT JOIN w.category c ORDER BY w.id";
+	private static final String SENTENCES = "SELECT s.id AS id, w.id AS wordId, s.sentenceText AS sentenceText, "
+			+ "s.translatedText AS translatedText FROM ExampleSentence s JOIN s.word w ORDER BY s.id";
+
+	private final CategoryRepository categoryRepository;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final int fetchSize;
+
+	/**
+	 * @param fetchSize The JDBC fetch size of the word and sentence queries. The
+	 *                  default, Integer.MIN_VALUE, makes MySQL Connector/J stream
+	 *                  rows one at a time for these two queries only, without
+	 *                  turning on cursor fetch for the whole datasource.
+	 */
+	public CatalogExporter(CategoryRepository categoryRepository, EntityManager entityManager,
+			ObjectMapper objectMapper, @Value("${catalog.export.fetch-size:-2147483648}") int fetchSize) {
+		this.categoryRepository = categoryRepository;
+		this.entityManager = entityManager;
+		this.objectMapper = objectMapper;
+		this.fetchSize = fetchSize;
+	}
+
+	/**
+	 * Writes the catalog to the given stream, which is flushed but not closed.
+	 *
+	 * @param out The stream to write to.
+	 * @throws IOException if writing fails.
+	 */
+	@Transactional(readOnly = true)
+	public void export(OutputStream out) throws IOException {
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			generator.setRootValueSeparator(new SerializedString("\n"));
+
+			// Categories are few and have no eager associations
+			for (Category category : categoryRepository.findAll(Sort.by("id"))) {
+				generator.writeObject(
+						new CategoryLine("category", category.getId(), category.getName(), category.getTranslation()));
+			}
+			try (Stream<Tuple> words = stream(WORDS)) {
+				for (Tuple word : (Iterable<Tuple>) words::iterator) {
+					generator.writeObject(new WordLine("word", word.get("id", Long.class),
+							word.get("word", String.class), word.get("translation", String.class),
+							word.get("categoryId", Long.class), word.get("difficulty", Difficulty.class),
+							word.get("sourceLanguage", String.class), word.get("targetLanguage", String.class)));
+				}
+			}
+			try (Stream<Tuple> sentences = stream(SENTENCES)) {
+				for (Tuple sentence : (Iterable<Tuple>) sentences::iterator) {
+					generator.writeObject(new SentenceLine("sentence", sentence.get("id", Long.class),
+							sentence.get("wordId", Long.class), sentence.get("sentenceText", String.class),
+							sentence.get("translatedText", String.class)));
+				}
+			}
+			generator.writeRaw('\n');
+		}
+	}
+
+	private Stream<Tuple> stream(String query) {
+		return entityManager.createQuery(query, Tuple.class).setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true).getResultStream();
+	}
+
+	private record CategoryLine(String type, Long id, String name, String translation) {
+	}
+
+	private record WordLine(String type, Long id, String word, String translation, Long categoryId,
+			Difficulty difficulty, String sourceLanguage, String targetLanguage) {
+	}
+
+	private record SentenceLine(String type, Long id, Long wordId, String sentenceText, String translatedText) {
+	}
+}
@@ -0,0 +1,75 @@
+package com.lingotower.service.catalog;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lingotower.security.UserProfile;
+import com.lingotower.security.UserProfileCache;
+
+/**
+ * A version number of everything the read endpoints serve: categories, words
+ * and example sentences. Every write bumps it, so an unchanged version means an
+ * unchanged response and a conditional request can be answered with 304 before
+ * any query runs. The {@link WordCatalog} bumps it whenever it swaps in a new
+ * snapshot and uses the new value as the snapshot's version. The version starts
+ * at the startup time in milliseconds, so it keeps increasing across restarts.
+ */
+@Component
+public class CatalogVersion {
+
+	private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+	private final UserProfileCache userProfileCache;
+
+	public CatalogVersion(UserProfileCache userProfileCache) {
+		this.userProfileCache = userProfileCache;
+	}
+
+	public long current() {
+		return version.get();
+	}
+
+	/**
+	 * Bumps the version. Within a transaction it is bumped once more after the
+	 * commit, so that a request served between the two bumps, which may still
+	 * have read the old rows, does not keep its ETag.
+	 *
+	 * @return The bumped version.
+	 */
+	public long bump() {
+		long bumped = version.incrementAndGet();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					version.incrementAndGet();
+				}
+			});
+		}
+		return bumped;
+	}
+
+	/**
+	 * @return A strong ETag for a response that depends on the catalog only.
+	 */
+	public String etag() {
+		return "\"" + Long.toString(current(), 36) + "\"";
+	}
+
+	/**
+	 * The user's language is part of the tag, so a language change needs no bump.
+	 * It comes from the profile the request already carries.
+	 *
+	 * @param username The user the response is tailored to.
+	 * @return A strong ETag for a response that depends on the catalog and the
+	 *         user's language.
+	 */
+	public String etag(String username) {
+		String language = userProfileCache.get(username).map(UserProfile::targetLanguage).orElse(null);
+		return "\"" + Long.toString(current(), 36) + "-" + Integer.toHexString(Objects.hash(username, language))
+				+ "\"";
+	}
+}
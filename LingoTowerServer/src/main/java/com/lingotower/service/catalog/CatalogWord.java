@@ -0,0 +1,19 @@
+package com.lingotower.service.catalog;
+
+import com.lingotower.model.Difficulty;
+
+/**
+ * Compact, immutable copy of a word as held by the {@link WordCatalog}.
+ * Language codes are interned, so all records share the same few instances.
+ *
+ * @param id             The word id.
+ * @param word           The word in its source language.
+ * @param translation    The translation, or null if there is none yet.
+ * @param categoryId     The id of the word's category, or null.
+ * @param difficulty     The difficulty level, or null.
+ * @param sourceLanguage The source language code.
+ * @param targetLanguage The target language code.
+ */
+public record CatalogWord(long id, String word, String translation, Long categoryId, Difficulty difficulty,
+		String sourceLanguage, String targetLanguage) {
+}
@@ -0,0 +1,99 @@
+package com.lingotower.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.cache.spi.TimestampsCache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.dto.catalog.CacheRegionStatsDTO;
+import com.lingotower.dto.catalog.ContentCacheStatsDTO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * The Hibernate second-level cache of categories, words and example sentences
+ * (regions are configured in ehcache.xml). Writes through JPA keep it current
+ * on their own; writes that bypass Hibernate, such as JDBC batch updates, must
+ * evict the rows they changed here.
+ */
+@Component
+public class ContentCache {
+
+	private final SessionFactory sessionFactory;
+
+	public ContentCache(EntityManagerFactory entityManagerFactory) {
+		this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+	}
+
+	/**
+	 * Evicts rows that were written past Hibernate and invalidates the cached
+	 * query results over their table, once for all the rows. Other rows of the
+	 * table and cached queries over other tables stay cached.
+	 *
+	 * @param entity The entity class of the rows.
+	 * @param ids    The ids of the rows.
+	 */
+	public void evict(Class<?> entity, Collection<?> ids) {
+		Cache cache = sessionFactory.getCache();
+		for (Object id : ids) {
+			cache.evictEntityData(entity, id);
+		}
+		SessionFactoryImplementor factory = sessionFactory.unwrap(SessionFactoryImplementor.class);
+		TimestampsCache timestamps = factory.getCache().getTimestampsCache();
+		if (timestamps == null) {
+			// The query cache is disabled
+			return;
+		}
+		String[] spaces = factory.getMappingMetamodel().getEntityDescriptor(entity).getSynchronizationSpaces();
+		// The timestamps cache only needs a session for its events; a stateless
+		// one opens no connection for it
+		try (StatelessSession session = sessionFactory.openStatelessSession()) {
+			timestamps.invalidate(spaces, (SharedSessionContractImplementor) session);
+		}
+	}
+
+	/**
+	 * Evicts cached collections whose elements were written past Hibernate.
+	 *
+	 * @param owner    The entity class that owns the collection.
+	 * @param property The collection property.
+	 * @param ownerIds The ids of the owners.
+	 */
+	public void evictCollections(Class<?> owner, String property, Collection<?> ownerIds) {
+		Cache cache = sessionFactory.getCache();
+		String role = owner.getName() + "." + property;
+		for (Object ownerId : ownerIds) {
+			cache.evictCollectionData(role, ownerId);
+		}
+	}
+
+	/**
+	 * @return Hit, miss and put counters of every entity and collection region
+	 *         and of the query cache.
+	 */
+	public ContentCacheStatsDTO getStats() {
+		Statistics statistics = sessionFactory.getStatistics();
+		String[] names = statistics.getSecondLevelCacheRegionNames();
+		Arrays.sort(names);
+		List<CacheRegionStatsDTO> regions = new ArrayList<>(names.length);
+		for (String name : names) {
+			CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(name);
+			if (region != null) {
+				regions.add(new CacheRegionStatsDTO(name, region.getHitCount(), region.getMissCount(),
+						region.getPutCount()));
+			}
+		}
+		return new ContentCacheStatsDTO(regions, statistics.getQueryCacheHitCount(),
+				statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount());
+	}
+}
@@ -0,0 +1,127 @@
+package com.lingotower.service.catalog;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.data.WordRepository;
+import com.lingotower.model.Word;
+
+/**
+ * Picks the daily word of each user. Once a day the ids of all words are
+ * collected into a sorted array; a user's word is then found by hashing the
+ * username and date into that array and loading a single row by primary key.
+ * Picks and loaded words are cached until the next rotation, so the cost of
+ * the daily word does not grow with the number of words.
+ */
+@Component
+public class DailyWordRotation {
+
+	private static final Logger logger = LoggerFactory.getLogger(DailyWordRotation.class);
+
+	private final WordRepository wordRepository;
+	private final Clock clock;
+	private volatile Rotation rotation;
+
+	@Autowired
+	public DailyWordRotation(WordRepository wordRepository) {
+		this(wordRepository, Clock.systemDefaultZone());
+	}
+
+	DailyWordRotation(WordRepository wordRepository, Clock clock) {
+		this.wordRepository = wordRepository;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the word of the day of a user.
+	 *
+	 * @param username The username of the user.
+	 * @return The daily word, or empty if there are no words.
+	 */
+	public Optional<Word> wordFor(String username) {
+		Rotation current = current();
+		Word word = current.wordFor(username);
+		if (word == null && current.ids.length > 0) {
+			// The picked word was deleted since the rotation was built
+			current = rebuild();
+			word = current.wordFor(username);
+		}
+		return Optional.ofNullable(word);
+	}
+
+	/**
+	 * Drops a word that was edited or deleted from the cached words of the day.
+	 *
+	 * @param wordId The id of the word.
+	 */
+	public void evict(Long wordId) {
+		Rotation current = rotation;
+		if (current != null) {
+			current.words.remove(wordId);
+		}
+	}
+
+	/**
+	 * Builds the rotation of the new day at midnight.
+	 */
+	@Scheduled(cron = "${words.daily.rotation-cron:0 0 0 * * *}")
+	public void rotate() {
+		rebuild();
+	}
+
+	private Rotation current() {
+		Rotation current = rotation;
+		if (current == null || !current.day.equals(LocalDate.now(clock))) {
+			current = rebuild();
+		}
+		return current;
+	}
+
+	private synchronized Rotation rebuild() {
+		LocalDate today = LocalDate.now(clock);
+		List<Long> ids = wordRepository.findIds(null, null);
+		long[] sorted = ids.stream().mapToLong(Long::longValue).sorted().toArray();
+		Rotation rebuilt = new Rotation(today, sorted);
+		rotation = rebuilt;
+		logger.debug("Daily word rotation for {} built over {} words", today, sorted.length);
+		return rebuilt;
+	}
+
+	private final class Rotation {
+		private final LocalDate day;
+		private final long[] ids;
+		private final Map<String, Long> picks = new ConcurrentHashMap<>();
+		private final Map<Long, Word> words = new ConcurrentHashMap<>();
+
+		private Rotation(LocalDate day, long[] ids) {
+			this.day = day;
+			this.ids = ids;
+		}
+
+		private Word wordFor(String username) {
+			if (ids.length == 0) {
+				return null;
+			}
+			Long id = picks.computeIfAbsent(username,
+					user -> ids[Math.floorMod((user + day).hashCode(), ids.length)]);
+			Word word = words.get(id);
+			if (word == null) {
+				word = wordRepository.findById(id).orElse(null);
+				if (word != null) {
+					words.put(id, word);
+				}
+			}
+			return word;
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.lingotower.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.word.WordIdRange;
+import com.lingotower.model.Difficulty;
+import com.lingotower.model.Word;
+import com.lingotower.util.RandomSampling;
+
+/**
+ * Draws random words in the database without loading every matching row. Random
+ * ids are probed inside the id range of the category and difficulty, and only
+ * the words that were hit are fetched. When the matching ids are too sparse in
+ * their range for probing to pay off, only the matching ids are loaded and
+ * sampled, never the whole entities.
+ */
+@Component
+public class DatabaseWordSampler {
+
+	private final WordRepository wordRepository;
+	private final double minDensity;
+	private final double oversampling;
+	private final int maxCandidates;
+	private final int maxRounds;
+
+	public DatabaseWordSampler(WordRepository wordRepository,
+			@Value("${words.sampling.min-density:0.05}") double minDensity,
+			@Value("${words.sampling.oversampling:1.5}") double oversampling,
+			@Value("${words.sampling.max-candidates:1000}") int maxCandidates,
+			@Value("${words.sampling.max-rounds:3}") int maxRounds) {
+		this.wordRepository = wordRepository;
+		this.minDensity = minDensity;
+		this.oversampling = oversampling;
+		this.maxCandidates = maxCandidates;
+		this.maxRounds = maxRounds;
+	}
+
+	/**
+	 * Draws distinct random words of a category and difficulty.
+	 *
+	 * @param categoryId The category id, or null for any category.
+	 * @param difficulty The difficulty level, or null for any level.
+	 * @param count      The maximum number of words to draw.
+	 * @return Up to count distinct words in random order, with their category
+	 *         loaded.
+	 */
+	public List<Word> sample(Long categoryId, Difficulty difficulty, int count) {
+		if (count <= 0) {
+			return Collections.emptyList();
+		}
+		WordIdRange range = wordRepository.findIdRange(categoryId, difficulty);
+		if (range == null || range.getCount() == 0) {
+			return Collections.emptyList();
+		}
+		int wanted = (int) Math.min(count, range.getCount());
+		long span = range.getMaxId() - range.getMinId() + 1;
+		double density = (double) range.getCount() / span;
+
+		Set<Long> chosen = density >= minDensity ? probe(range, span, density, wanted, categoryId, difficulty)
+				: Collections.emptySet();
+		if (chosen.size() < wanted) {
+			chosen = new HashSet<>(RandomSampling.sample(wordRepository.findIds(categoryId, difficulty), wanted));
+		}
+		List<Word> words = new ArrayList<>(wordRepository.findAllWithCategoryByIdIn(chosen));
+		Collections.shuffle(words, ThreadLocalRandom.current());
+		return words;
+	}
+
+	/**
+	 * Probes random ids of the range in a few rounds, oversampling by the
+	 * expected share of misses.
+	 */
+	private Set<Long> probe(WordIdRange range, long span, double density, int wanted, Long categoryId,
+			Difficulty difficulty) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Set<Long> chosen = new LinkedHashSet<>();
+		Set<Long> tried = new HashSet<>();
+		for (int round = 0; round < maxRounds && chosen.size() < wanted; round++) {
+			int missing = wanted - chosen.size();
+			long candidates = Math.min(maxCandidates, (long) Math.ceil(missing / density * oversampling));
+			Set<Long> probe = new HashSet<>();
+			while (probe.size() < candidates && tried.size() < span) {
+				long id = random.nextLong(range.getMinId(), range.getMaxId() + 1);
+				if (tried.add(id)) {
+					probe.add(id);
+				}
+			}
+			if (probe.isEmpty()) {
+				break;
+			}
+			List<Long> hits = new ArrayList<>(wordRepository.findMatchingIds(probe, categoryId, difficulty));
+			// Hits come back in id order; keep a random subset of them
+			Collections.shuffle(hits, random);
+			for (Long hit : hits) {
+				if (chosen.size() == wanted) {
+					break;
+				}
+				chosen.add(hit);
+			}
+		}
+		return chosen;
+	}
+}
@@ -0,0 +1,217 @@
+package com.lingotower.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Component;
+
+import com.lingotower.constants.LanguageConstants;
+import com.lingotower.model.Difficulty;
+import com.lingotower.util.RandomSampling;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Wrong answers for multiple-choice questions. For every (category, difficulty,
+ * answer language) the candidate answers are ranked, once, by how similar they
+ * are to each correct answer: similar length and shared character trigrams.
+ * Questions then draw a random few of the best ranked candidates, so similar
+ * questions do not all get the same distractors. A bucket is built once on
+ * first use; when the word catalog changes it is rebuilt once, in the
+ * background, and the previous bucket keeps being served until then.
+ */
+@Component
+public class DistractorIndex {
+
+	/** How many of the most similar candidates are kept per correct answer. */
+	private static final int RANKED_CANDIDATES = 12;
+
+	private final WordCatalog wordCatalog;
+	private final Map<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+	private final ExecutorService rebuilder;
+
+	public DistractorIndex(WordCatalog wordCatalog) {
+		this.wordCatalog = wordCatalog;
+		this.rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "distractor-index-rebuild");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Draws wrong answers in the language answers are shown to a user in: the
+	 * word itself for Hebrew speakers, its translation otherwise.
+	 *
+	 * @param categoryId    The category id.
+	 * @param difficulty    The difficulty level.
+	 * @param userLanguage  The user's target language.
+	 * @param correctAnswer The correct answer, which is never returned.
+	 * @param count         The number of wrong answers wanted.
+	 * @return Up to count distinct wrong answers.
+	 */
+	public List<String> distractors(Long categoryId, Difficulty difficulty, String userLanguage,
+			String correctAnswer, int count) {
+		Side side = LanguageConstants.HEBREW.equals(userLanguage) ? Side.WORD : Side.TRANSLATION;
+		return bucket(new BucketKey(categoryId, difficulty, side)).draw(correctAnswer, count);
+	}
+
+	/**
+	 * Draws wrong answers among the words themselves, whatever the user's
+	 * language.
+	 *
+	 * @param categoryId    The category id.
+	 * @param difficulty    The difficulty level.
+	 * @param correctAnswer The correct answer, which is never returned.
+	 * @param count         The number of wrong answers wanted.
+	 * @return Up to count distinct wrong answers.
+	 */
+	public List<String> wordDistractors(Long categoryId, Difficulty difficulty, String correctAnswer, int count) {
+		return bucket(new BucketKey(categoryId, difficulty, Side.WORD)).draw(correctAnswer, count);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		rebuilder.shutdownNow();
+	}
+
+	private Bucket bucket(BucketKey key) {
+		Bucket bucket = buckets.computeIfAbsent(key, this::build);
+		if (bucket.version != wordCatalog.getVersion() && bucket.rebuilding.compareAndSet(false, true)) {
+			rebuilder.execute(() -> {
+				// The replaced bucket stays marked, so readers still holding it do not
+				// start another rebuild
+				try {
+					buckets.replace(key, bucket, build(key));
+				} catch (RuntimeException e) {
+					bucket.rebuilding.set(false);
+					throw e;
+				}
+			});
+		}
+		return bucket;
+	}
+
+	private Bucket build(BucketKey key) {
+		// Read the version first: a change made while building makes the bucket stale
+		long version = wordCatalog.getVersion();
+		return new Bucket(version, answers(key));
+	}
+
+	private List<String> answers(BucketKey key) {
+		List<String> answers = new ArrayList<>();
+		for (CatalogWord word : wordCatalog.words(key.categoryId(), key.difficulty())) {
+			String answer = key.side() == Side.WORD ? word.word() : word.translation();
+			if (answer != null && !answer.isBlank()) {
+				answers.add(answer);
+			}
+		}
+		return answers;
+	}
+
+	private enum Side {
+		WORD, TRANSLATION
+	}
+
+	private record BucketKey(Long categoryId, Difficulty difficulty, Side side) {
+	}
+
+	/**
+	 * The ranked candidates of one (category, difficulty, side). Built once and
+	 * only read afterwards, apart from memoizing answers that are not words of the
+	 * bucket themselves.
+	 */
+	private static final class Bucket {
+		private final long version;
+		private final AtomicBoolean rebuilding = new AtomicBoolean();
+		private final List<Answer> answers = new ArrayList<>();
+		private final Map<String, List<String>> ranked = new ConcurrentHashMap<>();
+
+		private Bucket(long version, List<String> texts) {
+			this.version = version;
+			Set<String> keys = new HashSet<>();
+			for (String text : texts) {
+				Answer answer = new Answer(text);
+				if (keys.add(answer.key)) {
+					answers.add(answer);
+				}
+			}
+			for (Answer answer : answers) {
+				ranked.put(answer.key, rank(answer));
+			}
+		}
+
+		private List<String> draw(String correctAnswer, int count) {
+			if (correctAnswer == null || answers.isEmpty()) {
+				return Collections.emptyList();
+			}
+			Answer correct = new Answer(correctAnswer);
+			List<String> candidates = ranked.get(correct.key);
+			if (candidates == null) {
+				// e.g. an answer taken from an example sentence rather than a word of the bucket
+				candidates = rank(correct);
+				if (ranked.size() < answers.size() * 2) {
+					ranked.put(correct.key, candidates);
+				}
+			}
+			return RandomSampling.sample(candidates, count);
+		}
+
+		private List<String> rank(Answer correct) {
+			List<Answer> others = new ArrayList<>(answers.size());
+			Map<Answer, Double> scores = new HashMap<>();
+			for (Answer other : answers) {
+				if (!other.key.equals(correct.key)) {
+					others.add(other);
+					scores.put(other, similarity(correct, other));
+				}
+			}
+			others.sort(Comparator.comparingDouble((Answer other) -> scores.get(other)).reversed());
+			List<String> candidates = new ArrayList<>(Math.min(RANKED_CANDIDATES, others.size()));
+			for (int i = 0; i < others.size() && i < RANKED_CANDIDATES; i++) {
+				candidates.add(others.get(i).text);
+			}
+			return Collections.unmodifiableList(candidates);
+		}
+
+		private static double similarity(Answer a, Answer b) {
+			int longer = Math.max(a.key.length(), b.key.length());
+			double length = longer == 0 ? 1 : 1 - (double) Math.abs(a.key.length() - b.key.length()) / longer;
+			int shared = 0;
+			for (String trigram : a.trigrams) {
+				if (b.trigrams.contains(trigram)) {
+					shared++;
+				}
+			}
+			int union = a.trigrams.size() + b.trigrams.size() - shared;
+			double trigrams = union == 0 ? 0 : (double) shared / union;
+			return 0.6 * trigrams + 0.4 * length;
+		}
+	}
+
+	private static final class Answer {
+		private final String text;
+		private final String key;
+		private final Set<String> trigrams = new HashSet<>();
+
+		private Answer(String text) {
+			this.text = text;
+			this.key = text.strip().toLowerCase(Locale.ROOT);
+			String padded = " " + key + " ";
+			for (int i = 0; i + 3 <= padded.length(); i++) {
+				trigrams.add(padded.substring(i, i + 3));
+			}
+		}
+	}
+}
@@ -0,0 +1,351 @@
+package com.lingotower.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.constants.LanguageConstants;
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.word.WordByCategory;
+import com.lingotower.dto.word.WordCatalogView;
+import com.lingotower.model.Category;
+import com.lingotower.model.Difficulty;
+import com.lingotower.model.Word;
+import com.lingotower.util.RandomSampling;
+
+/**
+ * Read-optimized, in-memory snapshot of all words, indexed by category, by
+ * difficulty and by both. Readers work on an immutable snapshot without locks;
+ * admin edits build a new snapshot and swap it in (copy-on-write). Random
+ * samples are drawn in O(k) without copying or shuffling whole word lists.
+ */
+@Component
+public class WordCatalog {
+
+	private static final Logger logger = LoggerFactory.getLogger(WordCatalog.class);
+
+	private final WordRepository wordRepository;
+	private final CategoryRepository categoryRepository;
+	private final CatalogVersion catalogVersion;
+	private final boolean preload;
+	private final Object writeLock = new Object();
+	private volatile Snapshot snapshot;
+
+	public WordCatalog(WordRepository wordRepository, CategoryRepository categoryRepository,
+			CatalogVersion catalogVersion, @Value("${words.random.source:catalog}") String randomWordSource) {
+		this.wordRepository = wordRepository;
+		this.categoryRepository = categoryRepository;
+		this.catalogVersion = catalogVersion;
+		// When random words are sampled in the database the catalog is only loaded on first use
+		this.preload = !"database".equalsIgnoreCase(randomWordSource.trim());
+	}
+
+	/**
+	 * Loads the catalog once the application is ready, after the data
+	 * initializers have seeded the word tables.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		if (preload) {
+			reload();
+		}
+	}
+
+	/**
+	 * Rebuilds the catalog from the database.
+	 */
+	public void reload() {
+		synchronized (writeLock) {
+			Map<Long, CatalogWord> words = new HashMap<>();
+			for (WordCatalogView view : wordRepository.findAllForCatalog()) {
+				words.put(view.getId(), toRecord(view));
+			}
+			install(words, loadCategories());
+			logger.info("Word catalog loaded with {} words", words.size());
+		}
+	}
+
+	/**
+	 * Rebuilds only the categories of the catalog, after a category was added,
+	 * renamed or removed.
+	 */
+	public void reloadCategories() {
+		synchronized (writeLock) {
+			if (notLoaded()) {
+				catalogVersion.bump();
+				return;
+			}
+			install(current().words, loadCategories());
+		}
+	}
+
+	/**
+	 * Adds a saved word to the catalog or replaces its previous version.
+	 *
+	 * @param word The saved Word entity.
+	 */
+	public void upsert(Word word) {
+		upsertAll(List.of(word));
+	}
+
+	/**
+	 * Adds saved words to the catalog, replacing previous versions, with a single
+	 * snapshot swap.
+	 *
+	 * @param savedWords The saved Word entities.
+	 */
+	public void upsertAll(Collection<Word> savedWords) {
+		synchronized (writeLock) {
+			if (notLoaded()) {
+				catalogVersion.bump();
+				return;
+			}
+			Snapshot current = current();
+			Map<Long, CatalogWord> words = new HashMap<>(current.words);
+			Map<Long, Category> categories = new HashMap<>(current.categories);
+			for (Word word : savedWords) {
+				if (word.getId() == null) {
+					continue;
+				}
+				Category category = word.getCategory();
+				if (category != null && category.getId() != null) {
+					categories.putIfAbsent(category.getId(), copyOf(category));
+				}
+				words.put(word.getId(), toRecord(word));
+			}
+			install(words, categories);
+		}
+	}
+
+	/**
+	 * Removes a deleted word from the catalog.
+	 *
+	 * @param wordId The id of the deleted word.
+	 */
+	public void remove(Long wordId) {
+		synchronized (writeLock) {
+			if (notLoaded()) {
+				catalogVersion.bump();
+				return;
+			}
+			Snapshot current = current();
+			if (!current.words.containsKey(wordId)) {
+				// The snapshot is unchanged, but the row was still deleted
+				catalogVersion.bump();
+				return;
+			}
+			Map<Long, CatalogWord> words = new HashMap<>(current.words);
+			words.remove(wordId);
+			install(words, current.categories);
+		}
+	}
+
+	/**
+	 * Removes every word from the catalog.
+	 */
+	public void clearWords() {
+		synchronized (writeLock) {
+			if (notLoaded()) {
+				catalogVersion.bump();
+				return;
+			}
+			install(Map.of(), current().categories);
+		}
+	}
+
+	/**
+	 * Draws distinct random words of a category and difficulty.
+	 *
+	 * @param categoryId The category id, or null for any category.
+	 * @param difficulty The difficulty level, or null for any level.
+	 * @param count      The maximum number of words to draw.
+	 * @return Up to count distinct words in random order.
+	 */
+	public List<CatalogWord> sample(Long categoryId, Difficulty difficulty, int count) {
+		Snapshot current = current();
+		CatalogWord[] source;
+		if (categoryId != null && difficulty != null) {
+			source = current.byCategoryAndDifficulty.get(new BucketKey(categoryId, difficulty));
+		} else if (categoryId != null) {
+			source = current.byCategory.get(categoryId);
+		} else if (difficulty != null) {
+			source = current.byDifficulty.get(difficulty);
+		} else {
+			source = current.all;
+		}
+		if (source == null) {
+			return Collections.emptyList();
+		}
+		List<CatalogWord> sample = new ArrayList<>(Math.min(count, source.length));
+		for (int index : RandomSampling.distinctIndices(source.length, count)) {
+			sample.add(source[index]);
+		}
+		return sample;
+	}
+
+	/**
+	 * Returns all words of a category and difficulty.
+	 *
+	 * @param categoryId The category id.
+	 * @param difficulty The difficulty level.
+	 * @return An unmodifiable list of the words, empty if there are none.
+	 */
+	public List<CatalogWord> words(Long categoryId, Difficulty difficulty) {
+		if (notLoaded()) {
+			// Read just the bucket rather than loading the whole catalog
+			return wordRepository.findForCatalog(categoryId, difficulty).stream().map(WordCatalog::toRecord).toList();
+		}
+		CatalogWord[] words = current().byCategoryAndDifficulty.get(new BucketKey(categoryId, difficulty));
+		return words == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(words));
+	}
+
+	/**
+	 * Maps catalog words to the DTO used by the API, showing the word in the
+	 * user's language first.
+	 *
+	 * @param words        The catalog words.
+	 * @param userLanguage The user's target language.
+	 * @return A list of WordByCategory objects.
+	 */
+	public List<WordByCategory> toWordsByCategory(List<CatalogWord> words, String userLanguage) {
+		Snapshot current = current();
+		List<WordByCategory> mapped = new ArrayList<>(words.size());
+		for (CatalogWord word : words) {
+			Category category = word.categoryId() == null ? null : current.categories.get(word.categoryId());
+			if (LanguageConstants.HEBREW.equals(userLanguage)) {
+				mapped.add(new WordByCategory(word.id(), word.translation(), word.word(), category, word.difficulty()));
+			} else {
+				mapped.add(new WordByCategory(word.id(), word.word(), word.translation(), category, word.difficulty()));
+			}
+		}
+		return mapped;
+	}
+
+	/**
+	 * @return The {@link CatalogVersion} at which the current snapshot was
+	 *         installed. When random words are sampled in the database, the
+	 *         current {@link CatalogVersion}, so that asking for the version
+	 *         does not load the catalog.
+	 */
+	public long getVersion() {
+		return preload ? current().version : catalogVersion.current();
+	}
+
+	public int size() {
+		return current().all.length;
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			reload();
+			current = snapshot;
+		}
+		return current;
+	}
+
+	/**
+	 * When random words are sampled in the database the catalog may never be
+	 * loaded; until it is, edits have nothing to update and reads of a single
+	 * bucket go to the database.
+	 */
+	private boolean notLoaded() {
+		return !preload && snapshot == null;
+	}
+
+	private void install(Map<Long, CatalogWord> words, Map<Long, Category> categories) {
+		snapshot = new Snapshot(words, categories, catalogVersion.bump());
+	}
+
+	private Map<Long, Category> loadCategories() {
+		Map<Long, Category> categories = new HashMap<>();
+		for (Category category : categoryRepository.findAll()) {
+			categories.put(category.getId(), copyOf(category));
+		}
+		return categories;
+	}
+
+	private static CatalogWord toRecord(Word word) {
+		Long categoryId = word.getCategory() == null ? null : word.getCategory().getId();
+		return new CatalogWord(word.getId(), word.getWord(), word.getTranslation(), categoryId, word.getDifficulty(),
+				intern(word.getSourceLanguage()), intern(word.getTargetLanguage()));
+	}
+
+	private static CatalogWord toRecord(WordCatalogView view) {
+		return new CatalogWord(view.getId(), view.getWord(), view.getTranslation(), view.getCategoryId(),
+				view.getDifficulty(), intern(view.getSourceLanguage()), intern(view.getTargetLanguage()));
+	}
+
+	private static Category copyOf(Category category) {
+		Category copy = new Category();
+		copy.setId(category.getId());
+		copy.setName(category.getName());
+		copy.setTranslation(category.getTranslation());
+		return copy;
+	}
+
+	private static String intern(String value) {
+		return value == null ? null : value.intern();
+	}
+
+	private record BucketKey(Long categoryId, Difficulty difficulty) {
+	}
+
+	/**
+	 * Immutable view of the catalog. Built once per change and never modified.
+	 */
+	private static final class Snapshot {
+		private final Map<Long, CatalogWord> words;
+		private final Map<Long, Category> categories;
+		private final CatalogWord[] all;
+		private final Map<Long, CatalogWord[]> byCategory;
+		private final Map<Difficulty, CatalogWord[]> byDifficulty;
+		private final Map<BucketKey, CatalogWord[]> byCategoryAndDifficulty;
+		private final long version;
+
+		private Snapshot(Map<Long, CatalogWord> words, Map<Long, Category> categories, long version) {
+			this.words = Map.copyOf(words);
+			this.categories = Map.copyOf(categories);
+			this.version = version;
+
+			Map<Long, List<CatalogWord>> categoryLists = new HashMap<>();
+			Map<Difficulty, List<CatalogWord>> difficultyLists = new EnumMap<>(Difficulty.class);
+			Map<BucketKey, List<CatalogWord>> bucketLists = new HashMap<>();
+			for (CatalogWord word : words.values()) {
+				if (word.categoryId() != null) {
+					categoryLists.computeIfAbsent(word.categoryId(), key -> new ArrayList<>()).add(word);
+				}
+				if (word.difficulty() != null) {
+					difficultyLists.computeIfAbsent(word.difficulty(), key -> new ArrayList<>()).add(word);
+				}
+				if (word.categoryId() != null && word.difficulty() != null) {
+					bucketLists.computeIfAbsent(new BucketKey(word.categoryId(), word.difficulty()),
+							key -> new ArrayList<>()).add(word);
+				}
+			}
+			this.all = words.values().toArray(CatalogWord[]::new);
+			this.byCategory = toArrays(categoryLists);
+			this.byDifficulty = toArrays(difficultyLists);
+			this.byCategoryAndDifficulty = toArrays(bucketLists);
+		}
+
+		private static <K> Map<K, CatalogWord[]> toArrays(Map<K, List<CatalogWord>> lists) {
+			Map<K, CatalogWord[]> arrays = new HashMap<>();
+			lists.forEach((key, list) -> arrays.put(key, list.toArray(CatalogWord[]::new)));
+			return Map.copyOf(arrays);
+		}
+	}
+}
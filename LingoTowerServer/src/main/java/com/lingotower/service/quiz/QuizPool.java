@@ -0,0 +1,162 @@
+package com.lingotower.service.quiz;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.dto.quiz.QuestionDTO;
+import com.lingotower.dto.quiz.QuizPoolStatsDTO;
+import com.lingotower.model.Difficulty;
+import com.lingotower.service.catalog.WordCatalog;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Ready-made quizzes per (category, difficulty, language), so that generating
+ * a quiz is usually a matter of taking one from a queue. Each key has a bounded
+ * ring buffer that background workers fill up again whenever it drops below a
+ * low watermark. An empty buffer falls back to generating the quiz on the
+ * caller's thread. Quizzes made before the word catalog last changed are
+ * discarded, as they may refer to edited or deleted words.
+ */
+@Component
+public class QuizPool {
+
+	private static final Logger logger = LoggerFactory.getLogger(QuizPool.class);
+
+	private final WordCatalog wordCatalog;
+	private final boolean enabled;
+	private final int capacity;
+	private final int lowWatermark;
+	private final Map<PoolKey, Pool> pools = new ConcurrentHashMap<>();
+	private final ThreadPoolExecutor refillExecutor;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder generated = new LongAdder();
+	private final LongAdder discarded = new LongAdder();
+
+	public QuizPool(WordCatalog wordCatalog, @Value("${quiz.pool.enabled:true}") boolean enabled,
+			@Value("${quiz.pool.capacity:20}") int capacity,
+			@Value("${quiz.pool.low-watermark:5}") int lowWatermark,
+			@Value("${quiz.pool.workers:2}") int workers) {
+		this.wordCatalog = wordCatalog;
+		this.enabled = enabled;
+		this.capacity = capacity;
+		this.lowWatermark = lowWatermark;
+		this.refillExecutor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(1000), runnable -> {
+					Thread thread = new Thread(runnable, "quiz-pool-refill");
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Takes a ready-made quiz, or generates one if none is ready.
+	 *
+	 * @param categoryId   The category of the quiz.
+	 * @param difficulty   The difficulty of the quiz.
+	 * @param userLanguage The language the quiz is shown in.
+	 * @param generator    Generates one quiz; also used to refill the pool in the
+	 *                     background.
+	 * @return The questions of the quiz.
+	 */
+	public List<QuestionDTO> take(Long categoryId, Difficulty difficulty, String userLanguage,
+			Supplier<List<QuestionDTO>> generator) {
+		if (!enabled) {
+			return generator.get();
+		}
+		Pool pool = pools.computeIfAbsent(new PoolKey(categoryId, difficulty, userLanguage),
+				key -> new Pool(generator));
+		long version = wordCatalog.getVersion();
+		PooledQuiz quiz;
+		while ((quiz = pool.quizzes.poll()) != null && quiz.version != version) {
+			discarded.increment();
+		}
+		if (pool.quizzes.size() < lowWatermark) {
+			scheduleRefill(pool);
+		}
+		if (quiz != null) {
+			hits.increment();
+			return quiz.questions;
+		}
+		misses.increment();
+		return generator.get();
+	}
+
+	public QuizPoolStatsDTO getStats() {
+		Map<String, Integer> depths = new LinkedHashMap<>();
+		pools.forEach((key, pool) -> depths.put(key.categoryId() + "/" + key.difficulty() + "/" + key.language(),
+				pool.quizzes.size()));
+		long hitCount = hits.sum();
+		long missCount = misses.sum();
+		double hitRate = hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount);
+		return new QuizPoolStatsDTO(enabled, capacity, lowWatermark, hitCount, missCount, hitRate, generated.sum(),
+				discarded.sum(), refillExecutor.getQueue().size(), depths);
+	}
+
+	private void scheduleRefill(Pool pool) {
+		if (!pool.refilling.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			refillExecutor.execute(() -> refill(pool));
+		} catch (RejectedExecutionException e) {
+			pool.refilling.set(false);
+			logger.debug("Quiz pool refill queue is full");
+		}
+	}
+
+	private void refill(Pool pool) {
+		try {
+			while (pool.quizzes.remainingCapacity() > 0) {
+				long version = wordCatalog.getVersion();
+				List<QuestionDTO> questions = pool.generator.get();
+				if (questions.isEmpty() || !pool.quizzes.offer(new PooledQuiz(version, questions))) {
+					return;
+				}
+				generated.increment();
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Could not refill quiz pool", e);
+		} finally {
+			pool.refilling.set(false);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		refillExecutor.shutdownNow();
+	}
+
+	private record PoolKey(Long categoryId, Difficulty difficulty, String language) {
+	}
+
+	private record PooledQuiz(long version, List<QuestionDTO> questions) {
+	}
+
+	private final class Pool {
+		private final BlockingQueue<PooledQuiz> quizzes = new ArrayBlockingQueue<>(capacity);
+		private final Supplier<List<QuestionDTO>> generator;
+		private final AtomicBoolean refilling = new AtomicBoolean();
+
+		private Pool(Supplier<List<QuestionDTO>> generator) {
+			this.generator = generator;
+		}
+	}
+}
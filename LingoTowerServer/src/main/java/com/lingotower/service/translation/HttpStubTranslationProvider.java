@@ -0,0 +1,45 @@
+package com.lingotower.service.translation;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+/**
+ * Translation provider backed by a local HTTP stub, for tests and load runs
+ * that must not spend the real provider's quota. The stub answers
+ * GET /translate?q=&amp;source=&amp;target= with the translated text as plain
+ * text. Only created under the translation-stub profile; calls share the
+ * translation client's connection pool.
+ */
+@Component
+@Profile("translation-stub")
+public class HttpStubTranslationProvider implements TranslationProvider {
+
+	private static final String TRANSLATE_PATH = "/translate?q={text}&source={source}&target={target}";
+
+	private final WebClient webClient;
+	private final Duration timeout;
+
+	public HttpStubTranslationProvider(@Qualifier("translationWebClient") WebClient translationWebClient,
+			@Value("${translation.providers.stub.base-url:http://localhost:8089}") String baseUrl,
+			@Value("${translation.providers.stub.timeout-ms:2000}") long timeoutMs) {
+		this.webClient = translationWebClient.mutate().baseUrl(baseUrl).build();
+		this.timeout = Duration.ofMillis(timeoutMs);
+	}
+
+	@Override
+	public String getName() {
+		return "stub";
+	}
+
+	@Override
+	public CompletableFuture<String> translate(TranslationRequest request) {
+		return webClient.get().uri(TRANSLATE_PATH, request.text(), request.sourceLang(), request.targetLang())
+				.retrieve().bodyToMono(String.class).timeout(timeout).toFuture();
+	}
+}
@@ -0,0 +1,209 @@
+package com.lingotower.service.translation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lingotower.constants.LanguageConstants;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.translation.LocalDictionaryStatsDTO;
+import com.lingotower.dto.word.WordTranslationView;
+import com.lingotower.util.TextNormalizer;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory bidirectional dictionary of the word pairs the application already
+ * knows: the bundled seed files (words, category names and example sentences)
+ * and the Word table. Lookups match case and whitespace insensitively in both
+ * directions, so the translation API is only called for text the dictionary
+ * has never seen. Entries from the Word table take precedence over seed data.
+ */
+@Component
+public class LocalDictionary implements TranslationProvider {
+
+	private static final Logger logger = LoggerFactory.getLogger(LocalDictionary.class);
+	private static final String[] SEED_LOCATIONS = { "classpath:*.json", "classpath:sentences/*.json" };
+
+	private final WordRepository wordRepository;
+	private final ResourcePatternResolver resourcePatternResolver;
+	private final ObjectMapper objectMapper;
+	private final Map<String, String> entries = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public LocalDictionary(WordRepository wordRepository, ResourcePatternResolver resourcePatternResolver,
+			ObjectMapper objectMapper) {
+		this.wordRepository = wordRepository;
+		this.resourcePatternResolver = resourcePatternResolver;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Loads the seed resources and the stored words. Runs before the data
+	 * initializers so that seeding already benefits from the dictionary.
+	 */
+	@PostConstruct
+	public void load() {
+		loadSeedResources();
+		try {
+			for (WordTranslationView word : wordRepository.findAllTranslated()) {
+				put(word.getWord(), word.getTranslation(), word.getSourceLanguage(), word.getTargetLanguage());
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Could not load stored words into the local dictionary", e);
+		}
+		logger.info("Local dictionary loaded with {} entries", entries.size());
+	}
+
+	/**
+	 * Looks up the translation of a text in either direction.
+	 *
+	 * @param text       The text to translate.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @return The known translation, if there is one.
+	 */
+	public Optional<String> lookup(String text, String sourceLang, String targetLang) {
+		String translation = entries.get(key(text, sourceLang, targetLang));
+		if (translation == null) {
+			misses.increment();
+			return Optional.empty();
+		}
+		hits.increment();
+		return Optional.of(translation);
+	}
+
+	@Override
+	public String getName() {
+		return "dictionary";
+	}
+
+	@Override
+	public boolean isLocal() {
+		return true;
+	}
+
+	@Override
+	public CompletableFuture<String> translate(TranslationRequest request) {
+		return CompletableFuture
+				.completedFuture(lookup(request.text(), request.sourceLang(), request.targetLang()).orElse(null));
+	}
+
+	/**
+	 * Records a word pair in both directions, replacing any previous mapping of
+	 * either side.
+	 *
+	 * @param word        The word in the source language.
+	 * @param translation The translation in the target language.
+	 * @param sourceLang  The source language code; English if null.
+	 * @param targetLang  The target language code; Hebrew if null.
+	 */
+	public void put(String word, String translation, String sourceLang, String targetLang) {
+		if (isBlank(word) || isBlank(translation)) {
+			return;
+		}
+		String source = languageOrDefault(sourceLang, LanguageConstants.ENGLISH);
+		String target = languageOrDefault(targetLang, LanguageConstants.HEBREW);
+		entries.put(key(word, source, target), translation.trim());
+		entries.put(key(translation, target, source), word.trim());
+	}
+
+	/**
+	 * Forgets a word pair, e.g. after the word was edited or deleted. Mappings
+	 * that have since been taken over by another pair are left alone.
+	 *
+	 * @param word        The word in the source language.
+	 * @param translation The translation in the target language.
+	 * @param sourceLang  The source language code; English if null.
+	 * @param targetLang  The target language code; Hebrew if null.
+	 */
+	public void remove(String word, String translation, String sourceLang, String targetLang) {
+		if (isBlank(word) || isBlank(translation)) {
+			return;
+		}
+		String source = languageOrDefault(sourceLang, LanguageConstants.ENGLISH);
+		String target = languageOrDefault(targetLang, LanguageConstants.HEBREW);
+		entries.remove(key(word, source, target), translation.trim());
+		entries.remove(key(translation, target, source), word.trim());
+	}
+
+	public LocalDictionaryStatsDTO getStats() {
+		return new LocalDictionaryStatsDTO(entries.size(), hits.sum(), misses.sum());
+	}
+
+	private void loadSeedResources() {
+		for (String location : SEED_LOCATIONS) {
+			try {
+				for (Resource resource : resourcePatternResolver.getResources(location)) {
+					try (InputStream input = resource.getInputStream()) {
+						loadSeedEntries(objectMapper.readTree(input));
+					} catch (IOException e) {
+						logger.warn("Could not read dictionary seed file {}", resource.getFilename(), e);
+					}
+				}
+			} catch (IOException e) {
+				logger.warn("Could not list dictionary seed files at {}", location, e);
+			}
+		}
+	}
+
+	/**
+	 * Reads the pairs of a seed file. Word files have word/translation fields,
+	 * the category file has name/translation and sentence files have parallel
+	 * sentences/translations arrays. Seed pairs never override existing entries.
+	 */
+	private void loadSeedEntries(JsonNode root) {
+		if (!root.isArray()) {
+			return;
+		}
+		for (JsonNode node : root) {
+			String source = node.path("sourceLanguage").asText(LanguageConstants.ENGLISH);
+			String target = node.path("targetLanguage").asText(LanguageConstants.HEBREW);
+			String translation = node.path("translation").asText(null);
+			if (node.hasNonNull("word")) {
+				putIfAbsent(node.get("word").asText(), translation, source, target);
+			} else if (node.hasNonNull("name")) {
+				putIfAbsent(node.get("name").asText(), translation, source, target);
+			}
+			JsonNode sentences = node.path("sentences");
+			JsonNode translations = node.path("translations");
+			for (int i = 0; i < sentences.size() && i < translations.size(); i++) {
+				putIfAbsent(sentences.get(i).asText(), translations.get(i).asText(), source, target);
+			}
+		}
+	}
+
+	private void putIfAbsent(String word, String translation, String sourceLang, String targetLang) {
+		if (isBlank(word) || isBlank(translation)) {
+			return;
+		}
+		entries.putIfAbsent(key(word, sourceLang, targetLang), translation.trim());
+		entries.putIfAbsent(key(translation, targetLang, sourceLang), word.trim());
+	}
+
+	private static String key(String text, String sourceLang, String targetLang) {
+		return sourceLang.trim() + '|' + targetLang.trim() + '|' + TextNormalizer.normalizeKey(text);
+	}
+
+	private static String languageOrDefault(String language, String fallback) {
+		return isBlank(language) ? fallback : language;
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+}
@@ -0,0 +1,70 @@
+package com.lingotower.service.translation;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.lingotower.dto.TranslationResponse;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking client for the MyMemory translation API.
+ */
+@Component
+public class MyMemoryClient {
+
+	private static final String TRANSLATE_PATH = "/get?q={text}&langpair={source}|{target}";
+	private static final Logger logger = LoggerFactory.getLogger(MyMemoryClient.class);
+
+	private final WebClient webClient;
+
+	public MyMemoryClient(@Qualifier("translationWebClient") WebClient webClient) {
+		this.webClient = webClient;
+	}
+
+	/**
+	 * Translates a text through the remote API without blocking the caller.
+	 *
+	 * @param text       The text to be translated.
+	 * @param sourceLang The source language code (e.g., "en").
+	 * @param targetLang The target language code (e.g., "he").
+	 * @return A Mono emitting the translated text, or completing empty if the
+	 *         response has no data. Quota exhaustion is signalled as
+	 *         WebClientResponseException.TooManyRequests, whether the API reports
+	 *         it through the HTTP status or in the response body.
+	 */
+	public Mono<String> translate(String text, String sourceLang, String targetLang) {
+		logger.info("Translating word: {} from {} to {}", text, sourceLang, targetLang);
+		return webClient.get().uri(TRANSLATE_PATH, text, sourceLang, targetLang).retrieve()
+				.bodyToMono(TranslationResponse.class).handle((response, sink) -> {
+					if (response.getResponseStatus() != null
+							&& response.getResponseStatus() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+						sink.error(WebClientResponseException.create(HttpStatus.TOO_MANY_REQUESTS.value(),
+								"Translation quota exceeded", null, null, null));
+					} else if (response.getResponseData() == null) {
+						logger.error("Translation response is null or has no data.");
+					} else {
+						String translatedText = response.getResponseData().getTranslatedText();
+						logger.info("Translation result: {}", translatedText);
+						if (translatedText != null) {
+							sink.next(translatedText);
+						}
+					}
+				});
+	}
+
+	/**
+	 * Same as {@link #translate(String, String, String)}, adapted to a
+	 * CompletableFuture that completes with null when the response has no data.
+	 */
+	public CompletableFuture<String> translateAsync(String text, String sourceLang, String targetLang) {
+		return translate(text, sourceLang, targetLang).toFuture();
+	}
+}
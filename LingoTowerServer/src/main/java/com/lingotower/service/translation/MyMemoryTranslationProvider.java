@@ -0,0 +1,32 @@
+package com.lingotower.service.translation;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * The MyMemory API as a translation provider. Calls are queued in the
+ * translation scheduler so they stay within the provider quota.
+ */
+@Component
+public class MyMemoryTranslationProvider implements TranslationProvider {
+
+	private final MyMemoryClient myMemoryClient;
+	private final TranslationScheduler translationScheduler;
+
+	public MyMemoryTranslationProvider(MyMemoryClient myMemoryClient, TranslationScheduler translationScheduler) {
+		this.myMemoryClient = myMemoryClient;
+		this.translationScheduler = translationScheduler;
+	}
+
+	@Override
+	public String getName() {
+		return "mymemory";
+	}
+
+	@Override
+	public CompletableFuture<String> translate(TranslationRequest request) {
+		return translationScheduler.submit(request.priority(),
+				() -> myMemoryClient.translateAsync(request.text(), request.sourceLang(), request.targetLang()));
+	}
+}
@@ -0,0 +1,332 @@
+package com.lingotower.service.translation;
+
+import java.sql.PreparedStatement;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.lingotower.constants.LanguageConstants;
+import com.lingotower.data.BackfillCheckpointRepository;
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.data.ExampleSentenceRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.translation.BackfillRow;
+import com.lingotower.dto.translation.BackfillStatsDTO;
+import com.lingotower.model.BackfillCheckpoint;
+import com.lingotower.model.Category;
+import com.lingotower.model.ExampleSentence;
+import com.lingotower.model.Word;
+import com.lingotower.service.TranslationService;
+import com.lingotower.service.catalog.CatalogVersion;
+import com.lingotower.service.catalog.ContentCache;
+import com.lingotower.service.catalog.DailyWordRotation;
+import com.lingotower.service.catalog.WordCatalog;
+import com.lingotower.util.ClozeAnalyzer;
+import com.lingotower.util.ClozeTemplate;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Scheduled job that fills in missing translations of words, categories and
+ * example sentences. Each table is walked in id order in chunks; every chunk is
+ * translated with bounded parallelism in the BACKGROUND lane of the scheduler,
+ * written back with one JDBC batch and checkpointed, so a restart resumes after
+ * the last finished chunk. Once a table has been walked completely the
+ * checkpoint starts over, which retries rows that failed during the pass.
+ */
+@Component
+public class TranslationBackfillJob {
+
+	private static final Logger logger = LoggerFactory.getLogger(TranslationBackfillJob.class);
+
+	private final WordRepository wordRepository;
+	private final ExampleSentenceRepository exampleSentenceRepository;
+	private final BackfillCheckpointRepository checkpointRepository;
+	private final EntityManager entityManager;
+	private final TransactionTemplate transactionTemplate;
+	private final TranslationService translationService;
+	private final LocalDictionary localDictionary;
+	private final CatalogVersion catalogVersion;
+	private final ContentCache contentCache;
+	private final WordCatalog wordCatalog;
+	private final DailyWordRotation dailyWordRotation;
+	private final List<BackfillTarget> targets;
+
+	private final boolean enabled;
+	private final int chunkSize;
+	private final int parallelism;
+	private final int maxRowsPerRun;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private final LongAdder totalRows = new LongAdder();
+	private final LongAdder totalTranslated = new LongAdder();
+	private final LongAdder totalFailed = new LongAdder();
+	private volatile Instant lastRunStartedAt;
+	private volatile long lastRunDurationMs;
+	private volatile long lastRunRows;
+
+	public TranslationBackfillJob(WordRepository wordRepository, CategoryRepository categoryRepository,
+			ExampleSentenceRepository exampleSentenceRepository, BackfillCheckpointRepository checkpointRepository,
+			EntityManager entityManager, PlatformTransactionManager transactionManager,
+			TranslationService translationService, LocalDictionary localDictionary, CatalogVersion catalogVersion,
+			ContentCache contentCache, WordCatalog wordCatalog, DailyWordRotation dailyWordRotation,
+			@Value("${translation.backfill.enabled:true}") boolean enabled,
+			@Value("${translation.backfill.chunk-size:100}") int chunkSize,
+			@Value("${translation.backfill.parallelism:8}") int parallelism,
+			@Value("${translation.backfill.max-rows-per-run:2000}") int maxRowsPerRun) {
+		this.wordRepository = wordRepository;
+		this.exampleSentenceRepository = exampleSentenceRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.entityManager = entityManager;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.translationService = translationService;
+		this.localDictionary = localDictionary;
+		this.catalogVersion = catalogVersion;
+		this.contentCache = contentCache;
+		this.wordCatalog = wordCatalog;
+		this.dailyWordRotation = dailyWordRotation;
+		this.enabled = enabled;
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+		this.maxRowsPerRun = maxRowsPerRun;
+		this.targets = List.of(
+				new BackfillTarget("word", wordRepository::findUntranslatedAfter,
+						"UPDATE word SET translation = ? WHERE id = ? AND translation IS NULL",
+						TranslationBackfillJob::translationOnly, false, true, this::wordsWritten),
+				new BackfillTarget("category", categoryRepository::findUntranslatedAfter,
+						"UPDATE Category SET translation = ? WHERE id = ? AND (translation IS NULL OR translation = '')",
+						TranslationBackfillJob::translationOnly, false, false, this::categoriesWritten),
+				new BackfillTarget("example_sentence", exampleSentenceRepository::findUntranslatedAfter,
+						"UPDATE example_sentence SET translatedText = ?, translatedClozeText = ?, "
+								+ "translatedClozeAnswerStart = ?, translatedClozeAnswerEnd = ? "
+								+ "WHERE id = ? AND translatedText IS NULL",
+						TranslationBackfillJob::translationWithCloze, true, false, this::sentencesWritten));
+	}
+
+	/**
+	 * Runs one backfill pass over all tables, bounded by the configured number of
+	 * rows per run. The first run is delayed so it never competes with startup.
+	 */
+	@Scheduled(initialDelayString = "${translation.backfill.initial-delay-ms:300000}", fixedDelayString = "${translation.backfill.interval-ms:600000}")
+	public void run() {
+		if (!enabled || !running.compareAndSet(false, true)) {
+			return;
+		}
+		long start = System.nanoTime();
+		lastRunStartedAt = Instant.now();
+		long rows = 0;
+		try {
+			for (BackfillTarget target : targets) {
+				rows += backfill(target, maxRowsPerRun - rows);
+				if (rows >= maxRowsPerRun) {
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			logger.error("Translation backfill run failed", e);
+		} finally {
+			lastRunDurationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			lastRunRows = rows;
+			running.set(false);
+			if (rows > 0) {
+				logger.info("Translation backfill processed {} rows in {} ms", rows, lastRunDurationMs);
+			}
+		}
+	}
+
+	public BackfillStatsDTO getStats() {
+		Map<String, Long> checkpoints = new LinkedHashMap<>();
+		for (BackfillTarget target : targets) {
+			checkpoints.put(target.name(),
+					checkpointRepository.findById(target.name()).map(BackfillCheckpoint::getLastId).orElse(0L));
+		}
+		long durationMs = lastRunDurationMs;
+		double rowsPerSecond = durationMs == 0 ? 0 : lastRunRows * 1000.0 / durationMs;
+		return new BackfillStatsDTO(running.get(), lastRunStartedAt, durationMs, lastRunRows, rowsPerSecond,
+				totalRows.sum(), totalTranslated.sum(), totalFailed.sum(), checkpoints);
+	}
+
+	/**
+	 * Processes chunks of one table from its checkpoint until the table is done or
+	 * the row budget is used up.
+	 *
+	 * @return The number of rows processed.
+	 */
+	private long backfill(BackfillTarget target, long budget) throws InterruptedException {
+		BackfillCheckpoint checkpoint = checkpointRepository.findById(target.name())
+				.orElseGet(() -> new BackfillCheckpoint(target.name()));
+		long processed = 0;
+		while (processed < budget) {
+			Pageable chunkRequest = PageRequest.of(0, (int) Math.min(chunkSize, budget - processed));
+			List<BackfillRow> chunk = target.reader().apply(checkpoint.getLastId(), chunkRequest);
+			if (chunk.isEmpty()) {
+				// Pass complete; rows that failed are picked up again by the next pass
+				checkpoint.setLastId(0L);
+				saveCheckpoint(checkpoint);
+				break;
+			}
+
+			List<Object[]> updates = translateChunk(target, chunk);
+			if (!updates.isEmpty()) {
+				write(target, updates);
+				target.written().accept(updates.stream().map(update -> (Long) update[update.length - 1]).toList());
+				catalogVersion.bump();
+			}
+			if (target.rememberInDictionary()) {
+				remember(chunk, updates);
+			}
+
+			checkpoint.setLastId(chunk.get(chunk.size() - 1).getId());
+			saveCheckpoint(checkpoint);
+			processed += chunk.size();
+			totalRows.add(chunk.size());
+			totalTranslated.add(updates.size());
+			totalFailed.add(chunk.size() - updates.size());
+		}
+		return processed;
+	}
+
+	/**
+	 * Translates a chunk with at most the configured number of translations in
+	 * flight at once.
+	 *
+	 * @return Update arguments (translation, derived columns, id) for every row that
+	 *         was translated.
+	 */
+	private List<Object[]> translateChunk(BackfillTarget target, List<BackfillRow> chunk)
+			throws InterruptedException {
+		Semaphore permits = new Semaphore(parallelism);
+		List<CompletableFuture<Object[]>> pending = new ArrayList<>(chunk.size());
+		for (BackfillRow row : chunk) {
+			permits.acquire();
+			CompletableFuture<String> translation = target.phrases()
+					? translationService.translatePhrasesAsync(row.getText(), sourceLanguage(row), targetLanguage(row),
+							TranslationPriority.BACKGROUND)
+					: translationService.translateTextAsync(row.getText(), sourceLanguage(row), targetLanguage(row),
+							TranslationPriority.BACKGROUND);
+			pending.add(translation.handle((translated, error) -> {
+				permits.release();
+				if (error != null || translated == null || translated.isBlank()) {
+					return null;
+				}
+				Object[] columns = target.columns().apply(translated);
+				Object[] update = Arrays.copyOf(columns, columns.length + 1);
+				update[columns.length] = row.getId();
+				return update;
+			}));
+		}
+		CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).join();
+		return pending.stream().map(CompletableFuture::join).filter(Objects::nonNull).toList();
+	}
+
+	/**
+	 * Writes the translations of a chunk as one JDBC batch, on the connection of
+	 * the current transaction. Hibernate does not see the batch, so the written
+	 * rows are evicted from the content cache afterwards.
+	 */
+	private void write(BackfillTarget target, List<Object[]> updates) {
+		transactionTemplate.executeWithoutResult(status -> entityManager.unwrap(Session.class).doWork(connection -> {
+			try (PreparedStatement statement = connection.prepareStatement(target.updateSql())) {
+				for (Object[] arguments : updates) {
+					for (int i = 0; i < arguments.length; i++) {
+						statement.setObject(i + 1, arguments[i]);
+					}
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		}));
+	}
+
+	/**
+	 * The in-memory catalog and the words of the day hold copies of the words, so
+	 * the written words are replaced there as well.
+	 */
+	private void wordsWritten(List<Long> ids) {
+		contentCache.evict(Word.class, ids);
+		wordCatalog.upsertAll(wordRepository.findAllById(ids));
+		ids.forEach(dailyWordRotation::evict);
+	}
+
+	private void categoriesWritten(List<Long> ids) {
+		contentCache.evict(Category.class, ids);
+		wordCatalog.reloadCategories();
+	}
+
+	/**
+	 * Sentences are also cached as the sentence collections of their words.
+	 */
+	private void sentencesWritten(List<Long> ids) {
+		contentCache.evict(ExampleSentence.class, ids);
+		contentCache.evictCollections(Word.class, "sentences", exampleSentenceRepository.findWordIdsByIdIn(ids));
+	}
+
+	private void remember(List<BackfillRow> chunk, List<Object[]> updates) {
+		Map<Long, BackfillRow> rowsById = new LinkedHashMap<>();
+		chunk.forEach(row -> rowsById.put(row.getId(), row));
+		for (Object[] update : updates) {
+			BackfillRow row = rowsById.get((Long) update[update.length - 1]);
+			localDictionary.put(row.getText(), (String) update[0], sourceLanguage(row), targetLanguage(row));
+		}
+	}
+
+	private void saveCheckpoint(BackfillCheckpoint checkpoint) {
+		checkpoint.setUpdatedAt(Instant.now());
+		checkpointRepository.save(checkpoint);
+	}
+
+	private static Object[] translationOnly(String translated) {
+		return new Object[] { translated };
+	}
+
+	/**
+	 * Stores the cloze template of a translated sentence along with it, as the
+	 * batch update bypasses the entity that would otherwise derive it.
+	 */
+	private static Object[] translationWithCloze(String translated) {
+		ClozeTemplate template = ClozeAnalyzer.hebrew(translated);
+		return template == null ? new Object[] { translated, null, null, null }
+				: new Object[] { translated, template.text(), template.answerStart(), template.answerEnd() };
+	}
+
+	private static String sourceLanguage(BackfillRow row) {
+		return row.getSourceLanguage() == null ? LanguageConstants.ENGLISH : row.getSourceLanguage();
+	}
+
+	private static String targetLanguage(BackfillRow row) {
+		return row.getTargetLanguage() == null ? LanguageConstants.HEBREW : row.getTargetLanguage();
+	}
+
+	/**
+	 * @param written Called with the ids of the rows of a chunk once it is written.
+	 */
+	private record BackfillTarget(String name, BiFunction<Long, Pageable, List<BackfillRow>> reader, String updateSql,
+			Function<String, Object[]> columns, boolean phrases, boolean rememberInDictionary,
+			Consumer<List<Long>> written) {
+	}
+}
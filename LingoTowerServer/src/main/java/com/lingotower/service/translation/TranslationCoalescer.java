@@ -0,0 +1,79 @@
+package com.lingotower.service.translation;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.lingotower.dto.translation.TranslationCoalescingStatsDTO;
+import com.lingotower.util.TextNormalizer;
+
+/**
+ * Collapses identical concurrent translation calls into one. The first caller
+ * for a (text, source, target, priority) key performs the call; everyone who
+ * asks for the same key while it is in flight waits on the leader's future
+ * instead of issuing a duplicate request. Interactive callers never join a
+ * background call, which may be queued behind other background work; background
+ * callers do join an interactive call for the same text.
+ */
+@Component
+public class TranslationCoalescer {
+
+	private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+	private final LongAdder leaders = new LongAdder();
+	private final LongAdder coalesced = new LongAdder();
+
+	/**
+	 * Starts the asynchronous call for the given key unless an identical call is
+	 * already in flight, in which case the future of that call is returned.
+	 *
+	 * @param text       The text to translate.
+	 * @param sourceLang The source language code.
+	 * @param targetLang The target language code.
+	 * @param priority   The lane the call is queued in.
+	 * @param call       Starts the translation call when this caller is leader.
+	 * @return A future completing with the translated text.
+	 */
+	public CompletableFuture<String> executeAsync(String text, String sourceLang, String targetLang,
+			TranslationPriority priority, Supplier<CompletableFuture<String>> call) {
+		String textKey = sourceLang + '|' + targetLang + '|' + TextNormalizer.normalizeKey(text);
+		String key = priority + "|" + textKey;
+		CompletableFuture<String> existing = priority == TranslationPriority.BACKGROUND
+				? inFlight.get(TranslationPriority.INTERACTIVE + "|" + textKey)
+				: null;
+		CompletableFuture<String> own = new CompletableFuture<>();
+		if (existing == null) {
+			existing = inFlight.putIfAbsent(key, own);
+		}
+		if (existing != null) {
+			coalesced.increment();
+			return existing;
+		}
+
+		leaders.increment();
+		own.whenComplete((result, error) -> inFlight.remove(key, own));
+		CompletableFuture<String> remote;
+		try {
+			remote = call.get();
+		} catch (RuntimeException e) {
+			remote = CompletableFuture.failedFuture(e);
+		}
+		remote.whenComplete((result, error) -> {
+			if (error != null) {
+				own.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+						? error.getCause()
+						: error);
+			} else {
+				own.complete(result);
+			}
+		});
+		return own;
+	}
+
+	public TranslationCoalescingStatsDTO getStats() {
+		return new TranslationCoalescingStatsDTO(leaders.sum(), coalesced.sum(), inFlight.size());
+	}
+}
@@ -0,0 +1,245 @@
+package com.lingotower.service.translation;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.data.TranslationMemoryRepository;
+import com.lingotower.dto.translation.TranslationMemoryStatsDTO;
+import com.lingotower.model.TranslationMemoryEntry;
+import com.lingotower.util.TextNormalizer;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Two level translation memory that sits in front of the external translation
+ * API. The first level is a size-bounded, least-recently-used in-process map;
+ * the second level is the translation_memory table, written to by a small
+ * background pool so callers never wait on the insert. Entries older than the
+ * refresh interval are still served, while a single background refresh brings
+ * them up to date.
+ */
+@Component
+public class TranslationMemory {
+
+	private static final Logger logger = LoggerFactory.getLogger(TranslationMemory.class);
+
+	private final TranslationMemoryRepository repository;
+	private final Duration refreshAfter;
+	private final Map<String, CachedTranslation> entries;
+	private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+	private final ThreadPoolExecutor backgroundExecutor;
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder storeHits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder staleHits = new LongAdder();
+	private final LongAdder refreshes = new LongAdder();
+	private final LongAdder loadFailures = new LongAdder();
+	private final LongAdder hitNanos = new LongAdder();
+	private final LongAdder loadNanos = new LongAdder();
+
+	public TranslationMemory(TranslationMemoryRepository repository,
+			@Value("${translation.memory.max-entries:10000}") int maxEntries,
+			@Value("${translation.memory.refresh-after-hours:720}") long refreshAfterHours,
+			@Value("${translation.memory.writer-threads:2}") int writerThreads) {
+		this.repository = repository;
+		this.refreshAfter = Duration.ofHours(refreshAfterHours);
+		this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedTranslation> eldest) {
+				return size() > maxEntries;
+			}
+		});
+		this.backgroundExecutor = new ThreadPoolExecutor(writerThreads, writerThreads, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(1000), runnable -> {
+					Thread thread = new Thread(runnable, "translation-memory-writer");
+					thread.setDaemon(true);
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+	}
+
+	/**
+	 * Returns the remembered translation for the given text, loading and storing
+	 * it with the loader on a miss. A stale entry is returned immediately and
+	 * refreshed in the background.
+	 *
+	 * @param text       The text to translate.
+	 * @param sourceLang The source language code.
+	 * @param targetLang The target language code.
+	 * @param loader     Starts the actual translation on a miss or refresh.
+	 * @return A future with the translated text, or with whatever the loader
+	 *         produced on a miss.
+	 */
+	public CompletableFuture<String> getOrLoad(String text, String sourceLang, String targetLang,
+			Supplier<CompletableFuture<String>> loader) {
+		long start = System.nanoTime();
+		String key = cacheKey(text, sourceLang, targetLang);
+		CachedTranslation cached = lookup(key, text, sourceLang, targetLang);
+		if (cached != null) {
+			hits.increment();
+			if (cached.isOlderThan(refreshAfter)) {
+				staleHits.increment();
+				scheduleRefresh(key, text, sourceLang, targetLang, loader);
+			}
+			hitNanos.add(System.nanoTime() - start);
+			return CompletableFuture.completedFuture(cached.translation());
+		}
+
+		misses.increment();
+		return startLoad(loader).whenComplete((translated, error) -> {
+			loadNanos.add(System.nanoTime() - start);
+			if (error != null) {
+				loadFailures.increment();
+			} else {
+				remember(key, text, sourceLang, targetLang, translated);
+			}
+		});
+	}
+
+	/**
+	 * Looks up a remembered translation without ever calling out to a loader.
+	 *
+	 * @param text       The text to look up.
+	 * @param sourceLang The source language code.
+	 * @param targetLang The target language code.
+	 * @return The remembered translation, if there is one.
+	 */
+	public Optional<String> peek(String text, String sourceLang, String targetLang) {
+		CachedTranslation cached = lookup(cacheKey(text, sourceLang, targetLang), text, sourceLang, targetLang);
+		return cached == null ? Optional.empty() : Optional.of(cached.translation());
+	}
+
+	/**
+	 * Stores a translation that was obtained elsewhere, e.g. from a batch call.
+	 *
+	 * @param text       The source text.
+	 * @param sourceLang The source language code.
+	 * @param targetLang The target language code.
+	 * @param translated The translated text. Blank values are ignored.
+	 */
+	public void put(String text, String sourceLang, String targetLang, String translated) {
+		remember(cacheKey(text, sourceLang, targetLang), text, sourceLang, targetLang, translated);
+	}
+
+	public TranslationMemoryStatsDTO getStats() {
+		long hitCount = hits.sum();
+		long missCount = misses.sum();
+		return new TranslationMemoryStatsDTO(entries.size(), hitCount, storeHits.sum(), missCount, staleHits.sum(),
+				refreshes.sum(), loadFailures.sum(), averageMicros(hitNanos.sum(), hitCount),
+				averageMicros(loadNanos.sum(), missCount));
+	}
+
+	private CachedTranslation lookup(String key, String text, String sourceLang, String targetLang) {
+		CachedTranslation cached = entries.get(key);
+		if (cached != null) {
+			return cached;
+		}
+		try {
+			Optional<TranslationMemoryEntry> stored = repository.findByTextHashAndSourceLanguageAndTargetLanguage(
+					TextNormalizer.sha256(TextNormalizer.normalizeKey(text)), sourceLang, targetLang);
+			if (stored.isPresent()) {
+				storeHits.increment();
+				cached = new CachedTranslation(stored.get().getTranslatedText(), stored.get().getRefreshedAt());
+				entries.put(key, cached);
+			}
+		} catch (RuntimeException e) {
+			logger.warn("Translation memory lookup failed, falling back to the translation API", e);
+		}
+		return cached;
+	}
+
+	private void remember(String key, String text, String sourceLang, String targetLang, String translated) {
+		if (translated == null || translated.isBlank()) {
+			return;
+		}
+		Instant now = Instant.now();
+		entries.put(key, new CachedTranslation(translated, now));
+		try {
+			backgroundExecutor.execute(() -> persist(text, sourceLang, targetLang, translated, now));
+		} catch (RejectedExecutionException e) {
+			logger.debug("Translation memory write queue is full, '{}' is kept in memory only", text);
+		}
+	}
+
+	private void persist(String text, String sourceLang, String targetLang, String translated, Instant now) {
+		try {
+			String textHash = TextNormalizer.sha256(TextNormalizer.normalizeKey(text));
+			TranslationMemoryEntry entry = repository
+					.findByTextHashAndSourceLanguageAndTargetLanguage(textHash, sourceLang, targetLang)
+					.orElseGet(() -> new TranslationMemoryEntry(textHash, sourceLang, targetLang, text.trim(),
+							translated, now));
+			entry.setTranslatedText(translated);
+			entry.setRefreshedAt(now);
+			repository.save(entry);
+		} catch (DataIntegrityViolationException e) {
+			logger.debug("Translation for '{}' was stored concurrently", text);
+		} catch (RuntimeException e) {
+			logger.warn("Could not persist translation memory entry for '{}'", text, e);
+		}
+	}
+
+	private void scheduleRefresh(String key, String text, String sourceLang, String targetLang,
+			Supplier<CompletableFuture<String>> loader) {
+		if (!refreshing.add(key)) {
+			return;
+		}
+		startLoad(loader).whenComplete((translated, error) -> {
+			refreshing.remove(key);
+			if (error != null) {
+				loadFailures.increment();
+				logger.warn("Background refresh of translation '{}' failed", text, error);
+			} else {
+				refreshes.increment();
+				remember(key, text, sourceLang, targetLang, translated);
+			}
+		});
+	}
+
+	private static CompletableFuture<String> startLoad(Supplier<CompletableFuture<String>> loader) {
+		try {
+			return loader.get();
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	private static String cacheKey(String text, String sourceLang, String targetLang) {
+		return sourceLang + '|' + targetLang + '|' + TextNormalizer.normalizeKey(text);
+	}
+
+	private static double averageMicros(long totalNanos, long count) {
+		return count == 0 ? 0 : totalNanos / 1000.0 / count;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		backgroundExecutor.shutdownNow();
+	}
+
+	private record CachedTranslation(String translation, Instant refreshedAt) {
+		boolean isOlderThan(Duration age) {
+			return refreshedAt.plus(age).isBefore(Instant.now());
+		}
+	}
+}
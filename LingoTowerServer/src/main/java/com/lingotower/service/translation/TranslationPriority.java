@@ -0,0 +1,10 @@
+package com.lingotower.service.translation;
+
+/**
+ * Lane a translation call is queued in. Interactive calls are made on behalf of
+ * a waiting user and are always dispatched before background work such as seed
+ * data and backfill translations.
+ */
+public enum TranslationPriority {
+	INTERACTIVE, BACKGROUND
+}
@@ -0,0 +1,35 @@
+package com.lingotower.service.translation;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A source of translations. Providers are registered as beans and selected by
+ * name through the translation.providers.* properties.
+ */
+public interface TranslationProvider {
+
+	/**
+	 * @return The name the provider is configured by.
+	 */
+	String getName();
+
+	/**
+	 * Local providers answer from in-process data. They are consulted before any
+	 * remote provider, their answers are not stored in the translation memory and
+	 * they are never hedged.
+	 *
+	 * @return true if the provider never leaves the process.
+	 */
+	default boolean isLocal() {
+		return false;
+	}
+
+	/**
+	 * Translates a text without blocking the caller.
+	 *
+	 * @param request The text and language pair to translate.
+	 * @return A future completing with the translated text, or with null if the
+	 *         provider has no translation for it.
+	 */
+	CompletableFuture<String> translate(TranslationRequest request);
+}
@@ -0,0 +1,257 @@
+package com.lingotower.service.translation;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.lingotower.dto.translation.ProviderLatencyStatsDTO;
+import com.lingotower.dto.translation.TranslationProviderStatsDTO;
+import com.lingotower.util.LatencyHistogram;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Routes translations to the configured providers. Local providers are asked
+ * first. Remote translations go to the primary provider; for interactive
+ * requests, if the primary has not answered by its rolling p95 latency, the
+ * same request is also sent to the secondary provider and whichever answers
+ * first wins; the losing call is cancelled. A primary that fails or has no
+ * answer falls over to the secondary at once. Latency is tracked per provider in
+ * rolling histograms.
+ */
+@Component
+public class TranslationProviderRouter {
+
+	private final List<TranslationProvider> localProviders = new ArrayList<>();
+	private final TranslationProvider primary;
+	private final TranslationProvider secondary;
+	private final Map<String, ProviderMetrics> metrics = new LinkedHashMap<>();
+	private final ScheduledExecutorService hedgeTimer;
+
+	private final long initialHedgeDelayMs;
+	private final long minHedgeDelayMs;
+	private final int minSamples;
+
+	private final LongAdder hedged = new LongAdder();
+	private final LongAdder failovers = new LongAdder();
+	private final LongAdder secondaryWins = new LongAdder();
+
+	public TranslationProviderRouter(List<TranslationProvider> providers,
+			@Value("${translation.providers.primary:mymemory}") String primaryName,
+			@Value("${translation.providers.secondary:}") String secondaryName,
+			@Value("${translation.hedging.initial-delay-ms:1000}") long initialHedgeDelayMs,
+			@Value("${translation.hedging.min-delay-ms:20}") long minHedgeDelayMs,
+			@Value("${translation.hedging.min-samples:20}") int minSamples,
+			@Value("${translation.hedging.window-seconds:60}") long windowSeconds) {
+		Map<String, TranslationProvider> byName = new LinkedHashMap<>();
+		for (TranslationProvider provider : providers) {
+			byName.put(provider.getName(), provider);
+			metrics.put(provider.getName(), new ProviderMetrics(Duration.ofSeconds(windowSeconds)));
+			if (provider.isLocal()) {
+				localProviders.add(provider);
+			}
+		}
+		this.primary = requireProvider(byName, primaryName);
+		this.secondary = secondaryName == null || secondaryName.isBlank() ? null
+				: requireProvider(byName, secondaryName);
+		this.initialHedgeDelayMs = initialHedgeDelayMs;
+		this.minHedgeDelayMs = minHedgeDelayMs;
+		this.minSamples = minSamples;
+		this.hedgeTimer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "translation-hedge-timer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Asks the local providers, in order, for a translation.
+	 *
+	 * @param request The text and language pair to translate.
+	 * @return The first local answer, if any provider has one.
+	 */
+	public Optional<String> translateLocally(TranslationRequest request) {
+		for (TranslationProvider provider : localProviders) {
+			String translated = call(provider, request).join();
+			if (translated != null) {
+				return Optional.of(translated);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Translates through the remote providers, hedging interactive requests when
+	 * a secondary provider is configured.
+	 *
+	 * @param request The text and language pair to translate.
+	 * @return A future completing with the first translation, or with null if no
+	 *         provider has one.
+	 */
+	public CompletableFuture<String> translateRemotely(TranslationRequest request) {
+		if (secondary == null) {
+			return call(primary, request);
+		}
+		if (request.priority() != TranslationPriority.INTERACTIVE) {
+			// Background work is not latency sensitive; only fail over
+			return call(primary, request).thenCompose(
+					translated -> translated != null ? CompletableFuture.completedFuture(translated)
+							: call(secondary, request));
+		}
+		return hedged(request);
+	}
+
+	public TranslationProviderStatsDTO getStats() {
+		List<ProviderLatencyStatsDTO> providers = new ArrayList<>();
+		metrics.forEach((name, providerMetrics) -> {
+			LatencyHistogram latency = providerMetrics.latency;
+			providers.add(new ProviderLatencyStatsDTO(name, latency.getTotalCount(), providerMetrics.failures.sum(),
+					latency.percentileMillis(50), latency.percentileMillis(95), latency.percentileMillis(99),
+					latency.getRecentBuckets()));
+		});
+		return new TranslationProviderStatsDTO(primary.getName(), secondary == null ? null : secondary.getName(),
+				hedgeDelayMillis(), hedged.sum(), failovers.sum(), secondaryWins.sum(), providers);
+	}
+
+	private CompletableFuture<String> hedged(TranslationRequest request) {
+		CompletableFuture<String> result = new CompletableFuture<>();
+		CompletableFuture<String> secondaryCall = new CompletableFuture<>();
+		AtomicBoolean secondaryStarted = new AtomicBoolean();
+		// Settles the race between the two answers before the result completes, so
+		// that the stats are up to date by the time a caller sees the result
+		AtomicBoolean answered = new AtomicBoolean();
+		AtomicReference<CompletableFuture<String>> secondaryRemote = new AtomicReference<>();
+		Runnable startSecondary = () -> {
+			CompletableFuture<String> remote = call(secondary, request);
+			secondaryRemote.set(remote);
+			if (result.isDone()) {
+				// The primary answered while the secondary was being started
+				remote.cancel(true);
+			}
+			remote.whenComplete((translated, error) -> {
+				if (error != null) {
+					secondaryCall.completeExceptionally(error);
+				} else {
+					secondaryCall.complete(translated);
+				}
+			});
+		};
+
+		CompletableFuture<String> primaryCall = call(primary, request);
+		ScheduledFuture<?> hedge = hedgeTimer.schedule(() -> {
+			if (!primaryCall.isDone() && secondaryStarted.compareAndSet(false, true)) {
+				hedged.increment();
+				startSecondary.run();
+			}
+		}, hedgeDelayMillis(), TimeUnit.MILLISECONDS);
+
+		// Whichever call loses is no longer needed; stop it holding a connection or
+		// a scheduler token
+		result.whenComplete((translated, error) -> {
+			hedge.cancel(false);
+			primaryCall.cancel(true);
+			CompletableFuture<String> remote = secondaryRemote.get();
+			if (remote != null) {
+				remote.cancel(true);
+			}
+		});
+
+		secondaryCall.thenAccept(translated -> {
+			if (translated != null && !result.isDone() && answered.compareAndSet(false, true)) {
+				secondaryWins.increment();
+				result.complete(translated);
+			}
+		});
+		primaryCall.whenComplete((translated, error) -> {
+			hedge.cancel(false);
+			if (error == null && translated != null) {
+				if (answered.compareAndSet(false, true)) {
+					result.complete(translated);
+				}
+				return;
+			}
+			if (secondaryStarted.compareAndSet(false, true)) {
+				failovers.increment();
+				startSecondary.run();
+			}
+			secondaryCall.whenComplete((fallback, fallbackError) -> {
+				if (fallbackError == null && fallback != null) {
+					result.complete(fallback);
+				} else if (error != null) {
+					result.completeExceptionally(error);
+				} else {
+					result.complete(null);
+				}
+			});
+		});
+		return result;
+	}
+
+	/**
+	 * The delay before an interactive request is hedged: the primary's rolling
+	 * p95, or a fixed delay until enough samples have been seen.
+	 */
+	private long hedgeDelayMillis() {
+		LatencyHistogram latency = metrics.get(primary.getName()).latency;
+		if (latency.getRecentCount() < minSamples) {
+			return initialHedgeDelayMs;
+		}
+		return Math.max(minHedgeDelayMs, latency.percentileMillis(95));
+	}
+
+	private CompletableFuture<String> call(TranslationProvider provider, TranslationRequest request) {
+		ProviderMetrics providerMetrics = metrics.get(provider.getName());
+		long start = System.nanoTime();
+		CompletableFuture<String> call;
+		try {
+			call = provider.translate(request);
+		} catch (RuntimeException e) {
+			call = CompletableFuture.failedFuture(e);
+		}
+		call.whenComplete((translated, error) -> {
+			providerMetrics.latency.record(System.nanoTime() - start);
+			if (error != null && !(error instanceof CancellationException)) {
+				providerMetrics.failures.increment();
+			}
+		});
+		return call;
+	}
+
+	private static TranslationProvider requireProvider(Map<String, TranslationProvider> byName, String name) {
+		TranslationProvider provider = byName.get(name.trim());
+		if (provider == null) {
+			throw new IllegalStateException(
+					"Unknown translation provider '" + name + "', available: " + byName.keySet());
+		}
+		return provider;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		hedgeTimer.shutdownNow();
+	}
+
+	private static final class ProviderMetrics {
+		private final LatencyHistogram latency;
+		private final LongAdder failures = new LongAdder();
+
+		private ProviderMetrics(Duration window) {
+			this.latency = new LatencyHistogram(window);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.lingotower.service.translation;
+
+/**
+ * A single translation handed to a {@link TranslationProvider}.
+ *
+ * @param text       The text to translate.
+ * @param sourceLang The source language code (e.g., "en").
+ * @param targetLang The target language code (e.g., "he").
+ * @param priority   Whether a user is waiting for the answer.
+ */
+public record TranslationRequest(String text, String sourceLang, String targetLang, TranslationPriority priority) {
+}
@@ -0,0 +1,318 @@
+package com.lingotower.service.translation;
+
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.lingotower.dto.translation.TranslationSchedulerStatsDTO;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Central scheduler for outbound translation calls. Calls wait in priority
+ * lanes and are released by a single dispatcher thread at the rate of a token
+ * bucket sized to the provider quota. A 429 response puts the scheduler into
+ * exponential backoff and sends the call back to the front of its lane, so
+ * bursts are spread over the quota window instead of failing. Background calls
+ * leave a reserve of tokens untouched, so a user's call never waits for the
+ * bucket to refill after a run of background work.
+ */
+@Component
+public class TranslationScheduler {
+
+	private static final Logger logger = LoggerFactory.getLogger(TranslationScheduler.class);
+	private static final long DRAIN_WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+	private final PriorityBlockingQueue<ScheduledCall> queue = new PriorityBlockingQueue<>();
+	private final AtomicIntegerArray queuedByLane = new AtomicIntegerArray(TranslationPriority.values().length);
+	private final AtomicLong sequence = new AtomicLong();
+	private final Deque<Long> recentDispatches = new ConcurrentLinkedDeque<>();
+	private final Thread dispatcher;
+	// Signalled whenever a call is queued, guards arrivals
+	private final Object arrival = new Object();
+	private long arrivals;
+
+	private final double capacity;
+	private final double tokensPerNano;
+	private final int maxQueued;
+	private final int interactiveReserve;
+	private final int maxAttempts;
+	private final long initialBackoffMs;
+	private final long maxBackoffMs;
+
+	// Bucket and backoff state, guarded by this
+	private double tokens;
+	private long lastRefill;
+	private long backoffMs;
+	private long backoffUntil;
+
+	private final LongAdder dispatched = new LongAdder();
+	private final LongAdder throttled = new LongAdder();
+	private final LongAdder failed = new LongAdder();
+	private final LongAdder rejected = new LongAdder();
+
+	public TranslationScheduler(@Value("${translation.scheduler.requests-per-minute:30}") int requestsPerMinute,
+			@Value("${translation.scheduler.burst:5}") int burst,
+			@Value("${translation.scheduler.max-queued:2000}") int maxQueued,
+			@Value("${translation.scheduler.max-attempts:5}") int maxAttempts,
+			@Value("${translation.scheduler.initial-backoff-ms:1000}") long initialBackoffMs,
+			@Value("${translation.scheduler.max-backoff-ms:300000}") long maxBackoffMs,
+			@Value("${translation.scheduler.interactive-reserve:2}") int interactiveReserve) {
+		this.capacity = Math.max(1, burst);
+		this.interactiveReserve = Math.max(0, Math.min(interactiveReserve, (int) capacity - 1));
+		this.tokensPerNano = requestsPerMinute / (double) DRAIN_WINDOW_NANOS;
+		this.maxQueued = maxQueued;
+		this.maxAttempts = maxAttempts;
+		this.initialBackoffMs = initialBackoffMs;
+		this.maxBackoffMs = maxBackoffMs;
+		this.tokens = capacity;
+		this.lastRefill = System.nanoTime();
+		this.dispatcher = new Thread(this::dispatchLoop, "translation-scheduler");
+		this.dispatcher.setDaemon(true);
+	}
+
+	@PostConstruct
+	public void start() {
+		dispatcher.start();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		dispatcher.interrupt();
+	}
+
+	/**
+	 * Queues a translation call. The call is started once a token is available,
+	 * no backoff is in effect and no call of a higher priority is waiting.
+	 *
+	 * @param priority The lane to queue the call in.
+	 * @param call     Starts the remote call. It may be invoked again when the
+	 *                 provider answers with 429.
+	 * @return A future completing with the result of the call, or exceptionally if
+	 *         the queue is full or the call keeps being throttled. Cancelling it
+	 *         drops a queued call and cancels one already started.
+	 */
+	public CompletableFuture<String> submit(TranslationPriority priority, Supplier<CompletableFuture<String>> call) {
+		if (queue.size() >= maxQueued) {
+			rejected.increment();
+			return CompletableFuture.failedFuture(new RejectedExecutionException("Translation queue is full"));
+		}
+		ScheduledCall scheduled = new ScheduledCall(priority, sequence.incrementAndGet(), call);
+		enqueue(scheduled);
+		return scheduled.result;
+	}
+
+	public TranslationSchedulerStatsDTO getStats() {
+		long now = System.nanoTime();
+		pruneDispatches(now);
+		double availableTokens;
+		long currentBackoffMs;
+		long backoffRemainingMs;
+		synchronized (this) {
+			refill(now);
+			availableTokens = tokens;
+			currentBackoffMs = backoffMs;
+			backoffRemainingMs = Math.max(0, TimeUnit.NANOSECONDS.toMillis(backoffUntil - now));
+		}
+		return new TranslationSchedulerStatsDTO(queuedByLane.get(TranslationPriority.INTERACTIVE.ordinal()),
+				queuedByLane.get(TranslationPriority.BACKGROUND.ordinal()), dispatched.sum(), throttled.sum(),
+				failed.sum(), rejected.sum(), recentDispatches.size(), availableTokens, currentBackoffMs,
+				backoffRemainingMs);
+	}
+
+	private void enqueue(ScheduledCall call) {
+		queuedByLane.incrementAndGet(call.priority.ordinal());
+		queue.put(call);
+		synchronized (arrival) {
+			arrivals++;
+			arrival.notifyAll();
+		}
+	}
+
+	private void dispatchLoop() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				awaitPermit();
+				long seen = arrivals();
+				ScheduledCall call = queue.take();
+				if (call.result.isCancelled()) {
+					// The caller no longer wants the answer; do not spend a token on it
+					queuedByLane.decrementAndGet(call.priority.ordinal());
+					continue;
+				}
+				boolean background = call.priority == TranslationPriority.BACKGROUND;
+				long waitNanos = nanosUntilPermit(background ? 1 + interactiveReserve : 1);
+				if (waitNanos > 0) {
+					// A backoff started while we were waiting, or only the reserve is left;
+					// the call keeps its place
+					queue.put(call);
+					if (background) {
+						awaitArrival(seen, waitNanos);
+					}
+					continue;
+				}
+				queuedByLane.decrementAndGet(call.priority.ordinal());
+				synchronized (this) {
+					tokens -= 1;
+				}
+				dispatch(call);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} catch (RuntimeException e) {
+				logger.error("Translation dispatcher failed to start a call", e);
+			}
+		}
+	}
+
+	private void dispatch(ScheduledCall call) {
+		call.attempts++;
+		dispatched.increment();
+		long now = System.nanoTime();
+		recentDispatches.addLast(now);
+		pruneDispatches(now);
+
+		CompletableFuture<String> remote;
+		try {
+			remote = call.supplier.get();
+		} catch (RuntimeException e) {
+			remote = CompletableFuture.failedFuture(e);
+		}
+		CompletableFuture<String> started = remote;
+		call.result.whenComplete((result, error) -> {
+			if (call.result.isCancelled()) {
+				started.cancel(true);
+			}
+		});
+		remote.whenComplete((result, error) -> {
+			if (call.result.isCancelled()) {
+				return;
+			}
+			if (error == null) {
+				onSuccess();
+				call.result.complete(result);
+				return;
+			}
+			Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+					: error;
+			if (cause instanceof WebClientResponseException.TooManyRequests tooManyRequests) {
+				throttled.increment();
+				onThrottled(tooManyRequests);
+				if (call.attempts < maxAttempts) {
+					enqueue(call);
+					return;
+				}
+				logger.warn("Translation call throttled {} times, giving up", call.attempts);
+			}
+			failed.increment();
+			call.result.completeExceptionally(cause);
+		});
+	}
+
+	private void awaitPermit() throws InterruptedException {
+		long waitNanos;
+		while ((waitNanos = nanosUntilPermit(1)) > 0) {
+			TimeUnit.NANOSECONDS.sleep(waitNanos);
+		}
+	}
+
+	private long arrivals() {
+		synchronized (arrival) {
+			return arrivals;
+		}
+	}
+
+	/**
+	 * Waits until a call is queued after the given arrival count, or until the
+	 * timeout, whichever comes first.
+	 */
+	private void awaitArrival(long seen, long timeoutNanos) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		synchronized (arrival) {
+			long remaining;
+			while (arrivals == seen && (remaining = deadline - System.nanoTime()) > 0) {
+				TimeUnit.NANOSECONDS.timedWait(arrival, remaining);
+			}
+		}
+	}
+
+	private synchronized long nanosUntilPermit(double required) {
+		long now = System.nanoTime();
+		refill(now);
+		if (backoffUntil - now > 0) {
+			return backoffUntil - now;
+		}
+		return tokens >= required ? 0 : (long) Math.ceil((required - tokens) / tokensPerNano);
+	}
+
+	private void refill(long now) {
+		tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+		lastRefill = now;
+	}
+
+	private synchronized void onSuccess() {
+		backoffMs = backoffMs <= initialBackoffMs ? 0 : backoffMs / 2;
+	}
+
+	private synchronized void onThrottled(WebClientResponseException.TooManyRequests e) {
+		backoffMs = backoffMs == 0 ? initialBackoffMs : Math.min(maxBackoffMs, backoffMs * 2);
+		long waitMs = Math.max(backoffMs, retryAfterMs(e.getHeaders()));
+		backoffUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMs);
+		tokens = 0;
+		logger.warn("Translation provider returned 429, backing off for {} ms", waitMs);
+	}
+
+	private long retryAfterMs(HttpHeaders headers) {
+		String retryAfter = headers == null ? null : headers.getFirst(HttpHeaders.RETRY_AFTER);
+		if (retryAfter == null) {
+			return 0;
+		}
+		try {
+			return Math.min(maxBackoffMs, TimeUnit.SECONDS.toMillis(Long.parseLong(retryAfter.trim())));
+		} catch (NumberFormatException e) {
+			return 0;
+		}
+	}
+
+	private void pruneDispatches(long now) {
+		Long oldest;
+		while ((oldest = recentDispatches.peekFirst()) != null && now - oldest > DRAIN_WINDOW_NANOS) {
+			recentDispatches.pollFirst();
+		}
+	}
+
+	private static final class ScheduledCall implements Comparable<ScheduledCall> {
+		private final TranslationPriority priority;
+		private final long sequence;
+		private final Supplier<CompletableFuture<String>> supplier;
+		private final CompletableFuture<String> result = new CompletableFuture<>();
+		private int attempts;
+
+		private ScheduledCall(TranslationPriority priority, long sequence, Supplier<CompletableFuture<String>> supplier) {
+			this.priority = priority;
+			this.sequence = sequence;
+			this.supplier = supplier;
+		}
+
+		@Override
+		public int compareTo(ScheduledCall other) {
+			int byPriority = Integer.compare(priority.ordinal(), other.priority.ordinal());
+			return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.lingotower.util;
+
+/**
+ * Picks the word to blank out of an example sentence. The first word after
+ * the opening one that is longer than two letters and not one of the
+ * {@link StopWords} becomes the answer. The result is a {@link ClozeTemplate}, meant to be stored with the
+ * sentence so that questions are built without analyzing it again.
+ */
+public final class ClozeAnalyzer {
+
+	private static final ThreadLocal<TokenSpans> SPANS = ThreadLocal.withInitial(TokenSpans::new);
+
+	private ClozeAnalyzer() {
+	}
+
+	/**
+	 * Analyzes an English sentence. The answer is the chosen word as written,
+	 * including any punctuation attached to it.
+	 *
+	 * @param sentence The sentence, may be null.
+	 * @return The template, or null if the sentence has no suitable word.
+	 */
+	public static ClozeTemplate english(String sentence) {
+		return analyze(sentence, false);
+	}
+
+	/**
+	 * Analyzes a Hebrew sentence. The answer runs from the first to the last
+	 * letter of the chosen word, leaving punctuation around it in the sentence.
+	 *
+	 * @param sentence The sentence, may be null.
+	 * @return The template, or null if the sentence has no suitable word.
+	 */
+	public static ClozeTemplate hebrew(String sentence) {
+		return analyze(sentence, true);
+	}
+
+	private static ClozeTemplate analyze(String sentence, boolean hebrew) {
+		if (sentence == null) {
+			return null;
+		}
+		String text = TextTokenizer.collapseWhitespace(sentence);
+		TokenSpans spans = SPANS.get();
+		int tokens = TextTokenizer.tokenize(text, spans);
+		for (int token = 1; token < tokens; token++) {
+			if (hebrew) {
+				if (spans.script(token) != TextTokenizer.Script.LATIN && spans.letterCount(token) > 2
+						&& !StopWords.HEBREW.contains(text, spans.start(token), spans.end(token))) {
+					return new ClozeTemplate(text, spans.letterStart(token), spans.letterEnd(token));
+				}
+			} else if (spans.end(token) - spans.start(token) > 2
+					&& !StopWords.ENGLISH.contains(text, spans.start(token), spans.end(token))) {
+				return new ClozeTemplate(text, spans.start(token), spans.end(token));
+			}
+		}
+		return null;
+	}
+}
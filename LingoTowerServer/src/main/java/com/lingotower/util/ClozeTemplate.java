@@ -0,0 +1,37 @@
+package com.lingotower.util;
+
+/**
+ * A sentence prepared for a fill-in-the-blank question: the sentence with
+ * whitespace collapsed and the span of the word to blank out.
+ *
+ * @param text        The normalized sentence.
+ * @param answerStart The offset of the first character of the answer.
+ * @param answerEnd   The offset just past the last character of the answer.
+ */
+public record ClozeTemplate(String text, int answerStart, int answerEnd) {
+
+	public static final String BLANK = "_____";
+
+	/**
+	 * Rebuilds a stored template.
+	 *
+	 * @return The template, or null if any part of it was not stored.
+	 */
+	public static ClozeTemplate of(String text, Integer answerStart, Integer answerEnd) {
+		if (text == null || answerStart == null || answerEnd == null) {
+			return null;
+		}
+		return new ClozeTemplate(text, answerStart, answerEnd);
+	}
+
+	public String answer() {
+		return text.substring(answerStart, answerEnd);
+	}
+
+	/**
+	 * @return The sentence with the answer replaced by a blank.
+	 */
+	public String questionText() {
+		return text.substring(0, answerStart) + BLANK + text.substring(answerEnd);
+	}
+}
@@ -0,0 +1,146 @@
+package com.lingotower.util;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rolling latency histogram with logarithmic buckets from 1 ms up to a few
+ * minutes, each about 30% wider than the previous one. Percentiles are computed
+ * over the current and the previous window, so they follow recent behaviour
+ * without dropping to nothing whenever a window starts.
+ */
+public final class LatencyHistogram {
+
+	private static final int BUCKETS = 48;
+	private static final long[] UPPER_BOUNDS_MICROS = new long[BUCKETS];
+
+	static {
+		double bound = 1000;
+		for (int i = 0; i < BUCKETS; i++) {
+			UPPER_BOUNDS_MICROS[i] = (long) bound;
+			bound *= 1.3;
+		}
+	}
+
+	private final long windowNanos;
+	private final LongAdder totalCount = new LongAdder();
+	private volatile Window current;
+	private volatile Window previous;
+
+	public LatencyHistogram(Duration window) {
+		this.windowNanos = window.toNanos();
+		long now = System.nanoTime();
+		this.current = new Window(now);
+		this.previous = new Window(now);
+	}
+
+	/**
+	 * Records one sample.
+	 *
+	 * @param nanos The measured latency in nanoseconds.
+	 */
+	public void record(long nanos) {
+		currentWindow(System.nanoTime()).counts.incrementAndGet(bucketFor(nanos / 1000));
+		totalCount.increment();
+	}
+
+	/**
+	 * @return The number of samples recorded since creation.
+	 */
+	public long getTotalCount() {
+		return totalCount.sum();
+	}
+
+	/**
+	 * @return The number of samples in the current and previous window.
+	 */
+	public long getRecentCount() {
+		return Arrays.stream(recentCounts()).sum();
+	}
+
+	/**
+	 * Returns the given percentile of the recent samples, rounded up to the upper
+	 * bound of its bucket.
+	 *
+	 * @param percentile The percentile, between 0 and 100.
+	 * @return The percentile in milliseconds, or 0 if there are no recent samples.
+	 */
+	public long percentileMillis(double percentile) {
+		long[] counts = recentCounts();
+		long samples = Arrays.stream(counts).sum();
+		if (samples == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * samples));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts[i];
+			if (seen >= rank) {
+				return UPPER_BOUNDS_MICROS[i] / 1000;
+			}
+		}
+		return UPPER_BOUNDS_MICROS[BUCKETS - 1] / 1000;
+	}
+
+	/**
+	 * @return The recent non-empty buckets, keyed by their upper bound in
+	 *         milliseconds.
+	 */
+	public Map<Long, Long> getRecentBuckets() {
+		long[] counts = recentCounts();
+		Map<Long, Long> buckets = new LinkedHashMap<>();
+		for (int i = 0; i < BUCKETS; i++) {
+			if (counts[i] > 0) {
+				buckets.put(UPPER_BOUNDS_MICROS[i] / 1000, counts[i]);
+			}
+		}
+		return buckets;
+	}
+
+	private long[] recentCounts() {
+		Window latest = currentWindow(System.nanoTime());
+		Window earlier = previous;
+		long[] counts = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			counts[i] = latest.counts.get(i) + earlier.counts.get(i);
+		}
+		return counts;
+	}
+
+	private Window currentWindow(long now) {
+		Window window = current;
+		if (now - window.startedAt < windowNanos) {
+			return window;
+		}
+		synchronized (this) {
+			window = current;
+			if (now - window.startedAt >= windowNanos) {
+				// A window that ended long ago is no longer "previous"
+				previous = now - window.startedAt < 2 * windowNanos ? window : new Window(now);
+				current = new Window(now);
+			}
+			return current;
+		}
+	}
+
+	private static int bucketFor(long micros) {
+		int index = Arrays.binarySearch(UPPER_BOUNDS_MICROS, micros);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		return Math.min(index, BUCKETS - 1);
+	}
+
+	private static final class Window {
+		private final long startedAt;
+		private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+		private Window(long startedAt) {
+			this.startedAt = startedAt;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.lingotower.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits text into clauses at punctuation, keeping the punctuation and spacing
+ * so the translated clauses can be put back together in the same shape. A
+ * punctuation mark only ends a clause when it is followed by whitespace or the
+ * end of the text, so "3.5", "1,000" or "e.g." inside a clause are left alone.
+ */
+public final class PhraseSegmenter {
+
+	private PhraseSegmenter() {
+	}
+
+	/**
+	 * One clause of a text.
+	 *
+	 * @param text      The clause without surrounding whitespace; empty only for
+	 *                  text that starts with punctuation.
+	 * @param separator The punctuation and whitespace following the clause.
+	 */
+	public record Segment(String text, String separator) {
+	}
+
+	/**
+	 * Splits the given text into clauses.
+	 *
+	 * @param input The text to split.
+	 * @return The clauses in order; empty for null or blank input.
+	 */
+	public static List<Segment> segment(String input) {
+		List<Segment> segments = new ArrayList<>();
+		if (input == null) {
+			return segments;
+		}
+		int length = input.length();
+		int start = 0;
+		int i = 0;
+		while (i < length) {
+			if (!isClauseDelimiter(input.charAt(i))) {
+				i++;
+				continue;
+			}
+			int delimiterStart = i;
+			while (i < length && isClauseDelimiter(input.charAt(i))) {
+				i++;
+			}
+			if (i < length && !Character.isWhitespace(input.charAt(i))) {
+				continue;
+			}
+			while (i < length && Character.isWhitespace(input.charAt(i))) {
+				i++;
+			}
+			add(segments, input.substring(start, delimiterStart), input.substring(delimiterStart, i));
+			start = i;
+		}
+		if (start < length) {
+			add(segments, input.substring(start), "");
+		}
+		return segments;
+	}
+
+	/**
+	 * Puts translated clauses back together with the original separators.
+	 *
+	 * @param segments     The clauses the text was split into.
+	 * @param translations The translation of each clause, in the same order.
+	 * @return The reassembled translation.
+	 */
+	public static String assemble(List<Segment> segments, String[] translations) {
+		StringBuilder assembled = new StringBuilder();
+		for (int i = 0; i < segments.size(); i++) {
+			assembled.append(translations[i]).append(segments.get(i).separator());
+		}
+		return assembled.toString().strip();
+	}
+
+	private static void add(List<Segment> segments, String text, String separator) {
+		String clause = text.strip();
+		if (clause.isEmpty() && !segments.isEmpty()) {
+			Segment previous = segments.remove(segments.size() - 1);
+			segments.add(new Segment(previous.text(), previous.separator() + text + separator));
+		} else if (!clause.isEmpty() || !separator.isBlank()) {
+			segments.add(new Segment(clause, separator));
+		}
+	}
+
+	private static boolean isClauseDelimiter(char c) {
+		return c == ',' || c == ';' || c == ':' || c == '.' || c == '!' || c == '?';
+	}
+}
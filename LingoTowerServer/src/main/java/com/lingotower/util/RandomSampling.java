@@ -0,0 +1,58 @@
+package com.lingotower.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Draws distinct random elements without shuffling the whole source.
+ */
+public final class RandomSampling {
+
+	private RandomSampling() {
+	}
+
+	/**
+	 * Picks distinct random indices with Floyd's algorithm: k random draws for k
+	 * indices out of n, whatever the size of n.
+	 *
+	 * @param bound The number of indices to choose from.
+	 * @param count The number of indices wanted.
+	 * @return Up to count distinct indices below bound, in random order.
+	 */
+	public static List<Integer> distinctIndices(int bound, int count) {
+		int k = Math.min(Math.max(count, 0), bound);
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Set<Integer> chosen = new HashSet<>(k * 2);
+		List<Integer> indices = new ArrayList<>(k);
+		for (int j = bound - k; j < bound; j++) {
+			int index = random.nextInt(j + 1);
+			if (!chosen.add(index)) {
+				index = j;
+				chosen.add(j);
+			}
+			indices.add(index);
+		}
+		// Floyd's draws are distinct but not uniformly ordered
+		Collections.shuffle(indices, random);
+		return indices;
+	}
+
+	/**
+	 * Picks distinct random elements of a list.
+	 *
+	 * @param source The list to sample from; it is not modified.
+	 * @param count  The number of elements wanted.
+	 * @return Up to count distinct elements, in random order.
+	 */
+	public static <T> List<T> sample(List<T> source, int count) {
+		List<T> sample = new ArrayList<>(Math.min(Math.max(count, 0), source.size()));
+		for (int index : distinctIndices(source.size(), count)) {
+			sample.add(source.get(index));
+		}
+		return sample;
+	}
+}
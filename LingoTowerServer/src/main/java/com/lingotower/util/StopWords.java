@@ -0,0 +1,104 @@
+package com.lingotower.util;
+
+/**
+ * A fixed set of common words, looked up by a span of text without copying it.
+ * Only the Hebrew and Latin letters of the span take part, case-insensitively,
+ * so "The," matches "the". The words are laid out in a table by a perfect hash:
+ * the seed is chosen when the set is built so that no two words share a slot,
+ * and a lookup hashes the span once and compares it with at most one word.
+ */
+public final class StopWords {
+
+	public static final StopWords ENGLISH = new StopWords("a", "the", "is", "are", "in", "on", "at", "to", "for",
+			"with");
+
+	public static final StopWords HEBREW = new StopWords("של", "עם", "זה", "על", "גם", "את", "אם", "לא", "כן", "יש",
+			"אין", "מה", "אני", "הוא", "היא", "אתה", "אנחנו", "הם", "הן", "ב", "ל", "ו", "כ", "ש", "מ");
+
+	private static final int MAX_SEEDS = 10_000;
+
+	private final String[] table;
+	private final int mask;
+	private final int seed;
+
+	public StopWords(String... words) {
+		for (int size = Integer.highestOneBit(Math.max(words.length, 1)) * 2;; size *= 2) {
+			for (int candidate = 1; candidate <= MAX_SEEDS; candidate++) {
+				String[] slots = place(words, size, candidate);
+				if (slots != null) {
+					this.table = slots;
+					this.mask = size - 1;
+					this.seed = candidate;
+					return;
+				}
+			}
+		}
+	}
+
+	public boolean contains(CharSequence text) {
+		return contains(text, 0, text.length());
+	}
+
+	/**
+	 * @param text  The text holding the word.
+	 * @param start The offset of the first character of the word.
+	 * @param end   The offset just past the last character of the word.
+	 * @return Whether the letters of the span spell one of the words.
+	 */
+	public boolean contains(CharSequence text, int start, int end) {
+		String word = table[hash(text, start, end, seed) & mask];
+		if (word == null) {
+			return false;
+		}
+		int matched = 0;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (isLetter(c)) {
+				if (matched == word.length() || Character.toLowerCase(c) != word.charAt(matched)) {
+					return false;
+				}
+				matched++;
+			}
+		}
+		return matched == word.length();
+	}
+
+	private static String[] place(String[] words, int size, int seed) {
+		String[] slots = new String[size];
+		for (String word : words) {
+			String key = lettersOf(word);
+			int slot = hash(key, 0, key.length(), seed) & (size - 1);
+			if (slots[slot] != null && !slots[slot].equals(key)) {
+				return null;
+			}
+			slots[slot] = key;
+		}
+		return slots;
+	}
+
+	private static String lettersOf(String word) {
+		StringBuilder letters = new StringBuilder(word.length());
+		for (int i = 0; i < word.length(); i++) {
+			char c = word.charAt(i);
+			if (isLetter(c)) {
+				letters.append(Character.toLowerCase(c));
+			}
+		}
+		return letters.toString();
+	}
+
+	private static int hash(CharSequence text, int start, int end, int seed) {
+		int hash = seed * 0x9E3779B9;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (isLetter(c)) {
+				hash = (hash ^ Character.toLowerCase(c)) * 0x01000193;
+			}
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static boolean isLetter(char c) {
+		return TextTokenizer.isHebrewLetter(c) || TextTokenizer.isLatinLetter(c);
+	}
+}
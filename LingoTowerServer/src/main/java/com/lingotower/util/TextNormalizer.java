@@ -0,0 +1,42 @@
+package com.lingotower.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+
+public class TextNormalizer {
+
+	private TextNormalizer() {
+	}
+
+	/**
+	 * Normalizes text for use as a lookup key: trims it, collapses runs of
+	 * whitespace into a single space and lower-cases it.
+	 *
+	 * @param text The text to normalize.
+	 * @return The normalized text, or an empty string if text is null.
+	 */
+	public static String normalizeKey(String text) {
+		if (text == null) {
+			return "";
+		}
+		return TextTokenizer.collapseWhitespace(text).toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * Computes a hex encoded SHA-256 digest of the given text.
+	 *
+	 * @param text The text to hash.
+	 * @return The 64 character hex digest.
+	 */
+	public static String sha256(String text) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(text.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
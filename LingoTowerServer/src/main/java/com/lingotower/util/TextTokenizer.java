@@ -0,0 +1,148 @@
+package com.lingotower.util;
+
+/**
+ * Whitespace tokenizing and normalizing of English and Hebrew text in a single
+ * pass over the characters, without regular expressions. Tokens are reported
+ * as offsets into the text, so nothing is copied unless the caller asks for it.
+ */
+public final class TextTokenizer {
+
+	/**
+	 * The letters a token is made of.
+	 */
+	public enum Script {
+		/** No Hebrew or Latin letters, such as numbers or punctuation. */
+		NONE,
+		LATIN,
+		HEBREW,
+		/** Both Hebrew and Latin letters. */
+		MIXED
+	}
+
+	private TextTokenizer() {
+	}
+
+	/**
+	 * Splits text into whitespace separated tokens.
+	 *
+	 * @param text  The text to tokenize.
+	 * @param spans Receives the tokens; whatever it held before is cleared.
+	 * @return The number of tokens.
+	 */
+	public static int tokenize(CharSequence text, TokenSpans spans) {
+		spans.clear();
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			while (i < length && Character.isWhitespace(text.charAt(i))) {
+				i++;
+			}
+			if (i == length) {
+				break;
+			}
+			int start = i;
+			int letterStart = -1;
+			int letterEnd = -1;
+			int letterCount = 0;
+			boolean hebrew = false;
+			boolean latin = false;
+			for (char c; i < length && !Character.isWhitespace(c = text.charAt(i)); i++) {
+				boolean isHebrew = isHebrewLetter(c);
+				boolean isLatin = !isHebrew && isLatinLetter(c);
+				if (isHebrew || isLatin) {
+					hebrew |= isHebrew;
+					latin |= isLatin;
+					letterCount++;
+					if (letterStart < 0) {
+						letterStart = i;
+					}
+					letterEnd = i + 1;
+				}
+			}
+			if (letterStart < 0) {
+				letterStart = i;
+				letterEnd = i;
+			}
+			spans.add(start, i, letterStart, letterEnd, letterCount, script(hebrew, latin));
+		}
+		return spans.size();
+	}
+
+	/**
+	 * Trims text and replaces every run of whitespace by a single space.
+	 *
+	 * @param text The text to normalize, may be null.
+	 * @return The normalized text; the same instance if it already was normalized.
+	 */
+	public static String collapseWhitespace(String text) {
+		if (text == null) {
+			return null;
+		}
+		int length = text.length();
+		int clean = 0;
+		// Skip the prefix that needs no change, which is usually all of it
+		while (clean < length) {
+			char c = text.charAt(clean);
+			if (Character.isWhitespace(c) && (c != ' ' || clean == 0 || clean == length - 1
+					|| Character.isWhitespace(text.charAt(clean + 1)))) {
+				break;
+			}
+			clean++;
+		}
+		if (clean == length) {
+			return text;
+		}
+		StringBuilder collapsed = new StringBuilder(length);
+		collapsed.append(text, 0, clean);
+		boolean pendingSpace = false;
+		for (int i = clean; i < length; i++) {
+			char c = text.charAt(i);
+			if (Character.isWhitespace(c)) {
+				pendingSpace = collapsed.length() > 0;
+			} else {
+				if (pendingSpace) {
+					collapsed.append(' ');
+					pendingSpace = false;
+				}
+				collapsed.append(c);
+			}
+		}
+		return collapsed.toString();
+	}
+
+	/**
+	 * @param text The text to inspect.
+	 * @return The letters the whole text is made of.
+	 */
+	public static Script script(CharSequence text) {
+		boolean hebrew = false;
+		boolean latin = false;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isHebrewLetter(c)) {
+				hebrew = true;
+			} else if (isLatinLetter(c)) {
+				latin = true;
+			}
+		}
+		return script(hebrew, latin);
+	}
+
+	public static boolean isHebrewLetter(char c) {
+		return c >= 'א' && c <= 'ת';
+	}
+
+	public static boolean isLatinLetter(char c) {
+		if (c < 0x80) {
+			return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+		}
+		return c >= 0xC0 && c < 0x250 && c != 0xD7 && c != 0xF7;
+	}
+
+	private static Script script(boolean hebrew, boolean latin) {
+		if (hebrew) {
+			return latin ? Script.MIXED : Script.HEBREW;
+		}
+		return latin ? Script.LATIN : Script.NONE;
+	}
+}
@@ -0,0 +1,90 @@
+package com.lingotower.util;
+
+import java.util.Arrays;
+
+/**
+ * The tokens of a text as offsets into it, filled by
+ * {@link TextTokenizer#tokenize(CharSequence, TokenSpans)}. An instance keeps
+ * its arrays between calls, so tokenizing with a reused instance allocates
+ * nothing once the arrays have grown to the longest text seen. Not thread-safe.
+ */
+public final class TokenSpans {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private int size;
+	private int[] starts = new int[INITIAL_CAPACITY];
+	private int[] ends = new int[INITIAL_CAPACITY];
+	private int[] letterStarts = new int[INITIAL_CAPACITY];
+	private int[] letterEnds = new int[INITIAL_CAPACITY];
+	private int[] letterCounts = new int[INITIAL_CAPACITY];
+	private TextTokenizer.Script[] scripts = new TextTokenizer.Script[INITIAL_CAPACITY];
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return The offset of the first character of the token.
+	 */
+	public int start(int token) {
+		return starts[token];
+	}
+
+	/**
+	 * @return The offset just past the last character of the token.
+	 */
+	public int end(int token) {
+		return ends[token];
+	}
+
+	/**
+	 * @return The offset of the first letter of the token, or its end if it has
+	 *         no letters. Punctuation before it is left out.
+	 */
+	public int letterStart(int token) {
+		return letterStarts[token];
+	}
+
+	/**
+	 * @return The offset just past the last letter of the token, or its end if it
+	 *         has no letters. Punctuation after it is left out.
+	 */
+	public int letterEnd(int token) {
+		return letterEnds[token];
+	}
+
+	/**
+	 * @return The number of Hebrew and Latin letters in the token.
+	 */
+	public int letterCount(int token) {
+		return letterCounts[token];
+	}
+
+	public TextTokenizer.Script script(int token) {
+		return scripts[token];
+	}
+
+	void clear() {
+		size = 0;
+	}
+
+	void add(int start, int end, int letterStart, int letterEnd, int letterCount, TextTokenizer.Script script) {
+		if (size == starts.length) {
+			int capacity = size * 2;
+			starts = Arrays.copyOf(starts, capacity);
+			ends = Arrays.copyOf(ends, capacity);
+			letterStarts = Arrays.copyOf(letterStarts, capacity);
+			letterEnds = Arrays.copyOf(letterEnds, capacity);
+			letterCounts = Arrays.copyOf(letterCounts, capacity);
+			scripts = Arrays.copyOf(scripts, capacity);
+		}
+		starts[size] = start;
+		ends[size] = end;
+		letterStarts[size] = letterStart;
+		letterEnds[size] = letterEnd;
+		letterCounts[size] = letterCount;
+		scripts[size] = script;
+		size++;
+	}
+}
@@ -0,0 +1,101 @@
+package com.lingotower.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.lingotower.model.Role;
+import com.lingotower.model.User;
+import com.lingotower.security.JwtAuthenticationFilter;
+import com.lingotower.security.JwtTokenProvider;
+import com.lingotower.security.JwtVerifier;
+import com.lingotower.security.UserProfileCache;
+import com.lingotower.security.VerifiedToken;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.ServletException;
+
+/**
+ * Compares the ways a request's bearer token is verified: the two full parses
+ * the authentication filter used to make, each with a freshly derived key and
+ * parser; one parse with the shared parser; a hit in the JwtVerifier cache; and
+ * the whole filter with the cache.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="JwtFilter"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+	// The key JwtTokenProvider signs with
+	private static final String SECRET_KEY = "mySecretKeymySecretKeymySecretKey";
+
+	private String token;
+	private JwtVerifier uncached;
+	private JwtVerifier cached;
+	private JwtAuthenticationFilter filter;
+	private MockHttpServletRequest request;
+	private MockHttpServletResponse response;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		UserProfileCache userProfileCache = new UserProfileCache(null, null, 60, 1000);
+		JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(userProfileCache);
+		token = jwtTokenProvider.generateToken(new User("dana", "x", "dana@example.com", "en", "he", Role.USER));
+		uncached = new JwtVerifier(jwtTokenProvider, 0);
+		cached = new JwtVerifier(jwtTokenProvider, 1000);
+		filter = new JwtAuthenticationFilter(cached, userProfileCache);
+		request = new MockHttpServletRequest("GET", "/categories");
+		request.addHeader("Authorization", "Bearer " + token);
+		response = new MockHttpServletResponse();
+	}
+
+	@Benchmark
+	public String twoParses() {
+		Claims subject = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes())).build()
+				.parseSignedClaims(token).getPayload();
+		Claims role = Jwts.parser().verifyWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes())).build()
+				.parseSignedClaims(token).getPayload();
+		return subject.getSubject() + role.get("role", String.class);
+	}
+
+	@Benchmark
+	public VerifiedToken oneParse() {
+		return uncached.verify(token);
+	}
+
+	@Benchmark
+	public VerifiedToken cachedVerification() {
+		return cached.verify(token);
+	}
+
+	@Benchmark
+	public int filter() throws ServletException, IOException {
+		filter.doFilter(request, response, (req, res) -> {
+		});
+		SecurityContextHolder.clearContext();
+		return response.getStatus();
+	}
+}
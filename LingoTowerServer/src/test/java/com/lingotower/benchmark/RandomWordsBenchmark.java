@@ -0,0 +1,152 @@
+package com.lingotower.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import com.lingotower.data.WordRepository;
+import com.lingotower.model.Difficulty;
+import com.lingotower.model.Word;
+import com.lingotower.service.catalog.DatabaseWordSampler;
+
+/**
+ * Compares drawing 10 random words of a category and difficulty by loading and
+ * shuffling every matching word (the former WordService.getRandomWords) with
+ * the id-range sampling of DatabaseWordSampler, on an in-memory H2 database.
+ * The words of a category are interleaved with the others, as they are when
+ * categories are seeded one after another and then extended by admins.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="RandomWords"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 2, time = 2)
+@Fork(1)
+public class RandomWordsBenchmark {
+
+	private static final int CATEGORIES = 20;
+	private static final int LIMIT = 10;
+
+	@Param({ "10000", "100000", "1000000" })
+	public int rows;
+
+	private HikariDataSource dataSource;
+	private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+	private WordRepository wordRepository;
+	private DatabaseWordSampler sampler;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		// Without a logging configuration every query would be logged at debug level
+		((ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME))
+				.setLevel(ch.qos.logback.classic.Level.WARN);
+		dataSource = new HikariDataSource();
+		dataSource.setJdbcUrl("jdbc:h2:mem:words" + rows + ";DB_CLOSE_DELAY=-1;MODE=MySQL;NON_KEYWORDS=USER,VALUE");
+		entityManagerFactory = entityManagerFactory(dataSource);
+		seed(new JdbcTemplate(dataSource));
+		wordRepository = new JpaRepositoryFactory(
+				SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject()))
+				.getRepository(WordRepository.class);
+		sampler = new DatabaseWordSampler(wordRepository, 0.05, 1.5, 1000, 3);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		entityManagerFactory.destroy();
+		dataSource.close();
+	}
+
+	@Benchmark
+	public List<Word> findAllAndShuffle() {
+		List<Word> words = wordRepository.findByCategoryIdAndDifficulty(randomCategory(), Difficulty.EASY);
+		Collections.shuffle(words, new Random());
+		return words.stream().limit(LIMIT).collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<Word> idRangeSampling() {
+		return sampler.sample(randomCategory(), Difficulty.EASY, LIMIT);
+	}
+
+	@Benchmark
+	public List<Word> idRangeSamplingAnyCategory() {
+		return sampler.sample(null, null, LIMIT);
+	}
+
+	private static long randomCategory() {
+		return ThreadLocalRandom.current().nextLong(1, CATEGORIES + 1);
+	}
+
+	private static LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+		Properties properties = new Properties();
+		properties.put("hibernate.hbm2ddl.auto", "create");
+		properties.put("hibernate.physical_naming_strategy",
+				"org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl");
+		LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+		factory.setDataSource(dataSource);
+		factory.setPackagesToScan("com.lingotower.model");
+		factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factory.setJpaProperties(properties);
+		factory.afterPropertiesSet();
+		return factory;
+	}
+
+	private void seed(JdbcTemplate jdbcTemplate) {
+		List<Object[]> categories = new ArrayList<>();
+		for (int i = 1; i <= CATEGORIES; i++) {
+			categories.add(new Object[] { i, "category" + i });
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO Category (id, name) VALUES (?, ?)", categories);
+
+		Difficulty[] difficulties = Difficulty.values();
+		List<Object[]> batch = new ArrayList<>();
+		for (int i = 0; i < rows; i++) {
+			batch.add(new Object[] { "word" + i, "translation" + i, "en", "he",
+					difficulties[(i / CATEGORIES) % difficulties.length].name(), i % CATEGORIES + 1 });
+			if (batch.size() == 10_000) {
+				insertWords(jdbcTemplate, batch);
+				batch.clear();
+			}
+		}
+		insertWords(jdbcTemplate, batch);
+	}
+
+	private static void insertWords(JdbcTemplate jdbcTemplate, List<Object[]> batch) {
+		jdbcTemplate.batchUpdate("INSERT INTO word (word, translation, sourceLanguage, targetLanguage, difficulty, "
+				+ "category_id) VALUES (?, ?, ?, ?, ?, ?)", batch);
+	}
+}
@@ -0,0 +1,85 @@
+package com.lingotower.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.lingotower.util.ClozeAnalyzer;
+import com.lingotower.util.TextTokenizer;
+
+/**
+ * Compares the regex based text handling the services used before (whitespace
+ * cleanup as in DataCleaningService and the answer extraction of
+ * CompletionPracticeService) with TextTokenizer, StopWords and ClozeAnalyzer,
+ * over a mix of English and Hebrew example sentences.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="TextTokenizer"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class TextTokenizerBenchmark {
+
+	private static final List<String> ENGLISH_STOP_WORDS = List.of("a", "the", "is", "are", "in", "on", "at", "to",
+			"for", "with");
+	private static final List<String> HEBREW_STOP_WORDS = List.of("של", "עם", "זה", "על", "גם", "את", "אם", "לא",
+			"כן", "יש", "אין", "מה", "אני", "הוא", "היא", "אתה", "את", "אנחנו", "הם", "הן", "ב", "ל", "ו", "כ", "ש", "מ");
+
+	private final String[] english = { "The cat is sleeping on the warm windowsill.",
+			"She  bought a new  umbrella because it was raining.", "In the morning we drink coffee together.",
+			"A teacher explained the lesson with great patience.", "They are planning a trip to the mountains." };
+	private final String[] hebrew = { "החתול ישן על אדן החלון החם.", "היא קנתה  מטרייה חדשה כי ירד גשם.",
+			"בבוקר אנחנו שותים קפה ביחד.", "המורה הסבירה את השיעור בסבלנות רבה.", "הם מתכננים טיול להרים." };
+
+	@Benchmark
+	public void regex(Blackhole blackhole) {
+		for (String sentence : english) {
+			String cleaned = sentence.trim().replaceAll("\\s{2,}", " ");
+			blackhole.consume(cleaned);
+			blackhole.consume(extractRegex(cleaned, ENGLISH_STOP_WORDS, false));
+		}
+		for (String sentence : hebrew) {
+			String cleaned = sentence.trim().replaceAll("\\s{2,}", " ");
+			blackhole.consume(cleaned);
+			blackhole.consume(extractRegex(cleaned, HEBREW_STOP_WORDS, true));
+		}
+	}
+
+	@Benchmark
+	public void tokenizer(Blackhole blackhole) {
+		for (String sentence : english) {
+			blackhole.consume(TextTokenizer.collapseWhitespace(sentence));
+			blackhole.consume(ClozeAnalyzer.english(sentence));
+		}
+		for (String sentence : hebrew) {
+			blackhole.consume(TextTokenizer.collapseWhitespace(sentence));
+			blackhole.consume(ClozeAnalyzer.hebrew(sentence));
+		}
+	}
+
+	private static String extractRegex(String sentence, List<String> stopWords, boolean hebrew) {
+		String[] words = sentence.split("\\s+");
+		for (int i = 1; i < words.length; i++) {
+			String word = hebrew ? words[i].replaceAll("[^א-ת]", "").trim() : words[i];
+			if (word.length() > 2 && !stopWords.contains(hebrew ? word : word.toLowerCase())) {
+				return word;
+			}
+		}
+		return null;
+	}
+}
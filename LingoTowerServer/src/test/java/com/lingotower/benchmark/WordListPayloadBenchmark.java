@@ -0,0 +1,115 @@
+package com.lingotower.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.lingotower.dto.word.WordByCategory;
+import com.lingotower.dto.word.WordListDTO;
+import com.lingotower.model.Category;
+import com.lingotower.model.Word;
+
+/**
+ * Compares the payload size and serialization time of word lists as returned
+ * by /words/category/{id}/translate: the plain JSON list of WordByCategory, the
+ * normalized WordListDTO, both as CBOR, and plain JSON gzipped as the server
+ * compresses it. The words are those of the seed files, either one category
+ * ("everyday.json") or all of them. Payload sizes are printed during setup.
+ *
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.args="WordListPayload"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class WordListPayloadBenchmark {
+
+	private static final String[] SEED_FILES = { "everyday.json", "people.json", "work.json", "health.json",
+			"travel.json", "environment.json" };
+
+	@Param({ "category", "all" })
+	public String words;
+
+	private final ObjectMapper json = new ObjectMapper();
+	private final ObjectMapper cbor = new CBORMapper();
+	private List<WordByCategory> list;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		Category[] categories = read("category.json", Category[].class);
+		list = new ArrayList<>();
+		long id = 1;
+		int files = "all".equals(words) ? SEED_FILES.length : 1;
+		for (int i = 0; i < files; i++) {
+			for (Word word : read(SEED_FILES[i], Word[].class)) {
+				list.add(new WordByCategory(id++, word.getWord(), word.getTranslation(), categories[i],
+						word.getDifficulty()));
+			}
+		}
+		System.out.printf("%n%d words: json %d B, json normalized %d B, cbor %d B, cbor normalized %d B, "
+				+ "json gzip %d B, json normalized gzip %d B%n", list.size(), json().length, jsonNormalized().length,
+				cbor().length, cborNormalized().length, jsonGzip().length, gzip(jsonNormalized()).length);
+	}
+
+	@Benchmark
+	public byte[] json() throws IOException {
+		return json.writeValueAsBytes(list);
+	}
+
+	@Benchmark
+	public byte[] jsonNormalized() throws IOException {
+		return json.writeValueAsBytes(WordListDTO.of(list));
+	}
+
+	@Benchmark
+	public byte[] cbor() throws IOException {
+		return cbor.writeValueAsBytes(list);
+	}
+
+	@Benchmark
+	public byte[] cborNormalized() throws IOException {
+		return cbor.writeValueAsBytes(WordListDTO.of(list));
+	}
+
+	@Benchmark
+	public byte[] jsonGzip() throws IOException {
+		return gzip(json());
+	}
+
+	private static byte[] gzip(byte[] bytes) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 4);
+		try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+			gzip.write(bytes);
+		}
+		return out.toByteArray();
+	}
+
+	private <T> T read(String resource, Class<T> type) throws IOException {
+		try (InputStream in = getClass().getClassLoader().getResourceAsStream(resource)) {
+			return json.readValue(in, type);
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.lingotower.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.service.catalog.CatalogExporter;
+import com.lingotower.support.TestDatabase;
+
+public class ExportControllerTest {
+
+	private static final long TIMEOUT_MS = 60_000;
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+
+	private static TestDatabase database;
+	private static MockMvc mockMvc;
+
+	@BeforeAll
+	public static void setUp() {
+		database = new TestDatabase(false);
+		JdbcTemplate jdbc = database.jdbc();
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (1, 'Animals', 'חיות')");
+		jdbc.update("INSERT INTO word (id, word, translation, category_id, difficulty, sourceLanguage, targetLanguage) "
+				+ "VALUES (1, 'cat', 'חתול', 1, 'EASY', 'en', 'he')");
+		jdbc.update("INSERT INTO word (id, word, translation, category_id, difficulty, sourceLanguage, targetLanguage) "
+				+ "VALUES (2, 'dog', NULL, 1, 'HARD', 'en', 'he')");
+		jdbc.update("INSERT INTO example_sentence (id, sentenceText, translatedText, word_id) "
+				+ "VALUES (1, 'The cat sleeps.', 'החתול ישן.', 1)");
+
+		// H2 rejects the negative fetch size that makes MySQL stream rows
+		CatalogExporter exporter = database.transactional(new CatalogExporter(
+				database.repository(CategoryRepository.class), database.entityManager(), objectMapper, 100));
+		mockMvc = MockMvcBuilders.standaloneSetup(new ExportController(exporter, TIMEOUT_MS)).build();
+	}
+
+	@AfterAll
+	public static void closeDatabase() {
+		database.close();
+	}
+
+	@Test
+	public void exportsTheCatalogAsNdjson() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/admin/export/catalog")).andExpect(request().asyncStarted())
+				.andReturn();
+		// The export gets its own timeout rather than the global one
+		assertEquals(TIMEOUT_MS, started.getRequest().getAsyncContext().getTimeout());
+
+		byte[] body = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk())
+				.andExpect(content().contentType("application/x-ndjson"))
+				.andExpect(header().string("Content-Disposition",
+						"attachment; filename=\"lingotower-catalog.ndjson\""))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		assertCatalog(new String(body, StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void gzipsTheExportOnRequest() throws Exception {
+		MvcResult started = mockMvc.perform(get("/api/admin/export/catalog").param("gzip", "true"))
+				.andExpect(request().asyncStarted()).andReturn();
+
+		byte[] body = mockMvc.perform(asyncDispatch(started)).andExpect(status().isOk())
+				.andExpect(content().contentType("application/gzip"))
+				.andExpect(header().string("Content-Disposition",
+						"attachment; filename=\"lingotower-catalog.ndjson.gz\""))
+				.andReturn().getResponse().getContentAsByteArray();
+
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			assertCatalog(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	private static void assertCatalog(String ndjson) throws Exception {
+		List<JsonNode> lines = new ArrayList<>();
+		for (String line : ndjson.split("\n")) {
+			lines.add(objectMapper.readTree(line));
+		}
+		assertEquals(4, lines.size());
+
+		assertEquals("category", lines.get(0).get("type").asText());
+		assertEquals("Animals", lines.get(0).get("name").asText());
+
+		assertEquals("word", lines.get(1).get("type").asText());
+		assertEquals("cat", lines.get(1).get("word").asText());
+		assertEquals("חתול", lines.get(1).get("translation").asText());
+		assertEquals(1, lines.get(1).get("categoryId").asLong());
+		assertEquals("EASY", lines.get(1).get("difficulty").asText());
+		assertEquals("dog", lines.get(2).get("word").asText());
+		assertEquals(true, lines.get(2).get("translation").isNull());
+
+		assertEquals("sentence", lines.get(3).get("type").asText());
+		assertEquals(1, lines.get(3).get("wordId").asLong());
+		assertEquals("החתול ישן.", lines.get(3).get("translatedText").asText());
+	}
+}
@@ -0,0 +1,142 @@
+package com.lingotower.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lingotower.config.VaryAcceptInterceptor;
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.exception.GlobalExceptionHandler;
+import com.lingotower.security.UserProfileCache;
+import com.lingotower.service.CategoryService;
+import com.lingotower.service.TranslationService;
+import com.lingotower.service.WordService;
+import com.lingotower.service.catalog.CatalogVersion;
+import com.lingotower.service.catalog.DailyWordRotation;
+import com.lingotower.service.catalog.DatabaseWordSampler;
+import com.lingotower.service.catalog.WordCatalog;
+import com.lingotower.service.translation.LocalDictionary;
+import com.lingotower.support.TestDatabase;
+
+public class WordControllerTest {
+
+	// The listing is only read, so one database serves every test
+	private static TestDatabase database;
+	private static MockMvc mockMvc;
+
+	@BeforeAll
+	public static void setUp() {
+		database = new TestDatabase(false);
+		JdbcTemplate jdbc = database.jdbc();
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (1, 'Animals', 'חיות')");
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (2, 'Food', 'אוכל')");
+		insert(jdbc, "cat", "חתול", 1, "EASY");
+		insert(jdbc, "car", "מכונית", 1, "EASY");
+		insert(jdbc, "dog", null, 1, "HARD");
+		insert(jdbc, "apple", "תפוח", 2, "EASY");
+		insert(jdbc, "cart", null, 1, "EASY");
+		insert(jdbc, "ca_t", null, 1, "EASY");
+
+		WordService wordService = new WordService(database.repository(WordRepository.class),
+				mock(TranslationService.class), database.repository(CategoryRepository.class),
+				mock(UserProfileCache.class), mock(LocalDictionary.class), mock(WordCatalog.class),
+				mock(DatabaseWordSampler.class), mock(DailyWordRotation.class), "catalog");
+		WordController controller = new WordController(wordService, mock(CategoryService.class),
+				mock(TranslationService.class), mock(UserProfileCache.class),
+				new CatalogVersion(mock(UserProfileCache.class)));
+		mockMvc = MockMvcBuilders.standaloneSetup(controller).setControllerAdvice(new GlobalExceptionHandler())
+				.addInterceptors(new VaryAcceptInterceptor()).build();
+	}
+
+	@AfterAll
+	public static void closeDatabase() {
+		database.close();
+	}
+
+	@Test
+	public void followsTheCursorThroughEveryPage() throws Exception {
+		String cursor = nextCursor(mockMvc.perform(get("/words").param("limit", "2"))
+				.andExpect(status().isOk()).andExpect(jsonPath("$.words[*].word", contains("cat", "car")))
+				.andReturn().getResponse().getContentAsString());
+		cursor = nextCursor(mockMvc.perform(get("/words").param("limit", "2").param("cursor", cursor))
+				.andExpect(jsonPath("$.words[*].word", contains("dog", "apple")))
+				.andExpect(jsonPath("$.words[0].category.name").value("Animals")).andReturn().getResponse()
+				.getContentAsString());
+		mockMvc.perform(get("/words").param("limit", "2").param("cursor", cursor))
+				.andExpect(jsonPath("$.words[*].word", contains("cart", "ca_t")))
+				.andExpect(jsonPath("$.nextCursor", nullValue()));
+	}
+
+	@Test
+	public void filtersByCategoryDifficultyAndPrefix() throws Exception {
+		mockMvc.perform(get("/words").param("categoryId", "1").param("difficulty", "EASY").param("prefix", "ca"))
+				.andExpect(jsonPath("$.words[*].word", contains("cat", "car", "cart", "ca_t")));
+		// LIKE wildcards in the prefix are matched literally
+		mockMvc.perform(get("/words").param("prefix", "ca_"))
+				.andExpect(jsonPath("$.words[*].word", contains("ca_t")));
+		mockMvc.perform(get("/words").param("categoryId", "2"))
+				.andExpect(jsonPath("$.words[*].word", contains("apple")));
+	}
+
+	@Test
+	public void listsOnlyUntranslatedWords() throws Exception {
+		mockMvc.perform(get("/words").param("untranslated", "true"))
+				.andExpect(jsonPath("$.words[*].word", contains("dog", "cart", "ca_t")));
+	}
+
+	@Test
+	public void limitIsKeptWithinBounds() throws Exception {
+		mockMvc.perform(get("/words").param("limit", "0")).andExpect(jsonPath("$.words", hasSize(1)))
+				.andExpect(jsonPath("$.nextCursor", notNullValue()));
+		mockMvc.perform(get("/words").param("limit", "100000")).andExpect(jsonPath("$.words", hasSize(6)))
+				.andExpect(jsonPath("$.nextCursor", nullValue()));
+	}
+
+	@Test
+	public void conditionalResponsesVaryByTheNegotiatedType() throws Exception {
+		String etag = mockMvc.perform(get("/words").accept(MediaType.APPLICATION_JSON))
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT)).andReturn().getResponse()
+				.getHeader(HttpHeaders.ETAG);
+		mockMvc.perform(get("/words").accept(MediaType.APPLICATION_JSON).header(HttpHeaders.IF_NONE_MATCH, etag))
+				.andExpect(status().isNotModified())
+				.andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT));
+	}
+
+	@Test
+	public void invalidCursorIsABadRequest() throws Exception {
+		mockMvc.perform(get("/words").param("cursor", "not a cursor!")).andExpect(status().isBadRequest());
+		// Valid base64, but not an id
+		mockMvc.perform(get("/words").param("cursor", "YWJj")).andExpect(status().isBadRequest());
+	}
+
+	private static void insert(JdbcTemplate jdbc, String word, String translation, long categoryId,
+			String difficulty) {
+		jdbc.update("INSERT INTO word (word, translation, category_id, difficulty, sourceLanguage, targetLanguage) "
+				+ "VALUES (?, ?, ?, ?, 'en', 'he')", word, translation, categoryId, difficulty);
+	}
+
+	private static String nextCursor(String json) throws Exception {
+		JsonNode cursor = new ObjectMapper().readTree(json).get("nextCursor");
+		assertNotNull(cursor);
+		return cursor.asText();
+	}
+}
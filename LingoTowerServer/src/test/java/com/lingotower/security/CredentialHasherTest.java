@@ -0,0 +1,64 @@
+package com.lingotower.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.lingotower.exception.ServerBusyException;
+
+public class CredentialHasherTest {
+
+	@Test
+	public void rejectsWhenQueueIsFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder slowEncoder = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "hashed-" + rawPassword;
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encode(rawPassword).equals(encodedPassword);
+			}
+		};
+		CredentialHasher hasher = new CredentialHasher(slowEncoder, 1, 1, 5000);
+		try {
+			CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+			while (hasher.getStats().getQueued() == 0) {
+				Thread.sleep(5);
+			}
+
+			assertThrows(ServerBusyException.class, () -> hasher.encode("c"));
+
+			release.countDown();
+			assertEquals("hashed-a", running.get(5, TimeUnit.SECONDS));
+			assertEquals("hashed-b", queued.get(5, TimeUnit.SECONDS));
+			assertTrue(hasher.matches("d", "hashed-d"));
+			assertFalse(hasher.isStrong("password"));
+			assertTrue(hasher.isStrong("correct horse battery staple"));
+			assertEquals(1, hasher.getStats().getRejected());
+			assertEquals(5, hasher.getStats().getCompleted());
+		} finally {
+			release.countDown();
+			hasher.shutdown();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.lingotower.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.model.Role;
+import com.lingotower.model.User;
+
+import io.jsonwebtoken.JwtException;
+
+public class JwtVerifierTest {
+
+	private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(new UserProfileCache(null, null, 60, 100));
+
+	@Test
+	public void remembersVerifiedTokensButNotForgedOnes() {
+		JwtVerifier verifier = new JwtVerifier(jwtTokenProvider, 10);
+		String token = jwtTokenProvider.generateToken(new User("dana", "x", "d@x", "en", "he", Role.USER));
+
+		VerifiedToken verified = verifier.verify(token);
+		assertEquals("dana", verified.username());
+		assertEquals("ROLE_USER", verified.authorities().get(0).getAuthority());
+		assertSame(verified, verifier.verify(token));
+
+		String forged = token.substring(0, token.lastIndexOf('.') + 1) + "AAAA" + token.substring(token.length() - 4);
+		assertThrows(JwtException.class, () -> verifier.verify(forged));
+		assertThrows(JwtException.class, () -> verifier.verify(forged));
+
+		JwtVerifier uncached = new JwtVerifier(jwtTokenProvider, 0);
+		assertNotSame(uncached.verify(token), uncached.verify(token));
+	}
+}
@@ -0,0 +1,101 @@
+package com.lingotower.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.lingotower.data.AdminRepository;
+import com.lingotower.data.UserRepository;
+import com.lingotower.model.Role;
+import com.lingotower.model.User;
+
+public class UserProfileCacheTest {
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final AdminRepository adminRepository = mock(AdminRepository.class);
+	private final UserProfileCache cache = new UserProfileCache(userRepository, adminRepository, 60, 100);
+	private final JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(cache);
+	private final JwtVerifier jwtVerifier = new JwtVerifier(jwtTokenProvider, 10);
+
+	@AfterEach
+	public void resetRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void servesTheProfileSignedIntoTheToken() {
+		VerifiedToken token = jwtVerifier.verify(jwtTokenProvider.generateToken(user("dana", "he")));
+		cache.putFromToken(newRequest(), token);
+
+		UserProfile profile = cache.get("dana").orElseThrow();
+		assertEquals(7L, profile.id());
+		assertEquals(Role.USER, profile.role());
+		assertEquals("he", profile.targetLanguage());
+		verifyNoInteractions(userRepository, adminRepository);
+	}
+
+	@Test
+	public void loadsOncePerTimeToLive() {
+		User dana = user("dana", "he");
+		when(userRepository.findByUsername("dana")).thenReturn(Optional.of(dana));
+		newRequest();
+		assertEquals("he", cache.get("dana").orElseThrow().targetLanguage());
+		newRequest();
+		assertEquals("he", cache.get("dana").orElseThrow().targetLanguage());
+		verify(userRepository, times(1)).findByUsername("dana");
+
+		when(userRepository.findByUsername("noa")).thenReturn(Optional.empty());
+		when(adminRepository.findByUsername("noa")).thenReturn(Optional.empty());
+		assertTrue(cache.get("noa").isEmpty());
+	}
+
+	@Test
+	public void ignoresTokensIssuedBeforeALanguageChange() {
+		VerifiedToken token = jwtVerifier.verify(jwtTokenProvider.generateToken(user("dana", "he")));
+		User changed = user("dana", "en");
+		when(userRepository.findByUsername("dana")).thenReturn(Optional.of(changed));
+		cache.invalidate("dana");
+
+		cache.putFromToken(newRequest(), token);
+		assertEquals("en", cache.get("dana").orElseThrow().targetLanguage());
+	}
+
+	@Test
+	public void tokenIssuedForALanguageChangeIsServedWithoutAQuery() {
+		// As updateUserLanguages does: invalidate, then issue the new token at once
+		cache.invalidate("dana");
+		VerifiedToken token = jwtVerifier.verify(jwtTokenProvider.generateToken(user("dana", "en")));
+
+		cache.putFromToken(newRequest(), token);
+		assertEquals("en", cache.get("dana").orElseThrow().targetLanguage());
+		verifyNoInteractions(userRepository, adminRepository);
+	}
+
+	private static MockHttpServletRequest newRequest() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+		return request;
+	}
+
+	private static User user(String username, String targetLanguage) {
+		User user = mock(User.class);
+		when(user.getId()).thenReturn(7L);
+		when(user.getUsername()).thenReturn(username);
+		when(user.getRole()).thenReturn(Role.USER);
+		when(user.getSourceLanguage()).thenReturn("en".equals(targetLanguage) ? "he" : "en");
+		when(user.getTargetLanguage()).thenReturn(targetLanguage);
+		return user;
+	}
+}
@@ -0,0 +1,197 @@
+package com.lingotower.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.lingotower.data.ExampleSentenceRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.quiz.QuestionDTO;
+import com.lingotower.dto.word.ExampleSentenceView;
+import com.lingotower.dto.word.WordTranslationView;
+import com.lingotower.model.Category;
+import com.lingotower.model.Difficulty;
+
+@ExtendWith(MockitoExtension.class)
+public class CompletionPracticeServiceTest {
+
+	@Mock
+	private ExampleSentenceRepository exampleSentenceRepository;
+	@Mock
+	private CategoryService categoryService;
+	@Mock
+	private WordService wordService;
+	@Spy
+	private QuestionBankService questionBankService;
+	@Mock
+	private WordRepository wordRepository;
+	@InjectMocks
+	private CompletionPracticeService completionPracticeService;
+
+	@Test
+	public void hebrewWrongAnswersAreTranslatedInOneQuery() {
+		Category animals = category();
+		when(categoryService.findByName("Animals")).thenReturn(Optional.of(animals));
+		when(wordService.getUserLanguage("dana")).thenReturn("he");
+		when(exampleSentenceRepository.findViewsByCategoryAndDifficulty(1L, Difficulty.EASY)).thenReturn(List.of(
+				sentence(1L, 10L, "The cat sleeps.", "cat", "החתול ישן.", "החתול"),
+				sentence(2L, 11L, "The dog barks.", "dog", "הכלב נובח.", "הכלב"),
+				sentence(3L, 12L, "The bird sings.", "bird", "הציפור שרה.", "הציפור")));
+		doReturn(List.of("cow", "horse")).when(questionBankService).getWrongCompletionOptions(eq(1L),
+				eq(Difficulty.EASY), anyString(), anyInt());
+		when(wordRepository.findTranslationsByCategoryIdAndWordIn(eq(1L), anyCollection()))
+				.thenReturn(List.of(translation("cow", "פרה"), translation("horse", "סוס")));
+
+		List<QuestionDTO> questions = completionPracticeService.generateMultipleCompletionPractices("Animals",
+				Difficulty.EASY, 3, "dana");
+
+		assertEquals(3, questions.size());
+		for (QuestionDTO question : questions) {
+			assertTrue(question.getOptions().containsAll(List.of("פרה", "סוס")));
+			assertTrue(question.getOptions().contains(question.getCorrectAnswer()));
+		}
+		// The category is looked up once for the whole set, and all wrong answers
+		// are translated by a single IN query
+		verify(categoryService, times(1)).findByName("Animals");
+		verify(wordRepository, times(1)).findTranslationsByCategoryIdAndWordIn(eq(1L), anyCollection());
+	}
+
+	@Test
+	public void everyWordGetsATurnBeforeAnyWordGetsASecondSentence() {
+		when(categoryService.findByName("Animals")).thenReturn(Optional.of(category()));
+		when(wordService.getUserLanguage("dana")).thenReturn("en");
+		List<ExampleSentenceView> sentences = new ArrayList<>();
+		Map<String, Long> wordOfQuestion = new HashMap<>();
+		long id = 1;
+		// One word with many sentences and two words with a single one
+		for (int i = 0; i < 6; i++) {
+			sentences.add(sentence(id++, 10L, "The cat sleeps " + i + ".", "cat", null, null));
+			wordOfQuestion.put("The _____ sleeps " + i + ".", 10L);
+		}
+		sentences.add(sentence(id++, 11L, "The dog barks.", "dog", null, null));
+		wordOfQuestion.put("The _____ barks.", 11L);
+		sentences.add(sentence(id, 12L, "The bird sings.", "bird", null, null));
+		wordOfQuestion.put("The _____ sings.", 12L);
+		when(exampleSentenceRepository.findViewsByCategoryAndDifficulty(1L, Difficulty.EASY)).thenReturn(sentences);
+		doReturn(List.of("cow")).when(questionBankService).getWrongCompletionOptions(eq(1L), eq(Difficulty.EASY),
+				anyString(), anyInt());
+
+		for (int round = 0; round < 20; round++) {
+			List<QuestionDTO> questions = completionPracticeService.generateMultipleCompletionPractices("Animals",
+					Difficulty.EASY, 3, "dana");
+
+			Set<Long> words = new HashSet<>();
+			questions.forEach(question -> words.add(wordOfQuestion.get(question.getQuestionText())));
+			assertEquals(Set.of(10L, 11L, 12L), words);
+		}
+	}
+
+	private static Category category() {
+		Category category = new Category();
+		category.setId(1L);
+		category.setName("Animals");
+		return category;
+	}
+
+	private static WordTranslationView translation(String word, String translation) {
+		return new WordTranslationView() {
+			@Override
+			public String getWord() {
+				return word;
+			}
+
+			@Override
+			public String getTranslation() {
+				return translation;
+			}
+
+			@Override
+			public String getSourceLanguage() {
+				return "en";
+			}
+
+			@Override
+			public String getTargetLanguage() {
+				return "he";
+			}
+		};
+	}
+
+	private static ExampleSentenceView sentence(Long id, Long wordId, String text, String answer,
+			String translatedText, String translatedAnswer) {
+		return new ExampleSentenceView() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public Long getWordId() {
+				return wordId;
+			}
+
+			@Override
+			public String getSentenceText() {
+				return text;
+			}
+
+			@Override
+			public String getTranslatedText() {
+				return translatedText;
+			}
+
+			@Override
+			public String getClozeText() {
+				return text;
+			}
+
+			@Override
+			public Integer getClozeAnswerStart() {
+				return text.indexOf(answer);
+			}
+
+			@Override
+			public Integer getClozeAnswerEnd() {
+				return text.indexOf(answer) + answer.length();
+			}
+
+			@Override
+			public String getTranslatedClozeText() {
+				return translatedText;
+			}
+
+			@Override
+			public Integer getTranslatedClozeAnswerStart() {
+				return translatedText == null ? null : translatedText.indexOf(translatedAnswer);
+			}
+
+			@Override
+			public Integer getTranslatedClozeAnswerEnd() {
+				return translatedText == null ? null
+						: translatedText.indexOf(translatedAnswer) + translatedAnswer.length();
+			}
+		};
+	}
+}
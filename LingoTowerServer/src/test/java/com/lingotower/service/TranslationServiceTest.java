@@ -0,0 +1,72 @@
+package com.lingotower.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.service.translation.TranslationCoalescer;
+import com.lingotower.service.translation.TranslationMemory;
+import com.lingotower.service.translation.TranslationPriority;
+import com.lingotower.service.translation.TranslationProviderRouter;
+import com.lingotower.service.translation.TranslationRequest;
+
+public class TranslationServiceTest {
+
+	private final TranslationProviderRouter router = mock(TranslationProviderRouter.class);
+	private final TranslationMemory memory = mock(TranslationMemory.class);
+	private final TranslationService translationService = new TranslationService(router, memory,
+			new TranslationCoalescer());
+
+	@Test
+	public void onlyPlausibleLinesOfABatchedAnswerAreRemembered() {
+		translateRemotely(Map.of(
+				"I have 2 dogs\nthe cat sleeps\nhello", "יש לי 2 כלבים\nthe cat sleeps\n",
+				"the cat sleeps", "החתול ישן",
+				"hello", "שלום"));
+
+		assertEquals("יש לי 2 כלבים, החתול ישן, שלום.", translate("I have 2 dogs, the cat sleeps, hello."));
+		verify(memory).put("I have 2 dogs", "en", "he", "יש לי 2 כלבים");
+		// The untranslated and the blank line are not taken; their clauses are
+		// translated on their own
+		verify(memory, never()).put("the cat sleeps", "en", "he", "the cat sleeps");
+		verify(memory, never()).put("hello", "en", "he", "");
+		verify(memory, times(2)).getOrLoad(anyString(), anyString(), anyString(), any());
+	}
+
+	@Test
+	public void shiftedLinesAreCaughtByTheirDigits() {
+		translateRemotely(Map.of(
+				"buy 3 apples\nsell 5 pears", "מכור 5 אגסים\nקנה 3 תפוחים",
+				"buy 3 apples", "קנה 3 תפוחים",
+				"sell 5 pears", "מכור 5 אגסים"));
+
+		assertEquals("קנה 3 תפוחים, מכור 5 אגסים", translate("buy 3 apples, sell 5 pears"));
+		verify(memory, never()).put("buy 3 apples", "en", "he", "מכור 5 אגסים");
+		verify(memory, never()).put("sell 5 pears", "en", "he", "קנה 3 תפוחים");
+	}
+
+	private String translate(String text) {
+		return translationService.translatePhrases(text, "en", "he", TranslationPriority.INTERACTIVE);
+	}
+
+	private void translateRemotely(Map<String, String> answers) {
+		when(router.translateLocally(any())).thenReturn(Optional.empty());
+		when(router.translateRemotely(any())).thenAnswer(invocation -> CompletableFuture
+				.completedFuture(answers.get(invocation.<TranslationRequest>getArgument(0).text())));
+		when(memory.peek(anyString(), anyString(), anyString())).thenReturn(Optional.empty());
+		when(memory.getOrLoad(anyString(), anyString(), anyString(), any()))
+				.thenAnswer(invocation -> invocation.<Supplier<CompletableFuture<String>>>getArgument(3).get());
+	}
+}
@@ -0,0 +1,114 @@
+package com.lingotower.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.data.UserRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.word.WordByCategory;
+import com.lingotower.model.Difficulty;
+import com.lingotower.model.Role;
+import com.lingotower.model.Word;
+import com.lingotower.security.UserProfile;
+import com.lingotower.security.UserProfileCache;
+import com.lingotower.service.catalog.DailyWordRotation;
+import com.lingotower.service.catalog.DatabaseWordSampler;
+import com.lingotower.service.catalog.WordCatalog;
+import com.lingotower.service.translation.LocalDictionary;
+import com.lingotower.support.TestDatabase;
+
+/**
+ * Counts the statements of the word read paths: 2 categories, 60 words with 2
+ * example sentences each, 10 of them learned.
+ */
+public class WordReadQueriesTest {
+
+	private static TestDatabase database;
+	private static WordService wordService;
+	private static UserService userService;
+
+	@BeforeAll
+	public static void setUp() {
+		database = new TestDatabase(false);
+		JdbcTemplate jdbc = database.jdbc();
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (1, 'Animals', 'חיות')");
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (2, 'Food', 'אוכל')");
+		for (long id = 1; id <= 60; id++) {
+			jdbc.update("INSERT INTO word (id, word, translation, category_id, difficulty, sourceLanguage, "
+					+ "targetLanguage) VALUES (?, ?, ?, ?, ?, 'en', 'he')", id, "word" + id, "מילה" + id,
+					id % 2 + 1, id <= 30 ? "EASY" : "HARD");
+			for (long sentence = 0; sentence < 2; sentence++) {
+				jdbc.update("INSERT INTO example_sentence (id, sentenceText, word_id) VALUES (?, ?, ?)",
+						id * 2 + sentence, "Sentence " + sentence + " of word" + id + ".", id);
+			}
+		}
+		jdbc.update("INSERT INTO User (id, username, email, sourceLanguage, targetLanguage, role) "
+				+ "VALUES (1, 'dana', 'dana@example.com', 'en', 'he', 'USER')");
+		for (long id = 1; id <= 10; id++) {
+			jdbc.update("INSERT INTO user_learned_words (user_id, word_id) VALUES (1, ?)", id);
+		}
+
+		WordRepository wordRepository = database.repository(WordRepository.class);
+		UserProfileCache userProfileCache = mock(UserProfileCache.class);
+		when(userProfileCache.get("dana"))
+				.thenReturn(Optional.of(new UserProfile(1L, "dana", Role.USER, "en", "he")));
+		wordService = new WordService(wordRepository, mock(TranslationService.class),
+				database.repository(CategoryRepository.class), userProfileCache, mock(LocalDictionary.class),
+				mock(WordCatalog.class), mock(DatabaseWordSampler.class), mock(DailyWordRotation.class), "catalog");
+		userService = new UserService(database.repository(UserRepository.class), wordRepository, wordService, null);
+	}
+
+	@AfterAll
+	public static void closeDatabase() {
+		database.close();
+	}
+
+	@Test
+	public void allWordsAreReadWithTheirCategoriesInOneStatement() {
+		Statistics statistics = database.clearedStatistics();
+
+		List<Word> words = wordService.getAllWords();
+		words.forEach(word -> word.getCategory().getName());
+
+		assertEquals(60, words.size());
+		assertEquals(1, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void translatedWordsOfACategoryTakeTwoStatements() {
+		Statistics statistics = database.clearedStatistics();
+		List<WordByCategory> words = wordService.getTranslatedWordsByCategory(1L, "dana");
+		assertEquals(30, words.size());
+		assertEquals("Animals", words.get(0).getCategory().getName());
+		// The summaries, then the category once for all of them
+		assertEquals(2, statistics.getPrepareStatementCount());
+
+		statistics = database.clearedStatistics();
+		words = wordService.getTranslatedWordsByCategoryAndDifficulty(1L, Difficulty.EASY, "he");
+		assertEquals(15, words.size());
+		assertEquals(2, statistics.getPrepareStatementCount());
+	}
+
+	@Test
+	public void learningProgressCountsInTheDatabase() {
+		Statistics statistics = database.clearedStatistics();
+
+		double progress = userService.getLearningProgress("dana");
+
+		assertEquals(10 * 100.0 / 60, progress, 1e-9);
+		// The learned words and all words are counted, not loaded
+		assertEquals(2, statistics.getPrepareStatementCount());
+		assertEquals(0, statistics.getEntityLoadCount());
+	}
+}
@@ -0,0 +1,60 @@
+package com.lingotower.service.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.lingotower.model.Role;
+import com.lingotower.security.UserProfile;
+import com.lingotower.security.UserProfileCache;
+
+public class CatalogVersionTest {
+
+	@Test
+	public void bumpsAgainAfterCommit() {
+		CatalogVersion version = new CatalogVersion(mock(UserProfileCache.class));
+		String etag = version.etag("dana");
+		assertEquals(etag, version.etag("dana"));
+		assertNotEquals(etag, version.etag("noa"));
+
+		long before = version.current();
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			version.bump();
+			assertEquals(before + 1, version.current());
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertEquals(before + 2, version.current());
+		assertNotEquals(etag, version.etag("dana"));
+
+		version.bump();
+		assertEquals(before + 3, version.current());
+		assertTrue(version.etag().startsWith("\""));
+	}
+
+	@Test
+	public void languageChangeChangesTheUsersEtagWithoutABump() {
+		UserProfileCache userProfileCache = mock(UserProfileCache.class);
+		when(userProfileCache.get("dana"))
+				.thenReturn(Optional.of(new UserProfile(1L, "dana", Role.USER, "en", "he")));
+		CatalogVersion version = new CatalogVersion(userProfileCache);
+		long current = version.current();
+		String hebrew = version.etag("dana");
+
+		when(userProfileCache.get("dana"))
+				.thenReturn(Optional.of(new UserProfile(1L, "dana", Role.USER, "he", "en")));
+
+		assertNotEquals(hebrew, version.etag("dana"));
+		assertEquals(current, version.current());
+	}
+}
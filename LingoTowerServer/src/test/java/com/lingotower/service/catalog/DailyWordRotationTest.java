@@ -0,0 +1,138 @@
+package com.lingotower.service.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.data.WordRepository;
+import com.lingotower.model.Word;
+
+public class DailyWordRotationTest {
+
+	private static final Instant DAY_ONE = Instant.parse("2026-03-01T10:00:00Z");
+	private static final Instant DAY_TWO = Instant.parse("2026-03-02T10:00:00Z");
+
+	@Test
+	public void pickIsStableWithinADay() {
+		WordRepository wordRepository = repository(100);
+		MutableClock clock = new MutableClock(DAY_ONE);
+		DailyWordRotation rotation = new DailyWordRotation(wordRepository, clock);
+
+		Long first = rotation.wordFor("dana").orElseThrow().getId();
+		clock.set(DAY_ONE.plusSeconds(6 * 3600));
+		Long again = rotation.wordFor("dana").orElseThrow().getId();
+
+		assertEquals(first, again);
+		// One rotation and one row for the whole day
+		verify(wordRepository, times(1)).findIds(null, null);
+		verify(wordRepository, times(1)).findById(anyLong());
+	}
+
+	@Test
+	public void picksChangeAcrossDays() {
+		WordRepository wordRepository = repository(100);
+		MutableClock clock = new MutableClock(DAY_ONE);
+		DailyWordRotation rotation = new DailyWordRotation(wordRepository, clock);
+
+		List<Long> dayOne = picks(rotation, 20);
+		clock.set(DAY_TWO);
+		List<Long> dayTwo = picks(rotation, 20);
+
+		assertNotEquals(dayOne, dayTwo);
+		verify(wordRepository, times(2)).findIds(null, null);
+	}
+
+	@Test
+	public void evictedWordIsReloadedAndADeletedOneRebuildsTheRotation() {
+		WordRepository wordRepository = repository(100);
+		DailyWordRotation rotation = new DailyWordRotation(wordRepository, new MutableClock(DAY_ONE));
+		Long picked = rotation.wordFor("dana").orElseThrow().getId();
+
+		// An edited word is loaded again on the next read
+		rotation.evict(picked);
+		assertEquals(picked, rotation.wordFor("dana").orElseThrow().getId());
+		verify(wordRepository, times(2)).findById(picked);
+
+		// A deleted word makes the rotation rebuild over the remaining ids
+		List<Long> remaining = new ArrayList<>();
+		for (long id = 1; id <= 100; id++) {
+			if (id != picked) {
+				remaining.add(id);
+			}
+		}
+		when(wordRepository.findById(picked)).thenReturn(Optional.empty());
+		when(wordRepository.findIds(null, null)).thenReturn(remaining);
+		rotation.evict(picked);
+
+		Long replacement = rotation.wordFor("dana").orElseThrow().getId();
+		assertNotEquals(picked, replacement);
+		assertTrue(remaining.contains(replacement));
+		verify(wordRepository, times(2)).findIds(null, null);
+	}
+
+	private static List<Long> picks(DailyWordRotation rotation, int users) {
+		List<Long> picks = new ArrayList<>();
+		for (int user = 0; user < users; user++) {
+			picks.add(rotation.wordFor("user" + user).orElseThrow().getId());
+		}
+		return picks;
+	}
+
+	private static WordRepository repository(int words) {
+		WordRepository wordRepository = mock(WordRepository.class);
+		List<Long> ids = new ArrayList<>();
+		for (long id = 1; id <= words; id++) {
+			ids.add(id);
+		}
+		when(wordRepository.findIds(null, null)).thenReturn(ids);
+		when(wordRepository.findById(anyLong())).thenAnswer(invocation -> {
+			Long id = invocation.getArgument(0);
+			Word word = new Word("word" + id, "translation" + id, "en", "he");
+			word.setId(id);
+			return Optional.of(word);
+		});
+		return wordRepository;
+	}
+
+	private static final class MutableClock extends Clock {
+		private volatile Instant now;
+
+		private MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		private void set(Instant now) {
+			this.now = now;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+	}
+}
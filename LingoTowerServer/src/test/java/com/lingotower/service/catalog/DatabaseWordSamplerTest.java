@@ -0,0 +1,108 @@
+package com.lingotower.service.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.word.WordIdRange;
+import com.lingotower.model.Difficulty;
+import com.lingotower.model.Word;
+
+public class DatabaseWordSamplerTest {
+
+	@Test
+	public void emptyRangeReadsNothingElse() {
+		WordRepository wordRepository = mock(WordRepository.class);
+		when(wordRepository.findIdRange(1L, Difficulty.EASY)).thenReturn(range(null, null, 0));
+		DatabaseWordSampler sampler = new DatabaseWordSampler(wordRepository, 0.05, 1.5, 1000, 3);
+
+		assertTrue(sampler.sample(1L, Difficulty.EASY, 10).isEmpty());
+		verify(wordRepository, never()).findMatchingIds(anyCollection(), any(), any());
+		verify(wordRepository, never()).findIds(any(), any());
+		verify(wordRepository, never()).findAllWithCategoryByIdIn(anyCollection());
+	}
+
+	@Test
+	public void sparseIdsAreSampledWithoutProbing() {
+		WordRepository wordRepository = mock(WordRepository.class);
+		// Three matching words spread over a range of a million ids
+		when(wordRepository.findIdRange(1L, null)).thenReturn(range(1L, 1_000_000L, 3));
+		when(wordRepository.findIds(1L, null)).thenReturn(List.of(1L, 500_000L, 1_000_000L));
+		answerWithWords(wordRepository);
+		DatabaseWordSampler sampler = new DatabaseWordSampler(wordRepository, 0.05, 1.5, 1000, 3);
+
+		List<Word> words = sampler.sample(1L, null, 10);
+
+		assertEquals(Set.of(1L, 500_000L, 1_000_000L), ids(words));
+		verify(wordRepository, never()).findMatchingIds(anyCollection(), any(), any());
+	}
+
+	@Test
+	public void probesThatMissFallBackToTheMatchingIds() {
+		WordRepository wordRepository = mock(WordRepository.class);
+		// Dense enough to probe, but every probe misses
+		when(wordRepository.findIdRange(null, Difficulty.HARD)).thenReturn(range(1L, 100L, 50));
+		when(wordRepository.findMatchingIds(anyCollection(), any(), any())).thenReturn(List.of());
+		when(wordRepository.findIds(null, Difficulty.HARD))
+				.thenReturn(List.of(2L, 4L, 6L, 8L, 10L, 12L, 14L, 16L, 18L, 20L));
+		answerWithWords(wordRepository);
+		DatabaseWordSampler sampler = new DatabaseWordSampler(wordRepository, 0.05, 1.5, 1000, 3);
+
+		List<Word> words = sampler.sample(null, Difficulty.HARD, 4);
+
+		assertEquals(4, ids(words).size());
+		assertTrue(ids(words).stream().allMatch(id -> id % 2 == 0 && id <= 20));
+	}
+
+	private static void answerWithWords(WordRepository wordRepository) {
+		when(wordRepository.findAllWithCategoryByIdIn(anyCollection())).thenAnswer(invocation -> {
+			Collection<Long> ids = invocation.getArgument(0);
+			return ids.stream().map(DatabaseWordSamplerTest::word).collect(Collectors.toList());
+		});
+	}
+
+	private static Set<Long> ids(List<Word> words) {
+		Set<Long> ids = new HashSet<>();
+		words.forEach(word -> ids.add(word.getId()));
+		return ids;
+	}
+
+	private static Word word(Long id) {
+		Word word = new Word("word" + id, "translation" + id, "en", "he");
+		word.setId(id);
+		return word;
+	}
+
+	private static WordIdRange range(Long minId, Long maxId, long count) {
+		return new WordIdRange() {
+			@Override
+			public Long getMinId() {
+				return minId;
+			}
+
+			@Override
+			public Long getMaxId() {
+				return maxId;
+			}
+
+			@Override
+			public long getCount() {
+				return count;
+			}
+		};
+	}
+}
@@ -0,0 +1,127 @@
+package com.lingotower.service.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.model.Category;
+import com.lingotower.model.Difficulty;
+import com.lingotower.model.Word;
+import com.lingotower.security.UserProfileCache;
+
+public class DistractorIndexTest {
+
+	@Test
+	public void drawsSimilarWrongAnswersOnly() {
+		WordCatalog catalog = catalog();
+		List<String> texts = new ArrayList<>(List.of("cat", "car", "cart", "card", "hat"));
+		for (int i = 0; i < 20; i++) {
+			texts.add("extraordinarily" + i);
+		}
+		Category category = new Category();
+		category.setId(1L);
+		List<Word> words = new ArrayList<>();
+		for (int i = 0; i < texts.size(); i++) {
+			Word word = new Word(texts.get(i), "t" + i, "en", "he");
+			word.setId((long) i + 1);
+			word.setCategory(category);
+			word.setDifficulty(Difficulty.EASY);
+			words.add(word);
+		}
+		catalog.upsertAll(words);
+		DistractorIndex index = new DistractorIndex(catalog);
+
+		Set<String> seen = new HashSet<>();
+		for (int round = 0; round < 50; round++) {
+			List<String> distractors = index.wordDistractors(1L, Difficulty.EASY, "Cat", 4);
+			assertEquals(4, distractors.size());
+			assertEquals(4, new HashSet<>(distractors).size());
+			assertFalse(distractors.contains("cat"));
+			seen.addAll(distractors);
+		}
+		// The four short look-alikes rank first; the long words fill the rest
+		assertTrue(seen.containsAll(List.of("car", "cart", "card", "hat")));
+		assertTrue(seen.size() > 4);
+		assertTrue(index.wordDistractors(2L, Difficulty.EASY, "cat", 4).isEmpty());
+	}
+
+	@Test
+	public void catalogChangeRebuildsABucketOnceWhileTheOldOneIsServed() throws Exception {
+		WordCatalog catalog = spy(catalog());
+		Category category = new Category();
+		category.setId(1L);
+		List<Word> words = new ArrayList<>();
+		for (long id = 1; id <= 5; id++) {
+			words.add(word(id, "word" + id, category));
+		}
+		catalog.upsertAll(words);
+		DistractorIndex index = new DistractorIndex(catalog);
+		ExecutorService readers = Executors.newFixedThreadPool(8);
+		try {
+			assertEquals(4, index.wordDistractors(1L, Difficulty.EASY, "word1", 10).size());
+
+			catalog.upsert(word(6L, "word6", category));
+			CountDownLatch start = new CountDownLatch(1);
+			List<Future<List<String>>> reads = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				reads.add(readers.submit(() -> {
+					start.await();
+					return index.wordDistractors(1L, Difficulty.EASY, "word1", 10);
+				}));
+			}
+			start.countDown();
+			for (Future<List<String>> read : reads) {
+				// Stale or fresh, every reader is answered without waiting for a rebuild
+				assertTrue(read.get(5, TimeUnit.SECONDS).size() >= 4);
+			}
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (!index.wordDistractors(1L, Difficulty.EASY, "word1", 10).contains("word6")
+					&& System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			assertEquals(5, index.wordDistractors(1L, Difficulty.EASY, "word1", 10).size());
+			// The first build and a single rebuild
+			verify(catalog, times(2)).words(1L, Difficulty.EASY);
+		} finally {
+			readers.shutdownNow();
+			index.shutdown();
+		}
+	}
+
+	private static Word word(Long id, String text, Category category) {
+		Word word = new Word(text, "t" + id, "en", "he");
+		word.setId(id);
+		word.setCategory(category);
+		word.setDifficulty(Difficulty.EASY);
+		return word;
+	}
+
+	private static WordCatalog catalog() {
+		WordRepository wordRepository = mock(WordRepository.class);
+		CategoryRepository categoryRepository = mock(CategoryRepository.class);
+		when(wordRepository.findAllForCatalog()).thenReturn(List.of());
+		when(categoryRepository.findAll()).thenReturn(List.of());
+		return new WordCatalog(wordRepository, categoryRepository, new CatalogVersion(mock(UserProfileCache.class)),
+				"catalog");
+	}
+}
@@ -0,0 +1,136 @@
+package com.lingotower.service.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.word.WordCatalogView;
+import com.lingotower.model.Category;
+import com.lingotower.model.Difficulty;
+import com.lingotower.model.Word;
+import com.lingotower.security.UserProfileCache;
+
+public class WordCatalogTest {
+
+	@Test
+	public void samplesDistinctWordsFromTheMatchingBucket() {
+		WordCatalog catalog = emptyCatalog();
+		Category animals = category(1L, "Animals");
+		Category food = category(2L, "Food");
+		List<Word> words = new ArrayList<>();
+		for (long id = 1; id <= 30; id++) {
+			words.add(word(id, id % 2 == 0 ? animals : food, id <= 20 ? Difficulty.EASY : Difficulty.HARD));
+		}
+		catalog.upsertAll(words);
+
+		for (int round = 0; round < 50; round++) {
+			List<CatalogWord> sample = catalog.sample(1L, Difficulty.EASY, 8);
+			Set<Long> ids = new HashSet<>();
+			sample.forEach(word -> ids.add(word.id()));
+			assertEquals(8, ids.size());
+			assertTrue(sample.stream().allMatch(w -> w.categoryId() == 1L && w.difficulty() == Difficulty.EASY));
+		}
+		assertEquals(10, catalog.sample(1L, Difficulty.EASY, 50).size());
+		assertTrue(catalog.sample(3L, Difficulty.EASY, 5).isEmpty());
+	}
+
+	@Test
+	public void editsSwapInANewSnapshot() {
+		WordCatalog catalog = emptyCatalog();
+		Category animals = category(1L, "Animals");
+		catalog.upsert(word(1L, animals, Difficulty.EASY));
+		long version = catalog.getVersion();
+
+		catalog.upsert(word(2L, animals, Difficulty.EASY));
+		catalog.remove(1L);
+
+		assertTrue(catalog.getVersion() > version);
+		assertEquals(1, catalog.size());
+		assertEquals(2L, catalog.sample(1L, null, 5).get(0).id());
+	}
+
+	@Test
+	public void snapshotVersionIsTheCatalogVersion() {
+		CatalogVersion catalogVersion = new CatalogVersion(mock(UserProfileCache.class));
+		WordCatalog catalog = emptyCatalog(catalogVersion);
+		Category animals = category(1L, "Animals");
+
+		catalog.upsert(word(1L, animals, Difficulty.EASY));
+		assertEquals(catalogVersion.current(), catalog.getVersion());
+
+		// Other writes move the ETags but leave the snapshot alone
+		long version = catalog.getVersion();
+		catalogVersion.bump();
+		assertEquals(version, catalog.getVersion());
+
+		// Removing a word the catalog does not hold still changes the ETags
+		long before = catalogVersion.current();
+		catalog.remove(9L);
+		assertEquals(version, catalog.getVersion());
+		assertTrue(catalogVersion.current() > before);
+	}
+
+	@Test
+	public void databaseModeNeverLoadsTheWholeCatalog() {
+		WordRepository wordRepository = mock(WordRepository.class);
+		CategoryRepository categoryRepository = mock(CategoryRepository.class);
+		WordCatalogView view = mock(WordCatalogView.class);
+		when(view.getId()).thenReturn(1L);
+		when(view.getWord()).thenReturn("dog");
+		when(wordRepository.findForCatalog(1L, Difficulty.EASY)).thenReturn(List.of(view));
+		CatalogVersion catalogVersion = new CatalogVersion(mock(UserProfileCache.class));
+		WordCatalog catalog = new WordCatalog(wordRepository, categoryRepository, catalogVersion, "database");
+
+		long version = catalog.getVersion();
+		catalog.upsert(word(1L, category(1L, "Animals"), Difficulty.EASY));
+		catalog.remove(2L);
+		catalog.reloadCategories();
+		catalog.clearWords();
+		assertEquals(catalogVersion.current(), catalog.getVersion());
+		assertTrue(catalog.getVersion() > version);
+
+		// A single bucket, as the distractors need it, is read on its own
+		assertEquals("dog", catalog.words(1L, Difficulty.EASY).get(0).word());
+		verify(wordRepository, never()).findAllForCatalog();
+		verify(categoryRepository, never()).findAll();
+	}
+
+	private static WordCatalog emptyCatalog() {
+		return emptyCatalog(new CatalogVersion(mock(UserProfileCache.class)));
+	}
+
+	private static WordCatalog emptyCatalog(CatalogVersion catalogVersion) {
+		WordRepository wordRepository = mock(WordRepository.class);
+		CategoryRepository categoryRepository = mock(CategoryRepository.class);
+		when(wordRepository.findAllForCatalog()).thenReturn(List.of());
+		when(categoryRepository.findAll()).thenReturn(List.of());
+		return new WordCatalog(wordRepository, categoryRepository, catalogVersion, "catalog");
+	}
+
+	private static Category category(Long id, String name) {
+		Category category = new Category();
+		category.setId(id);
+		category.setName(name);
+		return category;
+	}
+
+	private static Word word(Long id, Category category, Difficulty difficulty) {
+		Word word = new Word("word" + id, "translation" + id, "en", "he");
+		word.setId(id);
+		word.setCategory(category);
+		word.setDifficulty(difficulty);
+		return word;
+	}
+}
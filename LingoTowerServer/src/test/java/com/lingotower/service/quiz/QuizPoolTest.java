@@ -0,0 +1,47 @@
+package com.lingotower.service.quiz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.dto.quiz.QuestionDTO;
+import com.lingotower.model.Difficulty;
+import com.lingotower.service.catalog.WordCatalog;
+
+public class QuizPoolTest {
+
+	@Test
+	public void servesRefilledQuizzesAndDropsStaleOnes() throws Exception {
+		WordCatalog catalog = mock(WordCatalog.class);
+		when(catalog.getVersion()).thenReturn(1L);
+		QuizPool pool = new QuizPool(catalog, true, 4, 2, 1);
+		Supplier<List<QuestionDTO>> generator = () -> List.of(new QuestionDTO("cat", "חתול"));
+
+		pool.take(1L, Difficulty.EASY, "he", generator);
+		assertEquals(1, pool.getStats().getMisses());
+		waitForDepth(pool, 4);
+
+		pool.take(1L, Difficulty.EASY, "he", generator);
+		assertEquals(1, pool.getStats().getHits());
+
+		// Quizzes made before the catalog changed are never served
+		when(catalog.getVersion()).thenReturn(2L);
+		pool.take(1L, Difficulty.EASY, "he", generator);
+		assertEquals(2, pool.getStats().getMisses());
+		assertTrue(pool.getStats().getDiscarded() >= 3);
+		pool.shutdown();
+	}
+
+	private static void waitForDepth(QuizPool pool, int depth) throws InterruptedException {
+		for (int i = 0; i < 200 && pool.getStats().getDepths().get("1/EASY/he") < depth; i++) {
+			Thread.sleep(10);
+		}
+		assertEquals(depth, pool.getStats().getDepths().get("1/EASY/he"));
+	}
+}
@@ -0,0 +1,51 @@
+package com.lingotower.service.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.word.WordTranslationView;
+
+public class LocalDictionaryTest {
+
+	@Test
+	public void answersSeedAndStoredPairsInBothDirections() throws Exception {
+		WordTranslationView stored = mock(WordTranslationView.class);
+		when(stored.getWord()).thenReturn("hello");
+		when(stored.getTranslation()).thenReturn("היי");
+		when(stored.getSourceLanguage()).thenReturn("en");
+		when(stored.getTargetLanguage()).thenReturn("he");
+		WordRepository wordRepository = mock(WordRepository.class);
+		when(wordRepository.findAllTranslated()).thenReturn(List.of(stored));
+
+		// Only the application's own classes, as at runtime; test-classes would hide the root seed files
+		ClassLoader applicationClasses = new URLClassLoader(new URL[] { Path.of("target/classes").toUri().toURL() },
+				null);
+		LocalDictionary dictionary = new LocalDictionary(wordRepository,
+				new PathMatchingResourcePatternResolver(applicationClasses), new ObjectMapper());
+		dictionary.load();
+
+		assertEquals("להתראות", dictionary.lookup(" GoodBye ", "en", "he").orElseThrow());
+		assertEquals("goodbye", dictionary.lookup("להתראות", "he", "en").orElseThrow());
+		assertEquals("אנשים ויחסים", dictionary.lookup("People and Relationships", "en", "he").orElseThrow());
+		// The Word table wins over the seed files
+		assertEquals("היי", dictionary.lookup("hello", "en", "he").orElseThrow());
+
+		dictionary.remove("hello", "היי", "en", "he");
+		assertTrue(dictionary.lookup("hello", "en", "he").isEmpty());
+		assertTrue(dictionary.lookup("היי", "he", "en").isEmpty());
+		assertEquals(4, dictionary.getStats().getHits());
+		assertEquals(2, dictionary.getStats().getMisses());
+	}
+}
@@ -0,0 +1,185 @@
+package com.lingotower.service.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.lingotower.data.BackfillCheckpointRepository;
+import com.lingotower.data.CategoryRepository;
+import com.lingotower.data.ExampleSentenceRepository;
+import com.lingotower.data.WordRepository;
+import com.lingotower.dto.word.WordSummaryView;
+import com.lingotower.model.ExampleSentence;
+import com.lingotower.model.Word;
+import com.lingotower.security.UserProfileCache;
+import com.lingotower.service.TranslationService;
+import com.lingotower.service.catalog.CatalogVersion;
+import com.lingotower.service.catalog.ContentCache;
+import com.lingotower.service.catalog.DailyWordRotation;
+import com.lingotower.service.catalog.WordCatalog;
+import com.lingotower.support.TestDatabase;
+
+public class TranslationBackfillJobTest {
+
+	private final TranslationService translationService = mock(TranslationService.class);
+	private final LocalDictionary localDictionary = mock(LocalDictionary.class);
+	private final DailyWordRotation dailyWordRotation = mock(DailyWordRotation.class);
+	private TestDatabase database;
+	private JdbcTemplate jdbc;
+	private CatalogVersion catalogVersion;
+	private WordCatalog wordCatalog;
+
+	@AfterEach
+	public void closeDatabase() {
+		database.close();
+	}
+
+	@Test
+	public void translatesInChunksAndResumesFromTheCheckpoint() {
+		open(false);
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (1, 'Everyday', 'יום-יום')");
+		for (String word : List.of("dog", "cat", "broken", "bird", "fish")) {
+			jdbc.update("INSERT INTO word (word, category_id, sourceLanguage, targetLanguage) VALUES (?, 1, 'en', 'he')",
+					word);
+		}
+		translateAllButBroken();
+		BackfillCheckpointRepository checkpoints = database.repository(BackfillCheckpointRepository.class);
+		TranslationBackfillJob job = job(checkpoints, 3);
+		wordCatalog.reload();
+
+		// Budget of three rows: a chunk of two, then a chunk of one
+		job.run();
+		assertEquals("he-dog", translation("dog"));
+		assertEquals("he-cat", translation("cat"));
+		assertNull(translation("bird"));
+		assertEquals(3L, checkpoints.findById("word").orElseThrow().getLastId());
+		verify(localDictionary).put("dog", "he-dog", "en", "he");
+		// The catalog and the words of the day no longer hold the untranslated words
+		Map<String, String> catalog = wordCatalog.sample(null, null, 10).stream()
+				.collect(HashMap::new, (map, word) -> map.put(word.word(), word.translation()), Map::putAll);
+		assertEquals("he-dog", catalog.get("dog"));
+		assertNull(catalog.get("bird"));
+		verify(dailyWordRotation).evict(1L);
+		verify(dailyWordRotation, never()).evict(4L);
+
+		// The rest of the table, after which the pass starts over
+		job.run();
+		assertEquals("he-bird", translation("bird"));
+		assertEquals("he-fish", translation("fish"));
+		assertNull(translation("broken"));
+		assertEquals(0L, checkpoints.findById("word").orElseThrow().getLastId());
+		assertEquals(5, job.getStats().getTotalRows());
+		assertEquals(4, job.getStats().getTotalTranslated());
+		assertEquals(1, job.getStats().getTotalFailed());
+	}
+
+	@Test
+	public void evictsOnlyTheWrittenRows() {
+		open(true);
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (1, 'Animals', 'חיות')");
+		jdbc.update("INSERT INTO Category (id, name, translation) VALUES (2, 'Food', 'אוכל')");
+		jdbc.update("INSERT INTO word (word, category_id, sourceLanguage, targetLanguage) VALUES ('dog', 1, 'en', 'he')");
+		jdbc.update("INSERT INTO word (word, category_id, sourceLanguage, targetLanguage) VALUES ('cat', 2, 'en', 'he')");
+		jdbc.update("INSERT INTO example_sentence (id, sentenceText, word_id) VALUES (1, 'The dog runs.', 1)");
+		jdbc.update("INSERT INTO example_sentence (id, sentenceText, translatedText, word_id) "
+				+ "VALUES (2, 'The cat sleeps.', 'החתול ישן.', 2)");
+		translateAllButBroken();
+		when(translationService.translatePhrasesAsync(anyString(), eq("en"), eq("he"),
+				eq(TranslationPriority.BACKGROUND)))
+				.thenAnswer(invocation -> CompletableFuture.completedFuture("he-" + invocation.getArgument(0)));
+		CategoryRepository categories = database.repository(CategoryRepository.class);
+		WordRepository words = database.repository(WordRepository.class);
+		BackfillCheckpointRepository checkpoints = database.repository(BackfillCheckpointRepository.class);
+		categories.findByName("Animals");
+		categories.findById(1L);
+		categories.findById(2L);
+		words.findSummaries(1L, null);
+		sentencesOf(1L);
+		sentencesOf(2L);
+
+		// Everything is served from the cache
+		Statistics statistics = database.clearedStatistics();
+		assertEquals("חיות", categories.findByName("Animals").orElseThrow().getTranslation());
+		assertNull(words.findSummaries(1L, null).get(0).getTranslation());
+		assertEquals(0, statistics.getPrepareStatementCount());
+
+		// A write Hibernate does not see leaves the cached category stale
+		jdbc.update("UPDATE Category SET translation = NULL WHERE id = 1");
+		assertEquals("חיות", categories.findById(1L).orElseThrow().getTranslation());
+
+		// A chunk of two words is one batch and invalidates the word queries once
+		job(checkpoints, 2).run();
+		statistics = database.clearedStatistics();
+		assertEquals("חיות", categories.findByName("Animals").orElseThrow().getTranslation());
+		assertEquals("חיות", categories.findById(1L).orElseThrow().getTranslation());
+		assertEquals(0, statistics.getPrepareStatementCount());
+		List<WordSummaryView> summaries = words.findSummaries(1L, null);
+		assertTrue(summaries.stream().allMatch(word -> ("he-" + word.getWord()).equals(word.getTranslation())));
+		assertEquals(1, statistics.getPrepareStatementCount());
+
+		// Backfilling the category evicts it and only it; the sentence evicts the
+		// sentences of its own word
+		sentencesOf(1L);
+		sentencesOf(2L);
+		wordCatalog.reload();
+		job(checkpoints, 10).run();
+		assertEquals("he-Animals", wordCatalog.toWordsByCategory(wordCatalog.sample(1L, null, 1), "en").get(0)
+				.getCategory().getTranslation());
+		statistics = database.clearedStatistics();
+		assertEquals("אוכל", categories.findById(2L).orElseThrow().getTranslation());
+		assertEquals(List.of("החתול ישן."), sentencesOf(2L));
+		assertEquals(0, statistics.getPrepareStatementCount());
+		assertEquals("he-Animals", categories.findById(1L).orElseThrow().getTranslation());
+		assertEquals(List.of("he-The dog runs."), sentencesOf(1L));
+	}
+
+	private List<String> sentencesOf(Long wordId) {
+		return database.transactions().execute(status -> database.entityManager().find(Word.class, wordId)
+				.getSentences().stream().map(ExampleSentence::getTranslatedText).toList());
+	}
+
+	private void open(boolean secondLevelCache) {
+		database = new TestDatabase(secondLevelCache);
+		jdbc = database.jdbc();
+		catalogVersion = new CatalogVersion(mock(UserProfileCache.class));
+		wordCatalog = new WordCatalog(database.repository(WordRepository.class),
+				database.repository(CategoryRepository.class), catalogVersion, "catalog");
+	}
+
+	private TranslationBackfillJob job(BackfillCheckpointRepository checkpoints, int maxRowsPerRun) {
+		return new TranslationBackfillJob(database.repository(WordRepository.class),
+				database.repository(CategoryRepository.class), database.repository(ExampleSentenceRepository.class),
+				checkpoints, database.entityManager(), database.transactions().getTransactionManager(),
+				translationService, localDictionary, catalogVersion, new ContentCache(database.entityManagerFactory()),
+				wordCatalog, dailyWordRotation, true, 2, 2, maxRowsPerRun);
+	}
+
+	private void translateAllButBroken() {
+		when(translationService.translateTextAsync(anyString(), eq("en"), eq("he"), eq(TranslationPriority.BACKGROUND)))
+				.thenAnswer(invocation -> {
+					String text = invocation.getArgument(0);
+					return "broken".equals(text) ? CompletableFuture.failedFuture(new IllegalStateException())
+							: CompletableFuture.completedFuture("he-" + text);
+				});
+	}
+
+	private String translation(String word) {
+		return jdbc.queryForObject("SELECT translation FROM word WHERE word = ?", String.class, word);
+	}
+}
@@ -0,0 +1,63 @@
+package com.lingotower.service.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class TranslationCoalescerTest {
+
+	@Test
+	public void identicalConcurrentCallsShareOneRemoteCall() throws Exception {
+		TranslationCoalescer coalescer = new TranslationCoalescer();
+		AtomicInteger remoteCalls = new AtomicInteger();
+		CompletableFuture<String> remote = new CompletableFuture<>();
+		int callers = 8;
+
+		List<CompletableFuture<String>> results = new ArrayList<>();
+		for (int i = 0; i < callers; i++) {
+			results.add(coalescer.executeAsync("Hello", "en", "he", TranslationPriority.INTERACTIVE, () -> {
+				remoteCalls.incrementAndGet();
+				return remote;
+			}));
+		}
+		assertEquals(1, coalescer.getStats().getInFlight());
+		remote.complete("שלום");
+
+		for (CompletableFuture<String> result : results) {
+			assertEquals("שלום", result.get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(1, remoteCalls.get());
+		assertEquals(callers - 1, coalescer.getStats().getCoalescedCalls());
+		assertEquals(0, coalescer.getStats().getInFlight());
+	}
+
+	@Test
+	public void interactiveCallsDoNotWaitForQueuedBackgroundCalls() throws Exception {
+		TranslationCoalescer coalescer = new TranslationCoalescer();
+		CompletableFuture<String> queued = new CompletableFuture<>();
+		CompletableFuture<String> interactive = new CompletableFuture<>();
+
+		CompletableFuture<String> backfill = coalescer.executeAsync("Hello", "en", "he",
+				TranslationPriority.BACKGROUND, () -> queued);
+		CompletableFuture<String> user = coalescer.executeAsync("Hello", "en", "he",
+				TranslationPriority.INTERACTIVE, () -> interactive);
+		// A background caller joins the interactive call rather than the queued one
+		CompletableFuture<String> seed = coalescer.executeAsync("Hello", "en", "he",
+				TranslationPriority.BACKGROUND, () -> {
+					throw new AssertionError("joins an in-flight call");
+				});
+		interactive.complete("שלום");
+
+		assertEquals("שלום", user.get(5, TimeUnit.SECONDS));
+		assertEquals("שלום", seed.get(5, TimeUnit.SECONDS));
+		assertFalse(backfill.isDone());
+		assertEquals(1, coalescer.getStats().getCoalescedCalls());
+	}
+}
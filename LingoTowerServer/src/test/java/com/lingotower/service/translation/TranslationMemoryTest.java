@@ -0,0 +1,73 @@
+package com.lingotower.service.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.data.TranslationMemoryRepository;
+import com.lingotower.model.TranslationMemoryEntry;
+import com.lingotower.util.TextNormalizer;
+
+public class TranslationMemoryTest {
+
+	private final TranslationMemoryRepository repository = mock(TranslationMemoryRepository.class);
+
+	@Test
+	public void loadsOnceAndPersistsInTheBackground() throws Exception {
+		when(repository.findByTextHashAndSourceLanguageAndTargetLanguage(anyString(), anyString(), anyString()))
+				.thenReturn(Optional.empty());
+		TranslationMemory memory = new TranslationMemory(repository, 100, 720, 1);
+		AtomicInteger loads = new AtomicInteger();
+		try {
+			assertEquals("כלב", memory.getOrLoad("Dog", "en", "he", () -> {
+				loads.incrementAndGet();
+				return CompletableFuture.completedFuture("כלב");
+			}).get());
+			// Case and surrounding whitespace do not make a new entry
+			assertEquals("כלב", memory.getOrLoad(" dog ", "en", "he", () -> {
+				loads.incrementAndGet();
+				return CompletableFuture.completedFuture("other");
+			}).get());
+
+			assertEquals(1, loads.get());
+			assertEquals(1, memory.getStats().getHits());
+			assertEquals(1, memory.getStats().getMisses());
+			verify(repository, timeout(2000)).save(any(TranslationMemoryEntry.class));
+		} finally {
+			memory.shutdown();
+		}
+	}
+
+	@Test
+	public void servesStoredEntriesAndRefreshesStaleOnes() throws Exception {
+		String hash = TextNormalizer.sha256(TextNormalizer.normalizeKey("cat"));
+		TranslationMemoryEntry stale = new TranslationMemoryEntry(hash, "en", "he", "cat", "חתול ישן",
+				Instant.now().minus(Duration.ofDays(60)));
+		when(repository.findByTextHashAndSourceLanguageAndTargetLanguage(hash, "en", "he"))
+				.thenReturn(Optional.of(stale));
+		TranslationMemory memory = new TranslationMemory(repository, 100, 720, 1);
+		try {
+			assertEquals("חתול ישן", memory.getOrLoad("cat", "en", "he",
+					() -> CompletableFuture.completedFuture("חתול")).get());
+			assertEquals(1, memory.getStats().getStoreHits());
+			assertEquals(1, memory.getStats().getStaleHits());
+			assertEquals(1, memory.getStats().getRefreshes());
+
+			assertEquals("חתול", memory.peek("cat", "en", "he").orElseThrow());
+		} finally {
+			memory.shutdown();
+		}
+	}
+}
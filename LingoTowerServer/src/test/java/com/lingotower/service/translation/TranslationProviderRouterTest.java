@@ -0,0 +1,52 @@
+package com.lingotower.service.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+public class TranslationProviderRouterTest {
+
+	@Test
+	public void slowPrimaryIsHedgedToSecondary() throws Exception {
+		CompletableFuture<String> neverAnswers = new CompletableFuture<>();
+		TranslationProviderRouter router = new TranslationProviderRouter(
+				List.of(provider("slow", request -> neverAnswers),
+						provider("fast", request -> CompletableFuture.completedFuture("שלום"))),
+				"slow", "fast", 10, 1, 20, 60);
+		try {
+			String translated = router
+					.translateRemotely(new TranslationRequest("hello", "en", "he", TranslationPriority.INTERACTIVE))
+					.get(5, TimeUnit.SECONDS);
+
+			assertEquals("שלום", translated);
+			assertEquals(1, router.getStats().getHedged());
+			assertEquals(1, router.getStats().getSecondaryWins());
+			// The losing primary is cancelled once the secondary has answered
+			assertThrows(CancellationException.class, () -> neverAnswers.get(5, TimeUnit.SECONDS));
+		} finally {
+			router.shutdown();
+		}
+	}
+
+	private static TranslationProvider provider(String name,
+			Function<TranslationRequest, CompletableFuture<String>> answer) {
+		return new TranslationProvider() {
+			@Override
+			public String getName() {
+				return name;
+			}
+
+			@Override
+			public CompletableFuture<String> translate(TranslationRequest request) {
+				return answer.apply(request);
+			}
+		};
+	}
+}
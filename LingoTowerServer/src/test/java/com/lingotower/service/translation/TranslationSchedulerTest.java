@@ -0,0 +1,107 @@
+package com.lingotower.service.translation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+public class TranslationSchedulerTest {
+
+	@Test
+	public void throttledCallIsRetriedAfterBackoff() throws Exception {
+		TranslationScheduler scheduler = new TranslationScheduler(6000, 5, 100, 5, 10, 100, 2);
+		scheduler.start();
+		try {
+			AtomicInteger attempts = new AtomicInteger();
+			CompletableFuture<String> result = scheduler.submit(TranslationPriority.BACKGROUND, () -> {
+				if (attempts.incrementAndGet() < 3) {
+					return CompletableFuture.failedFuture(WebClientResponseException
+							.create(HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null));
+				}
+				return CompletableFuture.completedFuture("שלום");
+			});
+
+			assertEquals("שלום", result.get(5, TimeUnit.SECONDS));
+			assertEquals(3, attempts.get());
+			assertEquals(2, scheduler.getStats().getThrottled());
+			assertEquals(0, scheduler.getStats().getFailed());
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	public void backgroundCallsLeaveTheReserveForInteractiveOnes() throws Exception {
+		// One token a minute: nothing refills during the test
+		TranslationScheduler scheduler = new TranslationScheduler(1, 3, 100, 5, 10, 100, 2);
+		scheduler.start();
+		try {
+			CompletableFuture<String> first = scheduler.submit(TranslationPriority.BACKGROUND,
+					() -> CompletableFuture.completedFuture("1"));
+			CompletableFuture<String> second = scheduler.submit(TranslationPriority.BACKGROUND,
+					() -> CompletableFuture.completedFuture("2"));
+			assertEquals("1", first.get(5, TimeUnit.SECONDS));
+
+			CompletableFuture<String> interactive = scheduler.submit(TranslationPriority.INTERACTIVE,
+					() -> CompletableFuture.completedFuture("שלום"));
+			assertEquals("שלום", interactive.get(5, TimeUnit.SECONDS));
+			assertFalse(second.isDone());
+			assertEquals(1, scheduler.getStats().getBackgroundQueued());
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	public void cancelledCallsDoNotSpendTokens() throws Exception {
+		// A single token and nothing refills during the test
+		TranslationScheduler scheduler = new TranslationScheduler(1, 1, 100, 5, 10, 100, 0);
+		AtomicInteger started = new AtomicInteger();
+		CompletableFuture<String> abandoned = scheduler.submit(TranslationPriority.INTERACTIVE, () -> {
+			started.incrementAndGet();
+			return CompletableFuture.completedFuture("1");
+		});
+		abandoned.cancel(true);
+		CompletableFuture<String> wanted = scheduler.submit(TranslationPriority.INTERACTIVE,
+				() -> CompletableFuture.completedFuture("שלום"));
+		scheduler.start();
+		try {
+			assertEquals("שלום", wanted.get(5, TimeUnit.SECONDS));
+			assertEquals(0, started.get());
+			assertEquals(1, scheduler.getStats().getDispatched());
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	public void cancellingAStartedCallCancelsTheRemoteCall() throws Exception {
+		TranslationScheduler scheduler = new TranslationScheduler(6000, 5, 100, 5, 10, 100, 2);
+		scheduler.start();
+		try {
+			CompletableFuture<String> remote = new CompletableFuture<>();
+			CompletableFuture<String> started = new CompletableFuture<>();
+			CompletableFuture<String> result = scheduler.submit(TranslationPriority.INTERACTIVE, () -> {
+				started.complete("started");
+				return remote;
+			});
+			started.get(5, TimeUnit.SECONDS);
+
+			result.cancel(true);
+
+			// The scheduler thread may still be wiring the call up when it is cancelled
+			assertThrows(CancellationException.class, () -> remote.get(5, TimeUnit.SECONDS));
+			assertEquals(0, scheduler.getStats().getFailed());
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+}
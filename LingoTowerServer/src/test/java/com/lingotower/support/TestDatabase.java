@@ -0,0 +1,133 @@
+package com.lingotower.support;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.data.jpa.repository.support.JpaRepositoryFactoryBean;
+import org.springframework.data.querydsl.EntityPathResolver;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * An in-memory H2 database in MySQL mode with the application's entities and
+ * Hibernate settings, for tests that need real queries without the full
+ * application context. Repositories are transactional as they are in the
+ * application.
+ */
+public final class TestDatabase implements AutoCloseable {
+
+	private static final AtomicInteger DATABASES = new AtomicInteger();
+
+	private final HikariDataSource dataSource = new HikariDataSource();
+	private final LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+	private final EntityManagerFactory entityManagerFactory;
+	private final EntityManager entityManager;
+	private final JpaTransactionManager transactionManager;
+	private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+	/**
+	 * @param secondLevelCache Whether to enable the second-level and query cache
+	 *                         as configured in application.properties.
+	 */
+	public TestDatabase(boolean secondLevelCache) {
+		dataSource.setJdbcUrl("jdbc:h2:mem:test" + DATABASES.incrementAndGet()
+				+ ";DB_CLOSE_DELAY=-1;MODE=MySQL;NON_KEYWORDS=USER,VALUE");
+		Properties properties = new Properties();
+		properties.put("hibernate.hbm2ddl.auto", "create");
+		properties.put("hibernate.physical_naming_strategy",
+				"org.hibernate.boot.model.naming.PhysicalNamingStrategyStandardImpl");
+		properties.put("hibernate.generate_statistics", "true");
+		properties.put("hibernate.session.events.log", "false");
+		properties.put("hibernate.cache.use_second_level_cache", Boolean.toString(secondLevelCache));
+		properties.put("hibernate.cache.use_query_cache", Boolean.toString(secondLevelCache));
+		if (secondLevelCache) {
+			properties.put("hibernate.cache.region.factory_class", "jcache");
+			properties.put("hibernate.cache.auto_evict_collection_cache", "true");
+			properties.put("hibernate.javax.cache.provider", "org.ehcache.jsr107.EhcacheCachingProvider");
+			properties.put("hibernate.javax.cache.uri", "ehcache.xml");
+			properties.put("hibernate.javax.cache.missing_cache_strategy", "fail");
+		}
+		factoryBean.setDataSource(dataSource);
+		factoryBean.setPackagesToScan("com.lingotower.model");
+		factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factoryBean.setJpaProperties(properties);
+		factoryBean.afterPropertiesSet();
+		entityManagerFactory = factoryBean.getObject();
+		entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+		transactionManager = new JpaTransactionManager(entityManagerFactory);
+		beanFactory.registerSingleton("transactionManager", transactionManager);
+		beanFactory.registerSingleton("entityPathResolver", SimpleEntityPathResolver.INSTANCE);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public <R> R repository(Class<R> repositoryType) {
+		JpaRepositoryFactoryBean factory = new JpaRepositoryFactoryBean(repositoryType);
+		factory.setEntityManager(entityManager);
+		factory.setBeanFactory(beanFactory);
+		factory.setTransactionManager("transactionManager");
+		factory.setEntityPathResolver(beanFactory.getBeanProvider(EntityPathResolver.class));
+		factory.afterPropertiesSet();
+		return (R) factory.getObject();
+	}
+
+	public JdbcTemplate jdbc() {
+		return new JdbcTemplate(dataSource);
+	}
+
+	public TransactionTemplate transactions() {
+		return new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * @return A proxy of the given bean that applies its @Transactional
+	 *         annotations, as the application context would.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T transactional(T bean) {
+		ProxyFactory proxyFactory = new ProxyFactory(bean);
+		proxyFactory.setProxyTargetClass(true);
+		proxyFactory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager,
+				new AnnotationTransactionAttributeSource()));
+		return (T) proxyFactory.getProxy();
+	}
+
+	public EntityManager entityManager() {
+		return entityManager;
+	}
+
+	public EntityManagerFactory entityManagerFactory() {
+		return entityManagerFactory;
+	}
+
+	/**
+	 * @return Hibernate's statistics, cleared.
+	 */
+	public Statistics clearedStatistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		return statistics;
+	}
+
+	@Override
+	public void close() {
+		factoryBean.destroy();
+		dataSource.close();
+	}
+}
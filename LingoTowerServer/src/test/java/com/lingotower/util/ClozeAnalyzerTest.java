@@ -0,0 +1,38 @@
+package com.lingotower.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class ClozeAnalyzerTest {
+
+	@Test
+	public void blanksFirstUncommonEnglishWordAfterTheFirst() {
+		ClozeTemplate template = ClozeAnalyzer.english("  The cat  is on the   mat. ");
+		assertEquals("The cat is on the mat.", template.text());
+		assertEquals("cat", template.answer());
+		assertEquals("The _____ is on the mat.", template.questionText());
+
+		assertEquals("mat.", ClozeAnalyzer.english("It is at the mat.").answer());
+		assertNull(ClozeAnalyzer.english("Go to it"));
+		assertNull(ClozeAnalyzer.english(null));
+	}
+
+	@Test
+	public void keepsPunctuationAroundHebrewAnswer() {
+		ClozeTemplate template = ClozeAnalyzer.hebrew("אני אוהב את \"החתול\" שלי");
+		assertEquals("אוהב", template.answer());
+
+		template = ClozeAnalyzer.hebrew("יש לי \"חתול\", וגם כלב");
+		assertEquals("חתול", template.answer());
+		assertEquals("יש לי \"_____\", וגם כלב", template.questionText());
+	}
+
+	@Test
+	public void rebuildsStoredTemplateOnlyWhenComplete() {
+		assertEquals(new ClozeTemplate("a cat", 2, 5), ClozeTemplate.of("a cat", 2, 5));
+		assertNull(ClozeTemplate.of("a cat", null, 5));
+		assertNull(ClozeTemplate.of(null, 2, 5));
+	}
+}
@@ -0,0 +1,22 @@
+package com.lingotower.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.util.PhraseSegmenter.Segment;
+
+public class PhraseSegmenterTest {
+
+	@Test
+	public void splitsAtClausePunctuationAndReassembles() {
+		List<Segment> segments = PhraseSegmenter.segment("Hello, it costs 3.5 dollars. Thanks!");
+
+		assertEquals(List.of(new Segment("Hello", ", "), new Segment("it costs 3.5 dollars", ". "),
+				new Segment("Thanks", "!")), segments);
+		assertEquals("שלום, זה עולה 3.5 דולר. תודה!",
+				PhraseSegmenter.assemble(segments, new String[] { "שלום", "זה עולה 3.5 דולר", "תודה" }));
+	}
+}
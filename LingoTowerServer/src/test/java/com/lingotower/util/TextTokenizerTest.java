@@ -0,0 +1,65 @@
+package com.lingotower.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.lingotower.util.TextTokenizer.Script;
+
+public class TextTokenizerTest {
+
+	@Test
+	public void reportsTokenAndLetterSpans() {
+		String text = "  Hello, \"שלום\"\t42 iPhoneים ";
+		TokenSpans spans = new TokenSpans();
+		assertEquals(4, TextTokenizer.tokenize(text, spans));
+
+		assertEquals("Hello,", text.substring(spans.start(0), spans.end(0)));
+		assertEquals("Hello", text.substring(spans.letterStart(0), spans.letterEnd(0)));
+		assertEquals(Script.LATIN, spans.script(0));
+
+		assertEquals("\"שלום\"", text.substring(spans.start(1), spans.end(1)));
+		assertEquals("שלום", text.substring(spans.letterStart(1), spans.letterEnd(1)));
+		assertEquals(4, spans.letterCount(1));
+		assertEquals(Script.HEBREW, spans.script(1));
+
+		assertEquals(Script.NONE, spans.script(2));
+		assertEquals(0, spans.letterCount(2));
+		assertEquals(Script.MIXED, spans.script(3));
+
+		// Reusing the spans starts over
+		assertEquals(0, TextTokenizer.tokenize(" \n ", spans));
+	}
+
+	@Test
+	public void growsBeyondInitialCapacity() {
+		TokenSpans spans = new TokenSpans();
+		assertEquals(100, TextTokenizer.tokenize("a ".repeat(100), spans));
+		assertEquals(198, spans.start(99));
+	}
+
+	@Test
+	public void collapsesWhitespace() {
+		assertEquals("a b c", TextTokenizer.collapseWhitespace("  a \t b\n\nc "));
+		assertEquals("a b", TextTokenizer.collapseWhitespace("a\tb"));
+		assertEquals("", TextTokenizer.collapseWhitespace(" \t "));
+		assertNull(TextTokenizer.collapseWhitespace(null));
+		String clean = "already clean text";
+		assertSame(clean, TextTokenizer.collapseWhitespace(clean));
+	}
+
+	@Test
+	public void matchesStopWordsByLetters() {
+		assertTrue(StopWords.ENGLISH.contains("The,"));
+		assertTrue(StopWords.ENGLISH.contains("x with y", 2, 6));
+		assertFalse(StopWords.ENGLISH.contains("theme"));
+		assertFalse(StopWords.ENGLISH.contains("th"));
+		assertTrue(StopWords.HEBREW.contains("\"אנחנו\""));
+		assertFalse(StopWords.HEBREW.contains("חתול"));
+		assertFalse(new StopWords().contains("a"));
+	}
+}
@@ -0,0 +1,29 @@
+package com.lingotower.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One page of the word listing returned by the server.
+ */
+public class WordPage {
+
+	private List<Word> words = new ArrayList<>(); // The words of the page, in id order
+	private String nextCursor; // The cursor of the next page, or null on the last page
+
+	public List<Word> getWords() {
+		return words;
+	}
+
+	public void setWords(List<Word> words) {
+		this.words = words;
+	}
+
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+}
@@ -23,6 +23,9 @@ public abstract class BaseService {
 	protected static final Logger logger = LoggerFactory.getLogger(BaseService.class);
 	protected final RestTemplate restTemplate;
 
+	// Shared by all services, so a view opened again revalidates what any service fetched
+	private static final ETagCacheInterceptor ETAG_CACHE = new ETagCacheInterceptor();
+
 	// Common base URL for all API endpoints
 	protected static final String BASE_URL = "http://localhost:8080";
 
@@ -42,6 +45,7 @@ public abstract class BaseService {
 	protected BaseService() {
 		this.restTemplate = new RestTemplate();
 		this.restTemplate.setErrorHandler(new ApiResponseErrorHandler());
+		this.restTemplate.getInterceptors().add(ETAG_CACHE);
 		logger.debug("{} initialized", this.getClass().getSimpleName());
 	}
 
@@ -0,0 +1,99 @@
+package com.lingotower.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Remembers GET responses that carry an ETag and revalidates them with
+ * If-None-Match. When the server answers 304 Not Modified, the remembered
+ * response is handed to the caller as if it had been downloaded again, so the
+ * services need no changes. Entries are kept per URL and token, least recently
+ * used first out.
+ */
+class ETagCacheInterceptor implements ClientHttpRequestInterceptor {
+
+	private static final int MAX_ENTRIES = 200;
+
+	private final Map<String, CachedResponse> cache = Collections
+			.synchronizedMap(new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+					return size() > MAX_ENTRIES;
+				}
+			});
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+			throws IOException {
+		if (request.getMethod() != HttpMethod.GET) {
+			return execution.execute(request, body);
+		}
+		String key = request.getURI() + " " + request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+		CachedResponse cached = cache.get(key);
+		if (cached != null) {
+			request.getHeaders().setIfNoneMatch(cached.etag());
+		}
+
+		ClientHttpResponse response = execution.execute(request, body);
+		if (cached != null && response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+			response.close();
+			return cached.toResponse();
+		}
+		String etag = response.getHeaders().getETag();
+		if (etag == null || !response.getStatusCode().is2xxSuccessful()) {
+			return response;
+		}
+		CachedResponse fresh;
+		try (response) {
+			fresh = new CachedResponse(etag, response.getStatusCode(), HttpHeaders.readOnlyHttpHeaders(
+					new HttpHeaders(response.getHeaders())), StreamUtils.copyToByteArray(response.getBody()));
+		}
+		cache.put(key, fresh);
+		return fresh.toResponse();
+	}
+
+	private record CachedResponse(String etag, HttpStatusCode status, HttpHeaders headers, byte[] body) {
+
+		ClientHttpResponse toResponse() {
+			return new ClientHttpResponse() {
+				@Override
+				public HttpStatusCode getStatusCode() {
+					return status;
+				}
+
+				@Override
+				public String getStatusText() {
+					return "";
+				}
+
+				@Override
+				public HttpHeaders getHeaders() {
+					return headers;
+				}
+
+				@Override
+				public InputStream getBody() {
+					return new ByteArrayInputStream(body);
+				}
+
+				@Override
+				public void close() {
+				}
+			};
+		}
+	}
+}
@@ -3,6 +3,7 @@ package com.lingotower.service;
 import java.io.File;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.core.io.FileSystemResource;
@@ -13,15 +14,19 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.lingotower.model.Category;
 import com.lingotower.model.Word;
+import com.lingotower.model.WordPage;
 
 /**
  * Service for managing words.
  */
 public class WordService extends BaseService {
 
+	private static final int WORDS_PAGE_SIZE = 500;
+
 	private final CategoryService categoryService;
 
 	/**
@@ -54,36 +59,57 @@ public class WordService extends BaseService {
 	}
 
 	/**
-	 * Fetches all words from the server.
+	 * Fetches one page of the word listing. Screens that show the words should page
+	 * through the listing with this method rather than load every word at once.
 	 * 
-	 * @return A list of all words or an empty list if none are found or an error
-	 *         occurs
+	 * @param cursor The cursor returned with the previous page, or null for the
+	 *               first page
+	 * @return The page, or null if an error occurs
 	 */
-	public List<Word> getAllWords() {
+	public WordPage getWordsPage(String cursor) {
 		try {
-			logger.info("Fetching all words");
+			logger.info("Fetching words page after cursor: {}", cursor);
 
-			String url = buildUrl(WORDS_PATH);
+			String url = UriComponentsBuilder.fromUriString(buildUrl(WORDS_PATH)).queryParam("limit", WORDS_PAGE_SIZE)
+					.queryParamIfPresent("cursor", Optional.ofNullable(cursor)).toUriString();
 			HttpEntity<?> entity = createAuthEntity(null);
+			ResponseEntity<WordPage> response = restTemplate.exchange(url, HttpMethod.GET, entity, WordPage.class);
 
-			ResponseEntity<List<Word>> response = restTemplate.exchange(url, HttpMethod.GET, entity,
-					new ParameterizedTypeReference<List<Word>>() {
-					});
-
-			if (response.getStatusCode().is2xxSuccessful()) {
-				List<Word> words = response.getBody();
-				logger.info("Successfully retrieved {} words", words != null ? words.size() : 0);
-				return words != null ? words : new ArrayList<>();
-			} else {
-				logger.error("Failed to retrieve words. Status code: {}", response.getStatusCode());
-				return new ArrayList<>();
+			if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+				logger.error("Failed to retrieve words page. Status code: {}", response.getStatusCode());
+				return null;
 			}
+			logger.info("Successfully retrieved {} words", response.getBody().getWords().size());
+			return response.getBody();
 		} catch (Exception e) {
-			logger.error("Error fetching words: {}", e.getMessage(), e);
-			return new ArrayList<>();
+			logger.error("Error fetching words page: {}", e.getMessage(), e);
+			return null;
 		}
 	}
 
+	/**
+	 * Fetches all words from the server, following the paginated listing page by
+	 * page. Only for callers that need every word; the admin table uses
+	 * {@link #getWordsPage(String)}.
+	 * 
+	 * @return A list of all words or an empty list if none are found or an error
+	 *         occurs
+	 */
+	public List<Word> getAllWords() {
+		logger.info("Fetching all words");
+		List<Word> words = new ArrayList<>();
+		String cursor = null;
+		do {
+			WordPage page = getWordsPage(cursor);
+			if (page == null) {
+				return new ArrayList<>();
+			}
+			words.addAll(page.getWords());
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return words;
+	}
+
 	/**
 	 * Fetches words by category ID.
 	 * 
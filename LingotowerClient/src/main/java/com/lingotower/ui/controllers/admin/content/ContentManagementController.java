@@ -87,6 +87,8 @@ public class ContentManagementController {
 	@FXML
 	private ComboBox<Difficulty> wordDifficultyComboBox;
 	@FXML
+	private Button loadMoreWordsButton;
+	@FXML
 	private Label statusLabel;
 
 	// Upload form controls
@@ -271,6 +273,18 @@ public class ContentManagementController {
 		wordHandler.loadWords();
 	}
 
+	@FXML
+	private void handleLoadMoreWords() {
+		wordHandler.loadMoreWords();
+	}
+
+	/**
+	 * Reloads the word table from its first page
+	 */
+	public void reloadWords() {
+		wordHandler.loadWords();
+	}
+
 	// Upload methods
 	@FXML
 	private void handleUploadWordsJson() {
@@ -337,6 +351,10 @@ public class ContentManagementController {
 		return wordFormTitle;
 	}
 
+	public Button getLoadMoreWordsButton() {
+		return loadMoreWordsButton;
+	}
+
 	public VBox getJsonUploadForm() {
 		return jsonUploadForm;
 	}
@@ -112,8 +112,7 @@ public class UploadHandler {
 						controller.getJsonUploadForm().setVisible(false);
 
 						// Refresh the words list
-						controller.getWordsList().clear();
-						controller.getWordsList().addAll(wordService.getAllWords());
+						controller.reloadWords();
 
 						LoggingUtility.logAction(logger, "upload",
 								controller.getCurrentAdmin() != null ? controller.getCurrentAdmin().getUsername()
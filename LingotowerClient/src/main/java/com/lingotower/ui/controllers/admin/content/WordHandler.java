@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import com.lingotower.model.Category;
 import com.lingotower.model.Difficulty;
 import com.lingotower.model.Word;
+import com.lingotower.model.WordPage;
 import com.lingotower.service.WordService;
 import com.lingotower.utils.LoggingUtility;
 import com.lingotower.utils.ui.BackgroundTask;
@@ -27,6 +28,7 @@ public class WordHandler {
 
 	private Word selectedWord;
 	private boolean isEditMode = false;
+	private String nextWordsCursor; // Cursor of the next page of the word listing, null when all are shown
 
 	public WordHandler(ContentManagementController controller, WordService wordService) {
 		this.controller = controller;
@@ -34,25 +36,45 @@ public class WordHandler {
 	}
 
 	/**
-	 * Load all words from the server
+	 * Load the first page of words from the server
 	 */
 	public void loadWords() {
+		loadWordsPage(null);
+	}
+
+	/**
+	 * Append the next page of words to the table
+	 */
+	public void loadMoreWords() {
+		if (nextWordsCursor != null) {
+			loadWordsPage(nextWordsCursor);
+		}
+	}
+
+	private void loadWordsPage(String cursor) {
+		controller.getLoadMoreWordsButton().setDisable(true);
 		BackgroundTask.run("Loading words", startTime -> {
 			controller.showStatusMessage("Loading words...", false);
 
-			List<Word> words = wordService.getAllWords();
+			WordPage page = wordService.getWordsPage(cursor);
 
 			Platform.runLater(() -> {
 				ObservableList<Word> wordsList = controller.getWordsList();
-				wordsList.clear();
+				if (cursor == null) {
+					wordsList.clear();
+				}
 
-				if (words != null && !words.isEmpty()) {
-					wordsList.addAll(words);
-					controller.showStatusMessage("Loaded " + words.size() + " words successfully", false);
+				if (page != null && !page.getWords().isEmpty()) {
+					wordsList.addAll(page.getWords());
+					nextWordsCursor = page.getNextCursor();
+					controller.getLoadMoreWordsButton().setDisable(nextWordsCursor == null);
+					controller.showStatusMessage("Showing " + wordsList.size() + " words"
+							+ (nextWordsCursor != null ? ", more available" : ""), false);
 					LoggingUtility.logPerformance(logger, "load_words", System.currentTimeMillis() - startTime,
 							"success");
 				} else {
-					controller.showStatusMessage("No words found", true);
+					nextWordsCursor = null;
+					controller.showStatusMessage(page == null ? "Failed to load words" : "No words found", true);
 					LoggingUtility.logPerformance(logger, "load_words", System.currentTimeMillis() - startTime,
 							"failed");
 				}
@@ -79,6 +101,9 @@ public class WordHandler {
 					logger.info("Getting words for category ID: {}", category.getId());
 					List<Word> words = wordService.getWordsByCategory(category.getId());
 
+					// The category listing is not paginated
+					nextWordsCursor = null;
+					controller.getLoadMoreWordsButton().setDisable(true);
 					controller.getWordsList().clear();
 					controller.getWordsList().addAll(words);
 